@@ -3,23 +3,30 @@ package com.conti.domain.notification.controller;
 import com.conti.domain.notification.dto.DeviceTokenRequest;
 import com.conti.domain.notification.dto.NotificationResponse;
 import com.conti.domain.notification.dto.UnreadCountResponse;
+import com.conti.domain.notification.live.NotificationInboxChannel;
 import com.conti.domain.notification.service.NotificationService;
 import com.conti.global.auth.LoginUser;
 import com.conti.global.common.ApiResponse;
+import com.conti.global.common.CursorResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "알림", description = "알림 관리")
 @RestController
@@ -28,6 +35,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationInboxChannel notificationInboxChannel;
 
     @Operation(summary = "디바이스 토큰 등록")
     @PostMapping("/device-token")
@@ -48,6 +56,16 @@ public class NotificationController {
         return ApiResponse.ok(notificationService.getNotifications(userId, pageable));
     }
 
+    @Operation(summary = "알림 목록 커서 조회", description = "무한 스크롤용. 최신순, 전체 개수를 계산하지 않음")
+    @GetMapping("/cursor")
+    public ApiResponse<CursorResponse<NotificationResponse>> getNotificationsByCursor(
+            @LoginUser Long userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size
+    ) {
+        return ApiResponse.ok(notificationService.getNotificationsByCursor(userId, cursor, size));
+    }
+
     @Operation(summary = "알림 읽음 처리")
     @PatchMapping("/{id}/read")
     public ApiResponse<Void> markAsRead(
@@ -70,4 +88,16 @@ public class NotificationController {
     public ApiResponse<UnreadCountResponse> getUnreadCount(@LoginUser Long userId) {
         return ApiResponse.ok(new UnreadCountResponse(notificationService.getUnreadCount(userId)));
     }
+
+    @Operation(summary = "알림함 실시간 구독 (SSE)",
+            description = "연결 시 connected(읽지 않은 알림 수), 이후 새 알림마다 notification, 읽음 처리마다 read 이벤트를 보냄. 이벤트 ID는 알림 ID이며, 재연결 시 Last-Event-ID 이후 알림(최대 100건)을 먼저 보냄")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @LoginUser Long userId,
+            @Parameter(description = "마지막으로 받은 알림 ID") @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        return notificationInboxChannel.subscribe(userId,
+                () -> notificationService.getUnreadCount(userId),
+                () -> notificationService.getNotificationsAfter(userId, lastEventId));
+    }
 }
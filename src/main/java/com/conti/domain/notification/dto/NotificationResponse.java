@@ -21,6 +21,8 @@ public record NotificationResponse(
         String referenceType,
         @Schema(description = "참조 ID", example = "5")
         Long referenceId,
+        @Schema(description = "합쳐진 알림 수 (짧은 시간 내 반복 수정)", example = "3")
+        int updateCount,
         @Schema(description = "읽음 여부")
         boolean isRead,
         @Schema(description = "생성 일시")
@@ -28,14 +30,22 @@ public record NotificationResponse(
 ) {
 
     public static NotificationResponse from(Notification notification) {
+        return from(notification, notification.getId());
+    }
+
+    /**
+     * For notifications inserted without the entity manager, whose generated id is not set on the entity.
+     */
+    public static NotificationResponse from(Notification notification, Long id) {
         return new NotificationResponse(
-                notification.getId(),
+                id,
                 notification.getType().name(),
                 notification.getType().getDisplayName(),
                 notification.getTitle(),
                 notification.getMessage(),
                 notification.getReferenceType(),
                 notification.getReferenceId(),
+                notification.getUpdateCount(),
                 notification.isRead(),
                 notification.getCreatedAt()
         );
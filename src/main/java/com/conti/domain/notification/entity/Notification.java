@@ -48,6 +48,11 @@ public class Notification {
     @Column(name = "reference_id")
     private Long referenceId;
 
+    // Number of merged updates this notification stands for
+    @Column(name = "update_count", nullable = false)
+    @Builder.Default
+    private int updateCount = 1;
+
     @Column(name = "is_read", nullable = false)
     @Builder.Default
     private boolean isRead = false;
@@ -7,10 +7,13 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum NotificationType {
 
-    SCHEDULE_ASSIGNED("봉사 배정"),
-    SCHEDULE_RESPONSE("배정 응답"),
-    SCHEDULE_REMINDER("봉사 리마인더"),
-    SETLIST_UPDATED("콘티 수정");
+    SCHEDULE_ASSIGNED("봉사 배정", false),
+    SCHEDULE_RESPONSE("배정 응답", false),
+    SCHEDULE_REMINDER("봉사 리마인더", false),
+    SETLIST_UPDATED("콘티 수정", true);
 
     private final String displayName;
+
+    // Bursts for the same user and reference are merged into one notification
+    private final boolean coalesced;
 }
@@ -0,0 +1,12 @@
+package com.conti.domain.notification.event;
+
+import com.conti.domain.notification.dto.NotificationResponse;
+
+/**
+ * A notification row written for one user, published within the inserting transaction.
+ */
+public record NotificationCreatedEvent(
+        Long userId,
+        NotificationResponse notification
+) {
+}
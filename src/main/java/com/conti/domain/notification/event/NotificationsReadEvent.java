@@ -0,0 +1,18 @@
+package com.conti.domain.notification.event;
+
+/**
+ * Notifications of one user that turned read; {@code all} means every unread notification of the user.
+ */
+public record NotificationsReadEvent(
+        Long userId,
+        int count,
+        boolean all
+) {
+    public static NotificationsReadEvent one(Long userId) {
+        return new NotificationsReadEvent(userId, 1, false);
+    }
+
+    public static NotificationsReadEvent all(Long userId, int count) {
+        return new NotificationsReadEvent(userId, count, true);
+    }
+}
@@ -0,0 +1,167 @@
+package com.conti.domain.notification.live;
+
+import com.conti.domain.notification.dto.NotificationResponse;
+import com.conti.domain.notification.dto.UnreadCountResponse;
+import com.conti.domain.notification.event.NotificationCreatedEvent;
+import com.conti.domain.notification.event.NotificationsReadEvent;
+import com.conti.global.common.KeyedSerialExecutor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * In-process SSE inbox per user, replacing the notification list and badge polls. Connections are async
+ * and hold no thread while idle; committed notifications are pushed on virtual threads, one delivery at a
+ * time per user so a stream sees events in commit order. Event ids are notification ids, so a reconnecting
+ * client resumes from Last-Event-ID (see SetlistLiveChannel).
+ */
+@Slf4j
+@Component
+public class NotificationInboxChannel {
+
+    private static final long TIMEOUT_MS = 30 * 60 * 1000L;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService fanOut = Executors.newVirtualThreadPerTaskExecutor();
+    private final KeyedSerialExecutor<Long> deliveries = new KeyedSerialExecutor<>(fanOut);
+
+    /**
+     * Registers a subscriber, sends it the unread count, then replays the notifications it missed. All of it
+     * is queued with the user's live deliveries: the missed notifications are read after registering, so
+     * nothing committed in between is lost, and a live notification the replay already sent is skipped
+     * instead of arriving a second time behind newer ones.
+     */
+    public SseEmitter subscribe(Long userId, LongSupplier unreadCount, Supplier<List<NotificationResponse>> missed) {
+        Subscriber subscriber = new Subscriber(createEmitter());
+        Runnable remove = () -> unsubscribe(userId, subscriber);
+        subscriber.emitter.onCompletion(remove);
+        subscriber.emitter.onTimeout(remove);
+        subscriber.emitter.onError(e -> remove.run());
+
+        deliveries.execute(userId, () -> {
+            subscribers.compute(userId, (id, registered) -> {
+                Set<Subscriber> current = registered != null ? registered : ConcurrentHashMap.newKeySet();
+                current.add(subscriber);
+                return current;
+            });
+            try {
+                send(userId, subscriber, SseEmitter.event()
+                        .name("connected")
+                        .data(new UnreadCountResponse(unreadCount.getAsLong())));
+                for (NotificationResponse notification : missed.get()) {
+                    sendNotification(userId, subscriber, notification);
+                    subscriber.replayedIds.add(notification.id());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to open notification inbox of user {}", userId, e);
+                unsubscribe(userId, subscriber);
+                subscriber.emitter.completeWithError(e);
+            }
+        });
+        return subscriber.emitter;
+    }
+
+    public int subscriberCount(Long userId) {
+        Set<Subscriber> registered = subscribers.get(userId);
+        return registered != null ? registered.size() : 0;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        deliveries.execute(event.userId(), () -> {
+            for (Subscriber subscriber : subscribersOf(event.userId())) {
+                sendNotification(event.userId(), subscriber, event.notification());
+            }
+        });
+    }
+
+    // Keeps the badge in sync across the user's devices
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationsRead(NotificationsReadEvent event) {
+        deliveries.execute(event.userId(), () -> {
+            for (Subscriber subscriber : subscribersOf(event.userId())) {
+                send(event.userId(), subscriber, SseEmitter.event()
+                        .name("read")
+                        .data(event));
+            }
+        });
+    }
+
+    // Keeps idle connections open through proxies and drops the ones whose client is gone
+    @Scheduled(fixedDelay = 25_000)
+    public void heartbeat() {
+        subscribers.forEach((userId, registered) -> {
+            for (Subscriber subscriber : registered) {
+                send(userId, subscriber, SseEmitter.event().comment("ping"));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOut.shutdown();
+        subscribers.values().forEach(registered -> registered.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(TIMEOUT_MS);
+    }
+
+    // Looked up when the delivery runs, so subscribers registered ahead of it are included
+    private Set<Subscriber> subscribersOf(Long userId) {
+        return subscribers.getOrDefault(userId, Set.of());
+    }
+
+    // Only called from the user's serialized deliveries, so replayedIds needs no locking
+    private void sendNotification(Long userId, Subscriber subscriber, NotificationResponse notification) {
+        if (subscriber.replayedIds.remove(notification.id())) {
+            return;
+        }
+        send(userId, subscriber, SseEmitter.event()
+                .id(String.valueOf(notification.id()))
+                .name("notification")
+                .data(notification));
+    }
+
+    private void send(Long userId, Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping notification inbox subscriber of user {}: {}", userId, e.getMessage());
+            unsubscribe(userId, subscriber);
+        }
+    }
+
+    private void unsubscribe(Long userId, Subscriber subscriber) {
+        subscribers.computeIfPresent(userId, (id, registered) -> {
+            registered.remove(subscriber);
+            return registered.isEmpty() ? null : registered;
+        });
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Set<Long> replayedIds = new HashSet<>();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.conti.domain.notification.repository;
+
+import com.conti.domain.notification.entity.Notification;
+import com.conti.domain.notification.entity.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC batch inserts for notifications, sent by the driver as a single multi-row INSERT
+ * (see SetlistJdbcRepository), plus the bulk deletes and partition DDL of the retention job.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO notifications " +
+            "(user_id, type, title, message, reference_type, reference_id, update_count, is_read, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the given unsaved notifications and returns their generated ids in the same order.
+     */
+    public List<Long> insertAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Notification notification = notifications.get(i);
+                        ps.setLong(1, notification.getUserId());
+                        ps.setString(2, notification.getType().name());
+                        ps.setString(3, notification.getTitle());
+                        ps.setString(4, notification.getMessage());
+                        ps.setString(5, notification.getReferenceType());
+                        if (notification.getReferenceId() != null) {
+                            ps.setLong(6, notification.getReferenceId());
+                        } else {
+                            ps.setNull(6, Types.BIGINT);
+                        }
+                        ps.setInt(7, notification.getUpdateCount());
+                        ps.setBoolean(8, notification.isRead());
+                        ps.setTimestamp(9, Timestamp.valueOf(notification.getCreatedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return notifications.size();
+                    }
+                },
+                keyHolder);
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    /**
+     * Id of the oldest read notification created before {@code cutoff}, read forwards from idx_notifications_created.
+     * Old unread notifications are stepped over in the index instead of making the purge walk their ids.
+     */
+    public Long findFirstReadIdCreatedBefore(LocalDateTime cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM notifications WHERE created_at < ? AND is_read = TRUE ORDER BY created_at, id LIMIT 1",
+                Long.class, Timestamp.valueOf(cutoff));
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    /**
+     * Id of the newest notification created before {@code cutoff}, read backwards from idx_notifications_created.
+     * Ids grow with created_at, so no older notification has a larger id.
+     */
+    public Long findLastIdCreatedBefore(LocalDateTime cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM notifications WHERE created_at < ? ORDER BY created_at DESC, id DESC LIMIT 1",
+                Long.class, Timestamp.valueOf(cutoff));
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    /**
+     * Deletes read notifications with {@code fromId <= id < toId} that are older than their type's cutoff.
+     * The primary key range bounds the rows locked by one statement.
+     */
+    public int deleteExpiredRead(long fromId, long toId, Map<NotificationType, LocalDateTime> cutoffs) {
+        StringBuilder sql = new StringBuilder(
+                "DELETE FROM notifications WHERE id >= ? AND id < ? AND is_read = TRUE AND (");
+        List<Object> args = new ArrayList<>(List.of(fromId, toId));
+        cutoffs.forEach((type, cutoff) -> {
+            if (args.size() > 2) {
+                sql.append(" OR ");
+            }
+            sql.append("(type = ? AND created_at < ?)");
+            args.add(type.name());
+            args.add(Timestamp.valueOf(cutoff));
+        });
+        sql.append(")");
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /**
+     * Upper bound of the newest bounded partition, or {@code null} unless the opt-in partitioning migration
+     * was applied. Converted back with the same session time zone the bounds were written with.
+     */
+    public LocalDateTime findPartitionedUntil() {
+        return jdbcTemplate.queryForObject(
+                "SELECT FROM_UNIXTIME(MAX(CAST(PARTITION_DESCRIPTION AS UNSIGNED))) " +
+                        "FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'notifications' " +
+                        "AND PARTITION_NAME IS NOT NULL AND PARTITION_DESCRIPTION <> 'MAXVALUE'",
+                LocalDateTime.class);
+    }
+
+    /**
+     * Splits the month off the catch-all p_max partition. Cheap while p_max is still empty.
+     */
+    public void addMonthlyPartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE notifications REORGANIZE PARTITION p_max INTO (" +
+                "PARTITION " + partitionName(month) + " VALUES LESS THAN " +
+                "(UNIX_TIMESTAMP('" + month.plusMonths(1).atDay(1) + " 00:00:00')), " +
+                "PARTITION p_max VALUES LESS THAN MAXVALUE)");
+    }
+
+    private static String partitionName(YearMonth month) {
+        return String.format("p%d%02d", month.getYear(), month.getMonthValue());
+    }
+}
@@ -0,0 +1,4 @@
+package com.conti.domain.notification.repository;
+
+public record UnreadCount(Long userId, long count) {
+}
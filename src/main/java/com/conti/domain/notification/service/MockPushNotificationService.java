@@ -4,6 +4,8 @@ import com.conti.domain.notification.entity.Notification;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Slf4j
 @Service
 public class MockPushNotificationService implements PushNotificationService {
@@ -13,4 +15,9 @@ public class MockPushNotificationService implements PushNotificationService {
         log.info("[MOCK PUSH] userId={}, type={}, title={}, message={}",
                 userId, notification.getType(), notification.getTitle(), notification.getMessage());
     }
+
+    @Override
+    public void sendPushes(Long userId, List<Notification> notifications) {
+        log.info("[MOCK PUSH] userId={}, batch={}", userId, notifications.size());
+    }
 }
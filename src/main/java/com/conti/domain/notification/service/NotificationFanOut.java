@@ -0,0 +1,87 @@
+package com.conti.domain.notification.service;
+
+import com.conti.domain.notification.entity.Notification;
+import com.conti.domain.notification.entity.NotificationType;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The same notification addressed to several users, stored as the payload of a fan-out outbox event.
+ * Each recipient carries the number of requests merged into it (see {@link NotificationType#isCoalesced()}).
+ */
+record NotificationFanOut(
+        NotificationType type,
+        String title,
+        String message,
+        String referenceType,
+        Long referenceId,
+        Map<Long, Integer> updateCounts
+) {
+    static NotificationFanOut of(List<Long> userIds, NotificationType type, String title, String message,
+                                 String referenceType, Long referenceId) {
+        Map<Long, Integer> updateCounts = new LinkedHashMap<>();
+        userIds.forEach(userId -> updateCounts.put(userId, 1));
+        return new NotificationFanOut(type, title, message, referenceType, referenceId, updateCounts);
+    }
+
+    boolean sameTarget(NotificationFanOut other) {
+        return type == other.type
+                && Objects.equals(referenceType, other.referenceType)
+                && Objects.equals(referenceId, other.referenceId);
+    }
+
+    /**
+     * Keeps the later title and message and adds up the counts per recipient.
+     */
+    NotificationFanOut merge(NotificationFanOut later) {
+        Map<Long, Integer> merged = new LinkedHashMap<>(updateCounts);
+        later.updateCounts.forEach((userId, count) -> merged.merge(userId, count, Integer::sum));
+        return new NotificationFanOut(type, later.title, later.message, referenceType, referenceId, merged);
+    }
+
+    List<Notification> toNotifications() {
+        return updateCounts.entrySet().stream()
+                .map(entry -> Notification.builder()
+                        .userId(entry.getKey())
+                        .type(type)
+                        .title(title)
+                        .message(message)
+                        .referenceType(referenceType)
+                        .referenceId(referenceId)
+                        .updateCount(entry.getValue())
+                        .build())
+                .toList();
+    }
+
+    Map<String, Object> toPayload() {
+        Map<String, Object> counts = new LinkedHashMap<>();
+        updateCounts.forEach((userId, count) -> counts.put(String.valueOf(userId), count));
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("type", type.name());
+        payload.put("title", title);
+        payload.put("message", message);
+        payload.put("referenceType", referenceType);
+        payload.put("referenceId", referenceId);
+        payload.put("updateCounts", counts);
+        return payload;
+    }
+
+    static NotificationFanOut fromPayload(Map<String, Object> payload) {
+        Map<Long, Integer> updateCounts = new LinkedHashMap<>();
+        ((Map<?, ?>) payload.get("updateCounts")).forEach((userId, count) ->
+                updateCounts.put(Long.valueOf(String.valueOf(userId)), ((Number) count).intValue()));
+
+        Object referenceId = payload.get("referenceId");
+        return new NotificationFanOut(
+                NotificationType.valueOf((String) payload.get("type")),
+                (String) payload.get("title"),
+                (String) payload.get("message"),
+                (String) payload.get("referenceType"),
+                referenceId != null ? ((Number) referenceId).longValue() : null,
+                updateCounts);
+    }
+}
@@ -0,0 +1,46 @@
+package com.conti.domain.notification.service;
+
+import com.conti.global.outbox.OutboxEvent;
+import com.conti.global.outbox.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts the notifications of fan-out requests recorded in the outbox (see
+ * {@link NotificationService#requestNotifications}). Each request's notifications go in with one JDBC batch,
+ * in the same transaction that marks the event sent.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationFanOutHandler implements OutboxEventHandler {
+
+    public static final String EVENT_TYPE = "NOTIFICATION_FAN_OUT";
+
+    private final NotificationService notificationService;
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public Map<Long, String> handle(List<OutboxEvent> events) {
+        Map<Long, String> failures = new HashMap<>();
+        for (OutboxEvent event : events) {
+            try {
+                notificationService.saveFanOut(event.getId(),
+                        NotificationFanOut.fromPayload(event.getPayload()).toNotifications());
+            } catch (RuntimeException e) {
+                log.error("Failed to fan out notifications for outbox event {}", event.getId(), e);
+                failures.put(event.getId(), String.valueOf(e.getMessage()));
+            }
+        }
+        return failures;
+    }
+}
@@ -0,0 +1,68 @@
+package com.conti.domain.notification.service;
+
+import com.conti.domain.notification.entity.Notification;
+import com.conti.domain.notification.repository.NotificationRepository;
+import com.conti.global.outbox.OutboxEvent;
+import com.conti.global.outbox.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Pushes notifications recorded in the outbox. Each user's notifications go out in one call, and users
+ * are pushed concurrently on virtual threads.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationPushHandler implements OutboxEventHandler {
+
+    public static final String EVENT_TYPE = "NOTIFICATION_PUSH";
+
+    private final NotificationRepository notificationRepository;
+    private final PushNotificationService pushNotificationService;
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public Map<Long, String> handle(List<OutboxEvent> events) {
+        Map<Long, Notification> notifications = notificationRepository
+                .findAllById(events.stream().map(OutboxEvent::getAggregateId).toList()).stream()
+                .collect(Collectors.toMap(Notification::getId, Function.identity()));
+
+        // Notifications deleted in the meantime have nothing left to push
+        Map<Long, List<OutboxEvent>> eventsByUser = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            Notification notification = notifications.get(event.getAggregateId());
+            if (notification != null) {
+                eventsByUser.computeIfAbsent(notification.getUserId(), id -> new ArrayList<>()).add(event);
+            }
+        }
+
+        Map<Long, String> failures = new ConcurrentHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            eventsByUser.forEach((userId, userEvents) -> executor.execute(() -> {
+                try {
+                    pushNotificationService.sendPushes(userId, userEvents.stream()
+                            .map(event -> notifications.get(event.getAggregateId()))
+                            .toList());
+                } catch (RuntimeException e) {
+                    userEvents.forEach(event -> failures.put(event.getId(), String.valueOf(e.getMessage())));
+                }
+            }));
+        }
+        return new HashMap<>(failures);
+    }
+}
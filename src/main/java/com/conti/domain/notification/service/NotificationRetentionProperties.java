@@ -0,0 +1,37 @@
+package com.conti.domain.notification.service;
+
+import com.conti.domain.notification.entity.NotificationType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * How long read notifications are kept, per type ({@code notification.retention.ttl.<type>}), falling back to
+ * {@code notification.retention.default-ttl}. Unread notifications are never purged.
+ */
+@ConfigurationProperties(prefix = "notification.retention")
+public record NotificationRetentionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("90d") Duration defaultTtl,
+        Map<NotificationType, Duration> ttl
+) {
+
+    public Duration ttlOf(NotificationType type) {
+        return ttl != null ? ttl.getOrDefault(type, defaultTtl) : defaultTtl;
+    }
+
+    /**
+     * Read notifications of each type created before its cutoff are expired.
+     */
+    public Map<NotificationType, LocalDateTime> cutoffs(LocalDateTime now) {
+        Map<NotificationType, LocalDateTime> cutoffs = new EnumMap<>(NotificationType.class);
+        for (NotificationType type : NotificationType.values()) {
+            cutoffs.put(type, now.minus(ttlOf(type)));
+        }
+        return cutoffs;
+    }
+}
@@ -0,0 +1,98 @@
+package com.conti.domain.notification.service;
+
+import com.conti.domain.notification.entity.NotificationType;
+import com.conti.domain.notification.repository.NotificationJdbcRepository;
+import com.conti.global.lock.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Purges read notifications past their retention (see {@link NotificationRetentionProperties}) and, when the
+ * table is partitioned, keeps a partition ready for the current and the next month. Each job runs on one
+ * instance at a time (see {@link SchedulerLock}).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionTask {
+
+    private static final long ID_RANGE = 10_000;
+    private static final String PURGE_LOCK_NAME = "notification-purge";
+    private static final String PARTITION_LOCK_NAME = "notification-partition";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofHours(1);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final NotificationRetentionProperties retentionProperties;
+    private final SchedulerLock schedulerLock;
+
+    /**
+     * Walks the primary key in fixed ranges from the oldest read notification to the newest notification old enough
+     * to expire. Each range is one autocommitted DELETE, so locks are held briefly and never across the whole table.
+     */
+    @Scheduled(cron = "0 0 5 * * *")
+    public void purgeExpired() {
+        if (!retentionProperties.enabled()) {
+            return;
+        }
+        schedulerLock.runLocked(PURGE_LOCK_NAME, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR, this::purgeExpiredRanges);
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public void maintainPartitions() {
+        schedulerLock.runLocked(PARTITION_LOCK_NAME, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR, this::addMissingPartitions);
+    }
+
+    private void purgeExpiredRanges() {
+        Map<NotificationType, LocalDateTime> cutoffs = retentionProperties.cutoffs(LocalDateTime.now());
+        // No type expires anything newer than the latest cutoff
+        LocalDateTime latestCutoff = Collections.max(cutoffs.values());
+        Long upperId = notificationJdbcRepository.findLastIdCreatedBefore(latestCutoff);
+        if (upperId == null) {
+            return;
+        }
+        Long lowerId = notificationJdbcRepository.findFirstReadIdCreatedBefore(latestCutoff);
+        if (lowerId == null) {
+            return;
+        }
+
+        long deleted = 0;
+        int chunks = 0;
+        for (long fromId = lowerId; fromId <= upperId; fromId += ID_RANGE) {
+            deleted += notificationJdbcRepository.deleteExpiredRead(
+                    fromId, Math.min(fromId + ID_RANGE, upperId + 1), cutoffs);
+            chunks++;
+        }
+        log.info("Purged {} expired notification(s) in {} chunk(s)", deleted, chunks);
+    }
+
+    private void addMissingPartitions() {
+        LocalDateTime partitionedUntil = notificationJdbcRepository.findPartitionedUntil();
+        if (partitionedUntil == null) {
+            return;
+        }
+        YearMonth current = YearMonth.now();
+        for (YearMonth month : List.of(current, current.plusMonths(1))) {
+            if (!month.plusMonths(1).atDay(1).atStartOfDay().isAfter(partitionedUntil)) {
+                continue;
+            }
+            try {
+                notificationJdbcRepository.addMonthlyPartition(month);
+                log.info("Added notifications partition for {}", month);
+            } catch (DataAccessException e) {
+                log.error("Failed to add notifications partition for {}", month, e);
+                return;
+            }
+        }
+    }
+}
@@ -5,26 +5,44 @@ import com.conti.domain.notification.dto.NotificationResponse;
 import com.conti.domain.notification.entity.DeviceToken;
 import com.conti.domain.notification.entity.Notification;
 import com.conti.domain.notification.entity.NotificationType;
+import com.conti.domain.notification.event.NotificationCreatedEvent;
+import com.conti.domain.notification.event.NotificationsReadEvent;
 import com.conti.domain.notification.repository.DeviceTokenRepository;
+import com.conti.domain.notification.repository.NotificationJdbcRepository;
 import com.conti.domain.notification.repository.NotificationRepository;
+import com.conti.global.common.Cursor;
+import com.conti.global.common.CursorResponse;
 import com.conti.global.error.BusinessException;
 import com.conti.global.error.ErrorCode;
+import com.conti.global.outbox.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class NotificationService {
 
+    // Edits to one setlist within this window reach each member as one notification
+    private static final Duration COALESCE_WINDOW = Duration.ofMinutes(5);
+
     private final NotificationRepository notificationRepository;
     private final DeviceTokenRepository deviceTokenRepository;
-    private final PushNotificationService pushNotificationService;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final OutboxService outboxService;
+    private final NotificationUnreadCounter unreadCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void registerDeviceToken(Long userId, DeviceTokenRequest request) {
@@ -49,6 +67,29 @@ public class NotificationService {
                 .map(NotificationResponse::from);
     }
 
+    public CursorResponse<NotificationResponse> getNotificationsByCursor(Long userId, String cursor, int size) {
+        Cursor position = Cursor.decode(cursor);
+        Pageable pageable = PageRequest.ofSize(CursorResponse.clampSize(size));
+        Slice<Notification> notifications = position == null
+                ? notificationRepository.findSliceByUserIdOrderByCreatedAtDescIdDesc(userId, pageable)
+                : notificationRepository.findSliceBefore(userId, position.dateTimeKey(), position.id(), pageable);
+        return CursorResponse.of(notifications, NotificationResponse::from,
+                notification -> Cursor.of(notification.getCreatedAt(), notification.getId()));
+    }
+
+    /**
+     * Notifications created after {@code lastSeenId}, oldest first, for a reconnecting inbox stream.
+     * At most 100 are returned; a client that was away longer reloads the list.
+     */
+    public List<NotificationResponse> getNotificationsAfter(Long userId, Long lastSeenId) {
+        if (lastSeenId == null) {
+            return List.of();
+        }
+        return notificationRepository.findTop100ByUserIdAndIdGreaterThanOrderByIdAsc(userId, lastSeenId).stream()
+                .map(NotificationResponse::from)
+                .toList();
+    }
+
     @Transactional
     public void markAsRead(Long notificationId, Long userId) {
         Notification notification = notificationRepository.findById(notificationId)
@@ -58,18 +99,26 @@ public class NotificationService {
             throw new BusinessException(ErrorCode.FORBIDDEN);
         }
 
-        notification.markAsRead();
+        if (!notification.isRead()) {
+            notification.markAsRead();
+            eventPublisher.publishEvent(NotificationsReadEvent.one(userId));
+        }
     }
 
     @Transactional
     public void markAllAsRead(Long userId) {
-        notificationRepository.markAllAsRead(userId);
+        int updated = notificationRepository.markAllAsRead(userId);
+        eventPublisher.publishEvent(NotificationsReadEvent.all(userId, updated));
     }
 
     public long getUnreadCount(Long userId) {
-        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        return unreadCounter.get(userId);
     }
 
+    /**
+     * Saves the notification and records its push in the outbox within the caller's transaction;
+     * the push itself is delivered after commit by the outbox dispatcher.
+     */
     @Transactional
     public void createNotification(Long userId, NotificationType type, String title, String message,
                                    String referenceType, Long referenceId) {
@@ -83,6 +132,55 @@ public class NotificationService {
                 .build();
 
         notificationRepository.save(notification);
-        pushNotificationService.sendPush(userId, notification);
+        outboxService.append(NotificationPushHandler.EVENT_TYPE, notification.getId());
+        eventPublisher.publishEvent(new NotificationCreatedEvent(userId, NotificationResponse.from(notification)));
+    }
+
+    /**
+     * Sends the same notification to several users. Only one outbox row is written in the caller's transaction,
+     * so the request survives a crash after commit; {@link NotificationFanOutHandler} inserts the notifications.
+     * Coalesced types (see {@link NotificationType#isCoalesced()}) wait out a window, and later requests for the
+     * same reference are merged into the waiting row.
+     */
+    @Transactional
+    public void requestNotifications(List<Long> userIds, NotificationType type, String title, String message,
+                                     String referenceType, Long referenceId) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        NotificationFanOut request = NotificationFanOut.of(userIds, type, title, message, referenceType, referenceId);
+        if (!type.isCoalesced()) {
+            outboxService.append(NotificationFanOutHandler.EVENT_TYPE, referenceId, request.toPayload(), Duration.ZERO);
+            return;
+        }
+        outboxService.appendOrMerge(NotificationFanOutHandler.EVENT_TYPE, referenceId, request.toPayload(),
+                COALESCE_WINDOW, (waiting, later) -> {
+                    NotificationFanOut earlier = NotificationFanOut.fromPayload(waiting);
+                    NotificationFanOut next = NotificationFanOut.fromPayload(later);
+                    return earlier.sameTarget(next) ? earlier.merge(next).toPayload() : null;
+                });
+    }
+
+    /**
+     * Inserts the notifications of a fan-out outbox event and marks the event sent in one transaction,
+     * so a redelivered event does not insert them again.
+     */
+    @Transactional
+    public void saveFanOut(Long outboxEventId, List<Notification> notifications) {
+        if (outboxService.markSentIfPending(outboxEventId)) {
+            saveNotifications(notifications);
+        }
+    }
+
+    @Transactional
+    public List<Long> saveNotifications(List<Notification> notifications) {
+        List<Long> ids = notificationJdbcRepository.insertAll(notifications);
+        outboxService.appendAll(NotificationPushHandler.EVENT_TYPE, ids);
+        for (int i = 0; i < ids.size(); i++) {
+            Notification notification = notifications.get(i);
+            eventPublisher.publishEvent(new NotificationCreatedEvent(
+                    notification.getUserId(), NotificationResponse.from(notification, ids.get(i))));
+        }
+        return ids;
     }
 }
@@ -0,0 +1,86 @@
+package com.conti.domain.notification.service;
+
+import com.conti.domain.notification.event.NotificationCreatedEvent;
+import com.conti.domain.notification.event.NotificationsReadEvent;
+import com.conti.domain.notification.repository.NotificationRepository;
+import com.conti.domain.notification.repository.UnreadCount;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user unread counts for the notification badge. A user's count is loaded with one COUNT on first read,
+ * adjusted from committed creates and reads, and recounted every minute to correct drift, e.g. from changes
+ * committed on another instance.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadCounter {
+
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final NotificationRepository notificationRepository;
+
+    private final Cache<Long, AtomicLong> unreadCounts = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .build();
+
+    public long get(Long userId) {
+        return unreadCounts.get(userId,
+                id -> new AtomicLong(notificationRepository.countByUserIdAndIsReadFalse(id))).get();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        AtomicLong count = unreadCounts.getIfPresent(event.userId());
+        if (count != null) {
+            count.incrementAndGet();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationsRead(NotificationsReadEvent event) {
+        AtomicLong count = unreadCounts.getIfPresent(event.userId());
+        if (count == null) {
+            return;
+        }
+        if (event.all()) {
+            count.set(0);
+        } else {
+            count.updateAndGet(current -> Math.max(0, current - event.count()));
+        }
+    }
+
+    /**
+     * Recounts every cached user, {@value #RECONCILE_CHUNK_SIZE} users per GROUP BY query.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void reconcile() {
+        List<Long> userIds = new ArrayList<>(unreadCounts.asMap().keySet());
+        for (int from = 0; from < userIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, userIds.size()));
+            Map<Long, Long> actual = new HashMap<>();
+            for (UnreadCount unread : notificationRepository.countUnreadByUserIds(chunk)) {
+                actual.put(unread.userId(), unread.count());
+            }
+            for (Long userId : chunk) {
+                AtomicLong count = unreadCounts.getIfPresent(userId);
+                if (count != null) {
+                    count.set(actual.getOrDefault(userId, 0L));
+                }
+            }
+        }
+    }
+}
@@ -2,7 +2,17 @@ package com.conti.domain.notification.service;
 
 import com.conti.domain.notification.entity.Notification;
 
+import java.util.List;
+
 public interface PushNotificationService {
 
     void sendPush(Long userId, Notification notification);
+
+    /**
+     * Pushes several notifications to one user's devices. Senders that can deliver a batch per device
+     * in one call should override this.
+     */
+    default void sendPushes(Long userId, List<Notification> notifications) {
+        notifications.forEach(notification -> sendPush(userId, notification));
+    }
 }
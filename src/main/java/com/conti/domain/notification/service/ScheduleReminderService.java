@@ -0,0 +1,58 @@
+package com.conti.domain.notification.service;
+
+import com.conti.domain.notification.entity.Notification;
+import com.conti.domain.notification.entity.NotificationType;
+import com.conti.domain.schedule.entity.ServiceSchedule;
+import com.conti.domain.schedule.repository.ServiceScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ScheduleReminderService {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("M/d");
+
+    private final ServiceScheduleRepository serviceScheduleRepository;
+    private final NotificationService notificationService;
+
+    /**
+     * Reminds the next chunk of schedules for the worship date after {@code lastScheduleId} and marks them as
+     * reminded today in the same transaction, so a rerun after a crash neither skips nor repeats a reminder.
+     * Returns the last schedule id of the chunk, or {@code null} when there was nothing left.
+     */
+    @Transactional
+    public Long sendReminders(LocalDate today, LocalDate worshipDate, String dayLabel, Long lastScheduleId, int size) {
+        List<ServiceSchedule> schedules = serviceScheduleRepository.findReminderTargets(
+                worshipDate, today, lastScheduleId, PageRequest.ofSize(size));
+        if (schedules.isEmpty()) {
+            return null;
+        }
+
+        List<Notification> notifications = schedules.stream()
+                .map(schedule -> Notification.builder()
+                        .userId(schedule.getTeamMember().getUser().getId())
+                        .type(NotificationType.SCHEDULE_REMINDER)
+                        .title("봉사 리마인더")
+                        .message(dayLabel + " ("
+                                + worshipDate.format(DATE_FORMAT) + ") "
+                                + schedule.getSetlist().getTitle() + " - "
+                                + schedule.getPosition().getDisplayName())
+                        .referenceType("SETLIST")
+                        .referenceId(schedule.getSetlist().getId())
+                        .build())
+                .toList();
+        notificationService.saveNotifications(notifications);
+
+        List<Long> scheduleIds = schedules.stream().map(ServiceSchedule::getId).toList();
+        serviceScheduleRepository.markReminderSent(scheduleIds, today);
+        return scheduleIds.get(scheduleIds.size() - 1);
+    }
+}
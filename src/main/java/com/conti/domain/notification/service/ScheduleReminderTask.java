@@ -1,67 +1,51 @@
 package com.conti.domain.notification.service;
 
-import com.conti.domain.notification.entity.NotificationType;
-import com.conti.domain.schedule.entity.ScheduleStatus;
-import com.conti.domain.schedule.entity.ServiceSchedule;
-import com.conti.domain.schedule.repository.ServiceScheduleRepository;
+import com.conti.global.lock.SchedulerLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
 
+/**
+ * Sends D-1 and D-2 reminders on one instance at a time (see {@link SchedulerLock}). Schedules are read and
+ * reminded in keyset chunks, each in its own transaction; reminded schedules are marked, so the later runs
+ * of the day only pick up what an interrupted run left and schedules assigned since.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ScheduleReminderTask {
 
-    private final ServiceScheduleRepository serviceScheduleRepository;
-    private final NotificationService notificationService;
+    private static final String LOCK_NAME = "schedule-reminder";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+    private static final int CHUNK_SIZE = 500;
 
-    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("M/d");
+    private final ScheduleReminderService scheduleReminderService;
+    private final SchedulerLock schedulerLock;
 
-    @Scheduled(cron = "0 0 9 * * *")
-    @Transactional(readOnly = true)
+    @Scheduled(cron = "0 0 9-11 * * *")
     public void sendReminders() {
-        LocalDate today = LocalDate.now();
-        LocalDate d1 = today.plusDays(1);
-        LocalDate d2 = today.plusDays(2);
-
-        sendRemindersForDate(d1, "내일");
-        sendRemindersForDate(d2, "모레");
+        schedulerLock.runLocked(LOCK_NAME, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR, () -> {
+            LocalDate today = LocalDate.now();
+            sendRemindersForDate(today, today.plusDays(1), "내일");
+            sendRemindersForDate(today, today.plusDays(2), "모레");
+        });
     }
 
-    private void sendRemindersForDate(LocalDate worshipDate, String dayLabel) {
-        List<ServiceSchedule> schedules = serviceScheduleRepository.findUpcomingByWorshipDate(worshipDate);
-
-        for (ServiceSchedule schedule : schedules) {
-            if (schedule.getStatus() == ScheduleStatus.DECLINED) {
-                continue;
-            }
-
-            Long userId = schedule.getTeamMember().getUser().getId();
-            String title = "봉사 리마인더";
-            String message = dayLabel + " ("
-                    + worshipDate.format(DATE_FORMAT) + ") "
-                    + schedule.getSetlist().getTitle() + " - "
-                    + schedule.getPosition().getDisplayName();
-
-            notificationService.createNotification(
-                    userId,
-                    NotificationType.SCHEDULE_REMINDER,
-                    title,
-                    message,
-                    "SETLIST",
-                    schedule.getSetlist().getId()
-            );
+    private void sendRemindersForDate(LocalDate today, LocalDate worshipDate, String dayLabel) {
+        int chunks = 0;
+        Long lastScheduleId = 0L;
+        while ((lastScheduleId = scheduleReminderService.sendReminders(
+                today, worshipDate, dayLabel, lastScheduleId, CHUNK_SIZE)) != null) {
+            chunks++;
         }
 
-        if (!schedules.isEmpty()) {
-            log.info("Sent {} reminder(s) for worship date {}", schedules.size(), worshipDate);
+        if (chunks > 0) {
+            log.info("Sent reminders for worship date {} in {} chunk(s)", worshipDate, chunks);
         }
     }
 }
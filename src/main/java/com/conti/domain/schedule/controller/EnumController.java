@@ -3,6 +3,7 @@ package com.conti.domain.schedule.controller;
 import com.conti.domain.schedule.dto.EnumResponse;
 import com.conti.domain.setlist.entity.SetlistItemType;
 import com.conti.domain.setlist.entity.WorshipType;
+import com.conti.domain.song.search.SongSearchMode;
 import com.conti.domain.team.entity.Position;
 import com.conti.global.common.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -45,4 +46,13 @@ public class EnumController {
                 .toList();
         return ApiResponse.ok(types);
     }
+
+    @Operation(summary = "찬양 검색 모드 목록")
+    @GetMapping("/song-search-modes")
+    public ApiResponse<List<EnumResponse>> getSongSearchModes() {
+        List<EnumResponse> modes = Arrays.stream(SongSearchMode.values())
+                .map(m -> new EnumResponse(m.name(), m.getDisplayName()))
+                .toList();
+        return ApiResponse.ok(modes);
+    }
 }
@@ -19,6 +19,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
@@ -56,6 +57,10 @@ public class ServiceSchedule extends BaseEntity {
     @Column(name = "responded_at")
     private LocalDateTime respondedAt;
 
+    // Day the last reminder was sent, so a rerun on the same day skips this schedule
+    @Column(name = "reminder_sent_on")
+    private LocalDate reminderSentOn;
+
     public void accept() {
         this.status = ScheduleStatus.ACCEPTED;
         this.respondedAt = LocalDateTime.now();
@@ -2,11 +2,14 @@ package com.conti.domain.schedule.repository;
 
 import com.conti.domain.schedule.entity.ServiceSchedule;
 import com.conti.domain.team.entity.Position;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface ServiceScheduleRepository extends JpaRepository<ServiceSchedule, Long> {
@@ -18,6 +21,12 @@ public interface ServiceScheduleRepository extends JpaRepository<ServiceSchedule
            "ORDER BY ss.position, ss.createdAt")
     List<ServiceSchedule> findBySetlistIdWithMember(@Param("setlistId") Long setlistId);
 
+    // A member scheduled for several positions is returned once
+    @Query("SELECT DISTINCT tm.user.id FROM ServiceSchedule ss " +
+           "JOIN ss.teamMember tm " +
+           "WHERE ss.setlist.id = :setlistId")
+    List<Long> findUserIdsBySetlistId(@Param("setlistId") Long setlistId);
+
     boolean existsBySetlistIdAndTeamMemberIdAndPosition(
             Long setlistId, Long teamMemberId, Position position);
 
@@ -38,12 +47,24 @@ public interface ServiceScheduleRepository extends JpaRepository<ServiceSchedule
 
     void deleteBySetlistId(Long setlistId);
 
+    // Keyset chunk of schedules still to remind today; declined schedules are never reminded
     @Query("SELECT ss FROM ServiceSchedule ss " +
            "JOIN FETCH ss.setlist s " +
            "JOIN FETCH ss.teamMember tm " +
            "JOIN FETCH tm.user " +
-           "WHERE s.worshipDate = :worshipDate")
-    List<ServiceSchedule> findUpcomingByWorshipDate(@Param("worshipDate") LocalDate worshipDate);
+           "WHERE s.worshipDate = :worshipDate " +
+           "AND ss.id > :lastId " +
+           "AND ss.status <> com.conti.domain.schedule.entity.ScheduleStatus.DECLINED " +
+           "AND (ss.reminderSentOn IS NULL OR ss.reminderSentOn < :today) " +
+           "ORDER BY ss.id")
+    List<ServiceSchedule> findReminderTargets(@Param("worshipDate") LocalDate worshipDate,
+                                              @Param("today") LocalDate today,
+                                              @Param("lastId") Long lastId,
+                                              Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE ServiceSchedule ss SET ss.reminderSentOn = :today WHERE ss.id IN :ids")
+    int markReminderSent(@Param("ids") Collection<Long> ids, @Param("today") LocalDate today);
 
     @Query("SELECT ss FROM ServiceSchedule ss " +
            "JOIN FETCH ss.setlist s " +
@@ -1,6 +1,10 @@
 package com.conti.domain.setlist.controller;
 
+import com.conti.domain.setlist.dto.MoveItemRequest;
 import com.conti.domain.setlist.dto.ReorderRequest;
+import com.conti.domain.setlist.dto.SetlistBulkCreateRequest;
+import com.conti.domain.setlist.dto.SetlistBulkCreateResponse;
+import com.conti.domain.setlist.dto.SetlistChangesResponse;
 import com.conti.domain.setlist.dto.SetlistCopyRequest;
 import com.conti.domain.setlist.dto.SetlistCreateRequest;
 import com.conti.domain.setlist.dto.SetlistDetailResponse;
@@ -9,38 +13,55 @@ import com.conti.domain.setlist.dto.SetlistItemResponse;
 import com.conti.domain.setlist.dto.SetlistResponse;
 import com.conti.domain.setlist.dto.SetlistSearchCondition;
 import com.conti.domain.setlist.dto.SetlistUpdateRequest;
+import com.conti.domain.setlist.dto.SetlistVersionResponse;
 import com.conti.domain.setlist.entity.WorshipType;
+import com.conti.domain.setlist.live.SetlistLiveChannel;
+import com.conti.domain.setlist.service.SetlistBulkService;
 import com.conti.domain.setlist.service.SetlistService;
 import com.conti.global.auth.LoginUser;
 import com.conti.global.auth.TeamAuth;
 import com.conti.global.common.ApiResponse;
+import com.conti.global.common.CursorResponse;
+import com.conti.global.common.EntityTags;
+import com.conti.global.error.BusinessException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.time.LocalDate;
 
+@Slf4j
 @Tag(name = "콘티", description = "콘티(세트리스트) 관리")
 @RestController
 @RequestMapping("/api/v1/teams/{teamId}/setlists")
 @RequiredArgsConstructor
 public class SetlistController {
 
+    private static final long BULK_STREAM_TIMEOUT_MS = 5 * 60 * 1000L;
+
     private final SetlistService setlistService;
+    private final SetlistBulkService setlistBulkService;
+    private final SetlistLiveChannel setlistLiveChannel;
 
     @Operation(summary = "콘티 목록 조회")
     @TeamAuth(roles = {"ADMIN", "VIEWER", "GUEST"})
@@ -56,6 +77,21 @@ public class SetlistController {
         return ApiResponse.ok(setlistService.getSetlists(teamId, condition, pageable));
     }
 
+    @Operation(summary = "콘티 목록 커서 조회", description = "무한 스크롤용. 예배 날짜 최신순, 전체 개수를 계산하지 않음")
+    @TeamAuth(roles = {"ADMIN", "VIEWER", "GUEST"})
+    @GetMapping("/cursor")
+    public ApiResponse<CursorResponse<SetlistResponse>> getSetlistsByCursor(
+            @Parameter(description = "팀 ID") @PathVariable Long teamId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "시작 날짜 (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @Parameter(description = "종료 날짜 (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @Parameter(description = "예배 타입 필터") @RequestParam(required = false) WorshipType worshipType
+    ) {
+        SetlistSearchCondition condition = new SetlistSearchCondition(fromDate, toDate, worshipType);
+        return ApiResponse.ok(setlistService.getSetlistsByCursor(teamId, condition, cursor, size));
+    }
+
     @Operation(summary = "콘티 생성")
     @TeamAuth(roles = {"ADMIN"})
     @PostMapping
@@ -71,6 +107,45 @@ public class SetlistController {
         return ApiResponse.ok(setlistService.createSetlist(teamId, userId, request));
     }
 
+    @Operation(summary = "템플릿으로 콘티 일괄 생성", description = "반복 요일/간격에 맞는 날짜마다 콘티를 한 트랜잭션으로 생성. 같은 날짜/예배 타입 콘티가 있으면 건너뜀")
+    @TeamAuth(roles = {"ADMIN"})
+    @PostMapping("/bulk")
+    public ApiResponse<SetlistBulkCreateResponse> createSetlistsFromTemplate(
+            @LoginUser Long userId,
+            @Parameter(description = "팀 ID") @PathVariable Long teamId,
+            @Valid @RequestBody SetlistBulkCreateRequest request
+    ) {
+        return ApiResponse.ok(setlistBulkService.createSetlistsFromTemplate(teamId, userId, request, progress -> {
+        }));
+    }
+
+    @Operation(summary = "템플릿으로 콘티 일괄 생성 (SSE)",
+            description = "긴 기간용. 처리 단위마다 progress 이벤트, 끝나면 complete(결과) 또는 error 이벤트를 보냄")
+    @TeamAuth(roles = {"ADMIN"})
+    @PostMapping(value = "/bulk/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter createSetlistsFromTemplateStream(
+            @LoginUser Long userId,
+            @Parameter(description = "팀 ID") @PathVariable Long teamId,
+            @Valid @RequestBody SetlistBulkCreateRequest request
+    ) {
+        SseEmitter emitter = new SseEmitter(BULK_STREAM_TIMEOUT_MS);
+        Thread.ofVirtual().name("setlist-bulk-" + teamId).start(() -> {
+            try {
+                SetlistBulkCreateResponse result = setlistBulkService.createSetlistsFromTemplate(
+                        teamId, userId, request, progress -> sendEvent(emitter, "progress", progress));
+                sendEvent(emitter, "complete", ApiResponse.ok(result));
+                emitter.complete();
+            } catch (BusinessException e) {
+                sendEvent(emitter, "error", ApiResponse.error(e.getErrorCode()));
+                emitter.complete();
+            } catch (Exception e) {
+                log.error("Bulk setlist generation failed for team {}", teamId, e);
+                emitter.completeWithError(e);
+            }
+        });
+        return emitter;
+    }
+
     @Operation(summary = "콘티 상세 조회")
     @TeamAuth(roles = {"ADMIN", "VIEWER", "GUEST"})
     @GetMapping("/{setlistId}")
@@ -81,15 +156,38 @@ public class SetlistController {
         return ApiResponse.ok(setlistService.getSetlist(setlistId));
     }
 
+    @Operation(summary = "콘티 변경분 조회", description = "since 버전 이후 추가/수정/삭제된 항목과 현재 순서만 반환")
+    @TeamAuth(roles = {"ADMIN", "VIEWER", "GUEST"})
+    @GetMapping("/{setlistId}/changes")
+    public ApiResponse<SetlistChangesResponse> getChanges(
+            @Parameter(description = "팀 ID") @PathVariable Long teamId,
+            @Parameter(description = "콘티 ID") @PathVariable Long setlistId,
+            @Parameter(description = "클라이언트가 가진 콘티 버전") @RequestParam long since
+    ) {
+        return ApiResponse.ok(setlistService.getChanges(setlistId, since));
+    }
+
+    @Operation(summary = "콘티 실시간 구독 (SSE)",
+            description = "연결 시 connected(현재 버전), 이후 커밋된 수정마다 change 이벤트를 보냄. 이벤트 ID는 콘티 버전이며, 버전이 건너뛰면 변경분 조회로 동기화")
+    @TeamAuth(roles = {"ADMIN", "VIEWER", "GUEST"})
+    @GetMapping(value = "/{setlistId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @Parameter(description = "팀 ID") @PathVariable Long teamId,
+            @Parameter(description = "콘티 ID") @PathVariable Long setlistId
+    ) {
+        return setlistLiveChannel.subscribe(setlistId, setlistService.getVersion(setlistId));
+    }
+
     @Operation(summary = "콘티 수정")
     @TeamAuth(roles = {"ADMIN"})
     @PatchMapping("/{setlistId}")
     public ApiResponse<SetlistResponse> updateSetlist(
             @Parameter(description = "팀 ID") @PathVariable Long teamId,
             @Parameter(description = "콘티 ID") @PathVariable Long setlistId,
+            @Parameter(description = "마지막으로 받은 콘티 버전 (다르면 412)") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody SetlistUpdateRequest request
     ) {
-        return ApiResponse.ok(setlistService.updateSetlist(setlistId, request));
+        return ApiResponse.ok(setlistService.updateSetlist(setlistId, request, EntityTags.parseVersion(ifMatch)));
     }
 
     @Operation(summary = "콘티 삭제")
@@ -121,9 +219,10 @@ public class SetlistController {
     public ApiResponse<SetlistItemResponse> addItem(
             @Parameter(description = "팀 ID") @PathVariable Long teamId,
             @Parameter(description = "콘티 ID") @PathVariable Long setlistId,
+            @Parameter(description = "마지막으로 받은 콘티 버전 (다르면 412)") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody SetlistItemRequest request
     ) {
-        return ApiResponse.ok(setlistService.addItem(setlistId, request));
+        return ApiResponse.ok(setlistService.addItem(setlistId, request, EntityTags.parseVersion(ifMatch)));
     }
 
     @Operation(summary = "콘티 곡 수정")
@@ -133,32 +232,55 @@ public class SetlistController {
             @Parameter(description = "팀 ID") @PathVariable Long teamId,
             @Parameter(description = "콘티 ID") @PathVariable Long setlistId,
             @Parameter(description = "콘티 아이템 ID") @PathVariable Long itemId,
+            @Parameter(description = "마지막으로 받은 콘티 버전 (다르면 412)") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody SetlistItemRequest request
     ) {
-        return ApiResponse.ok(setlistService.updateItem(setlistId, itemId, request));
+        return ApiResponse.ok(setlistService.updateItem(setlistId, itemId, request, EntityTags.parseVersion(ifMatch)));
     }
 
     @Operation(summary = "콘티 곡 제거")
     @TeamAuth(roles = {"ADMIN"})
     @DeleteMapping("/{setlistId}/items/{itemId}")
-    public ApiResponse<Void> removeItem(
+    public ApiResponse<SetlistVersionResponse> removeItem(
             @Parameter(description = "팀 ID") @PathVariable Long teamId,
             @Parameter(description = "콘티 ID") @PathVariable Long setlistId,
-            @Parameter(description = "콘티 아이템 ID") @PathVariable Long itemId
+            @Parameter(description = "콘티 아이템 ID") @PathVariable Long itemId,
+            @Parameter(description = "마지막으로 받은 콘티 버전 (다르면 412)") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        setlistService.removeItem(setlistId, itemId);
-        return ApiResponse.ok();
+        return ApiResponse.ok(setlistService.removeItem(setlistId, itemId, EntityTags.parseVersion(ifMatch)));
     }
 
     @Operation(summary = "콘티 곡 순서 변경")
     @TeamAuth(roles = {"ADMIN"})
     @PatchMapping("/{setlistId}/items/reorder")
-    public ApiResponse<Void> reorderItems(
+    public ApiResponse<SetlistVersionResponse> reorderItems(
             @Parameter(description = "팀 ID") @PathVariable Long teamId,
             @Parameter(description = "콘티 ID") @PathVariable Long setlistId,
+            @Parameter(description = "마지막으로 받은 콘티 버전 (다르면 412)") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody ReorderRequest request
     ) {
-        setlistService.reorderItems(setlistId, request);
-        return ApiResponse.ok();
+        return ApiResponse.ok(setlistService.reorderItems(setlistId, request, EntityTags.parseVersion(ifMatch)));
+    }
+
+    @Operation(summary = "콘티 곡 이동", description = "지정한 항목 바로 뒤로 이동. 이동한 항목만 갱신")
+    @TeamAuth(roles = {"ADMIN"})
+    @PatchMapping("/{setlistId}/items/{itemId}/move")
+    public ApiResponse<SetlistItemResponse> moveItem(
+            @Parameter(description = "팀 ID") @PathVariable Long teamId,
+            @Parameter(description = "콘티 ID") @PathVariable Long setlistId,
+            @Parameter(description = "콘티 아이템 ID") @PathVariable Long itemId,
+            @Parameter(description = "마지막으로 받은 콘티 버전 (다르면 412)") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody MoveItemRequest request
+    ) {
+        return ApiResponse.ok(setlistService.moveItem(setlistId, itemId, request, EntityTags.parseVersion(ifMatch)));
+    }
+
+    // A disconnected client must not abort the generation itself
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropped SSE event {}: {}", name, e.getMessage());
+        }
     }
 }
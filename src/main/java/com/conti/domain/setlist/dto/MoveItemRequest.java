@@ -0,0 +1,10 @@
+package com.conti.domain.setlist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "콘티 항목 이동 요청")
+public record MoveItemRequest(
+        @Schema(description = "이 항목 바로 뒤로 이동 (생략 시 맨 앞)", example = "3")
+        Long afterItemId
+) {
+}
@@ -0,0 +1,44 @@
+package com.conti.domain.setlist.dto;
+
+import com.conti.domain.setlist.entity.WorshipType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "템플릿 기반 콘티 일괄 생성 요청")
+public record SetlistBulkCreateRequest(
+        @Schema(description = "템플릿 ID", example = "1")
+        @NotNull Long templateId,
+        @Schema(description = "시작 날짜", example = "2026-04-01")
+        @NotNull LocalDate fromDate,
+        @Schema(description = "종료 날짜", example = "2026-06-30")
+        @NotNull LocalDate toDate,
+        @Schema(description = "반복 요일", example = "SUNDAY")
+        @NotNull DayOfWeek dayOfWeek,
+        @Schema(description = "반복 간격(주, 기본 1)", example = "1")
+        @Min(1) @Max(52) Integer intervalWeeks,
+        @Schema(description = "예배 타입 (생략 시 템플릿 타입)", example = "SUNDAY_1ST")
+        WorshipType worshipType,
+        @Schema(description = "콘티 제목 (날짜 뒤에 붙음, 생략 시 템플릿 이름)", example = "주일예배")
+        String title,
+        @Schema(description = "인도자 ID", example = "1")
+        Long leaderId
+) {
+
+    /** Worship dates matching the recurrence rule within [fromDate, toDate]. */
+    public List<LocalDate> worshipDates() {
+        int interval = intervalWeeks != null ? intervalWeeks : 1;
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate date = fromDate.plusDays((dayOfWeek.getValue() - fromDate.getDayOfWeek().getValue() + 7) % 7);
+        for (; !date.isAfter(toDate); date = date.plusWeeks(interval)) {
+            dates.add(date);
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,42 @@
+package com.conti.domain.setlist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "콘티 일괄 생성 결과")
+public record SetlistBulkCreateResponse(
+        @Schema(description = "생성된 콘티 수", example = "12")
+        int createdCount,
+        @Schema(description = "이미 있어서 건너뛴 날짜 수", example = "1")
+        int skippedCount,
+        @Schema(description = "날짜별 결과")
+        List<DateResult> results
+) {
+
+    public static SetlistBulkCreateResponse of(List<DateResult> results) {
+        int created = (int) results.stream().filter(DateResult::created).count();
+        return new SetlistBulkCreateResponse(created, results.size() - created, results);
+    }
+
+    @Schema(description = "날짜별 생성 결과")
+    public record DateResult(
+            @Schema(description = "예배 날짜", example = "2026-04-05")
+            LocalDate worshipDate,
+            @Schema(description = "콘티 ID (생성되었거나 이미 있던 콘티)", example = "10")
+            Long setlistId,
+            @Schema(description = "새로 생성되었는지 여부 (false면 같은 날짜/예배 타입 콘티가 이미 있음)")
+            boolean created
+    ) {
+    }
+
+    @Schema(description = "일괄 생성 진행 상황 (SSE progress 이벤트)")
+    public record Progress(
+            @Schema(description = "처리한 날짜 수", example = "26")
+            int processed,
+            @Schema(description = "전체 날짜 수", example = "52")
+            int total
+    ) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.conti.domain.setlist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "콘티 변경분 응답")
+public record SetlistChangesResponse(
+        @Schema(description = "현재 콘티 버전 (다음 since 값)", example = "9")
+        Long version,
+        @Schema(description = "콘티 기본 정보")
+        SetlistResponse setlist,
+        @Schema(description = "since 이후 추가/수정된 항목 (orderIndex는 현재 위치)")
+        List<SetlistItemResponse> changedItems,
+        @Schema(description = "since 이후 삭제된 항목 ID")
+        List<Long> removedItemIds,
+        @Schema(description = "현재 항목 순서 (아이템 ID 목록)", example = "[3, 1, 2]")
+        List<Long> itemOrder
+) {
+}
@@ -1,11 +1,13 @@
 package com.conti.domain.setlist.dto;
 
 import com.conti.domain.setlist.entity.Setlist;
+import com.conti.domain.setlist.entity.SetlistItem;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.IntStream;
 
 @Schema(description = "콘티 상세 응답")
 public record SetlistDetailResponse(
@@ -29,13 +31,16 @@ public record SetlistDetailResponse(
         String memo,
         @Schema(description = "생성자 ID", example = "1")
         Long creatorId,
+        @Schema(description = "콘티 버전 (If-Match, 변경분 조회 기준)", example = "7")
+        Long version,
         @Schema(description = "콘티 항목 목록")
         List<SetlistItemResponse> items
 ) {
 
     public static SetlistDetailResponse from(Setlist setlist) {
-        List<SetlistItemResponse> itemResponses = setlist.getSetlistItems().stream()
-                .map(SetlistItemResponse::from)
+        List<SetlistItem> items = setlist.getSetlistItems();
+        List<SetlistItemResponse> itemResponses = IntStream.range(0, items.size())
+                .mapToObj(i -> SetlistItemResponse.from(items.get(i), i))
                 .toList();
 
         return new SetlistDetailResponse(
@@ -49,6 +54,7 @@ public record SetlistDetailResponse(
                 setlist.getCreatedAt(),
                 setlist.getMemo(),
                 setlist.getCreatorId(),
+                setlist.getVersion(),
                 itemResponses
         );
     }
@@ -21,6 +21,8 @@ public record SetlistItemRequest(
         @Schema(description = "색상 코드", example = "#FF5733")
         String color,
         @Schema(description = "서비스 구간", example = "DURING")
-        ServicePhase servicePhase
+        ServicePhase servicePhase,
+        @Schema(description = "이 항목 바로 뒤에 추가 (추가 시에만 사용, 생략 시 맨 뒤)", example = "3")
+        Long afterItemId
 ) {
 }
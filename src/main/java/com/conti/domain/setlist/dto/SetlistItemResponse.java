@@ -17,7 +17,7 @@ public record SetlistItemResponse(
         String songTitle,
         @Schema(description = "아티스트 (찬양 항목만)", example = "마커스워십")
         String artist,
-        @Schema(description = "순서", example = "1")
+        @Schema(description = "순서 (0부터 시작하는 위치)", example = "1")
         int orderIndex,
         @Schema(description = "연주 키", example = "A")
         String songKey,
@@ -30,10 +30,12 @@ public record SetlistItemResponse(
         @Schema(description = "서비스 구간", example = "DURING")
         String servicePhase,
         @Schema(description = "서비스 구간 표시명", example = "예배 중")
-        String servicePhaseDisplayName
+        String servicePhaseDisplayName,
+        @Schema(description = "마지막으로 변경된 콘티 버전", example = "7")
+        Long version
 ) {
 
-    public static SetlistItemResponse from(SetlistItem item) {
+    public static SetlistItemResponse from(SetlistItem item, int position) {
         return new SetlistItemResponse(
                 item.getId(),
                 item.getItemType().name(),
@@ -41,13 +43,14 @@ public record SetlistItemResponse(
                 item.getSong() != null ? item.getSong().getId() : null,
                 item.getDisplayTitle(),
                 item.getSong() != null ? item.getSong().getArtist() : null,
-                item.getOrderIndex(),
+                position,
                 item.getSongKey(),
                 item.getDurationMinutes(),
                 item.getMemo(),
                 item.getColor(),
                 item.getServicePhase() != null ? item.getServicePhase().name() : null,
-                item.getServicePhase() != null ? item.getServicePhase().getDisplayName() : null
+                item.getServicePhase() != null ? item.getServicePhase().getDisplayName() : null,
+                item.getVersion()
         );
     }
 }
@@ -23,10 +23,16 @@ public record SetlistResponse(
         @Schema(description = "곡 수", example = "5")
         int songCount,
         @Schema(description = "생성 일시")
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        @Schema(description = "콘티 버전 (If-Match에 사용)", example = "7")
+        Long version
 ) {
 
     public static SetlistResponse from(Setlist setlist) {
+        return from(setlist, setlist.getSetlistItems().size());
+    }
+
+    public static SetlistResponse from(Setlist setlist, int itemCount) {
         return new SetlistResponse(
                 setlist.getId(),
                 setlist.getTitle(),
@@ -34,8 +40,9 @@ public record SetlistResponse(
                 setlist.getWorshipType() != null ? setlist.getWorshipType().name() : null,
                 setlist.getWorshipType() != null ? setlist.getWorshipType().getDisplayName() : null,
                 setlist.getLeaderId(),
-                setlist.getSetlistItems().size(),
-                setlist.getCreatedAt()
+                itemCount,
+                setlist.getCreatedAt(),
+                setlist.getVersion()
         );
     }
 }
@@ -6,6 +6,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.IntStream;
 
 @Schema(description = "콘티 템플릿 응답")
 public record SetlistTemplateResponse(
@@ -28,8 +29,9 @@ public record SetlistTemplateResponse(
 ) {
 
     public static SetlistTemplateResponse from(SetlistTemplate template) {
-        List<SetlistTemplateItemResponse> itemResponses = template.getItems().stream()
-                .map(SetlistTemplateItemResponse::from)
+        List<SetlistTemplateItem> items = template.getItems();
+        List<SetlistTemplateItemResponse> itemResponses = IntStream.range(0, items.size())
+                .mapToObj(i -> SetlistTemplateItemResponse.from(items.get(i), i))
                 .toList();
 
         return new SetlistTemplateResponse(
@@ -52,7 +54,7 @@ public record SetlistTemplateResponse(
             String itemType,
             @Schema(description = "항목 타입 표시명")
             String itemTypeDisplayName,
-            @Schema(description = "순서")
+            @Schema(description = "순서 (0부터 시작하는 위치)")
             int orderIndex,
             @Schema(description = "곡 ID")
             Long songId,
@@ -69,12 +71,12 @@ public record SetlistTemplateResponse(
             @Schema(description = "서비스 구간 표시명")
             String servicePhaseDisplayName
     ) {
-        public static SetlistTemplateItemResponse from(SetlistTemplateItem item) {
+        public static SetlistTemplateItemResponse from(SetlistTemplateItem item, int position) {
             return new SetlistTemplateItemResponse(
                     item.getId(),
                     item.getItemType().name(),
                     item.getItemType().getDisplayName(),
-                    item.getOrderIndex(),
+                    position,
                     item.getSong() != null ? item.getSong().getId() : null,
                     item.getTitle(),
                     item.getDescription(),
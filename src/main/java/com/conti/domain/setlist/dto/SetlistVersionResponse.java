@@ -0,0 +1,10 @@
+package com.conti.domain.setlist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "변경 후 콘티 버전")
+public record SetlistVersionResponse(
+        @Schema(description = "콘티 버전 (다음 If-Match에 사용)", example = "8")
+        Long version
+) {
+}
@@ -0,0 +1,37 @@
+package com.conti.domain.setlist.entity;
+
+/**
+ * Sparse order_index values for setlist and template items. Ranks are spaced {@link #GAP} apart so an item
+ * can be inserted or moved between two neighbours by writing only its own row.
+ */
+public final class OrderRank {
+
+    public static final int GAP = 1024;
+
+    /** Neighbours closer than this are renumbered by the background rebalancer. */
+    public static final int MIN_GAP = 8;
+
+    private OrderRank() {
+    }
+
+    /** Evenly spaced rank for the given position, as written by a full renumber. */
+    public static int at(int position) {
+        return (position + 1) * GAP;
+    }
+
+    /**
+     * Returns a rank strictly between {@code before} and {@code after}, or {@code null} when there is no room
+     * and the list has to be renumbered. A {@code null} bound means the start or the end of the list.
+     */
+    public static Integer between(Integer before, Integer after) {
+        long low = before != null ? before : 0;
+        if (after == null) {
+            long next = low + GAP;
+            return next <= Integer.MAX_VALUE ? (int) next : null;
+        }
+        if (after - low < 2) {
+            return null;
+        }
+        return (int) (low + (after - low) / 2);
+    }
+}
@@ -12,6 +12,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -54,7 +55,13 @@ public class Setlist extends BaseEntity {
     @Column(columnDefinition = "TEXT")
     private String memo;
 
+    // Revision of the setlist and its items, bumped under a row lock by every edit (not a JPA @Version)
+    @Column(nullable = false)
+    @Builder.Default
+    private Long version = 0L;
+
     @OneToMany(mappedBy = "setlist", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("orderIndex ASC")
     @Builder.Default
     private List<SetlistItem> setlistItems = new ArrayList<>();
 
@@ -81,4 +88,8 @@ public class Setlist extends BaseEntity {
     public void updateMemo(String memo) {
         this.memo = memo;
     }
+
+    public long increaseVersion() {
+        return ++this.version;
+    }
 }
@@ -72,6 +72,11 @@ public class SetlistItem {
     @Column(name = "service_phase", length = 20)
     private ServicePhase servicePhase;
 
+    // Setlist revision at which this item last changed
+    @Column(nullable = false)
+    @Builder.Default
+    private Long version = 0L;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -107,6 +112,10 @@ public class SetlistItem {
         this.servicePhase = servicePhase;
     }
 
+    public void updateVersion(long version) {
+        this.version = version;
+    }
+
     public String getDisplayTitle() {
         if (itemType == SetlistItemType.SONG && song != null) {
             return song.getTitle();
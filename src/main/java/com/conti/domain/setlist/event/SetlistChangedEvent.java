@@ -0,0 +1,45 @@
+package com.conti.domain.setlist.event;
+
+import com.conti.domain.setlist.dto.SetlistItemResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * A committed edit of a setlist at the given version. item is set for added, updated and moved items,
+ * itemOrder for reorders; for anything else clients catch up through the changes endpoint.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SetlistChangedEvent(
+        Long setlistId,
+        long version,
+        Type type,
+        Long itemId,
+        SetlistItemResponse item,
+        List<Long> itemOrder
+) {
+    public enum Type {
+        SETLIST_UPDATED,
+        ITEM_ADDED,
+        ITEM_UPDATED,
+        ITEM_MOVED,
+        ITEM_REMOVED,
+        ITEMS_REORDERED
+    }
+
+    public static SetlistChangedEvent setlistUpdated(Long setlistId, long version) {
+        return new SetlistChangedEvent(setlistId, version, Type.SETLIST_UPDATED, null, null, null);
+    }
+
+    public static SetlistChangedEvent itemChanged(Long setlistId, long version, Type type, SetlistItemResponse item) {
+        return new SetlistChangedEvent(setlistId, version, type, item.id(), item, null);
+    }
+
+    public static SetlistChangedEvent itemRemoved(Long setlistId, long version, Long itemId) {
+        return new SetlistChangedEvent(setlistId, version, Type.ITEM_REMOVED, itemId, null, null);
+    }
+
+    public static SetlistChangedEvent itemsReordered(Long setlistId, long version, List<Long> itemOrder) {
+        return new SetlistChangedEvent(setlistId, version, Type.ITEMS_REORDERED, null, null, itemOrder);
+    }
+}
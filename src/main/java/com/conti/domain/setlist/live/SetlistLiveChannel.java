@@ -0,0 +1,138 @@
+package com.conti.domain.setlist.live;
+
+import com.conti.domain.setlist.dto.SetlistVersionResponse;
+import com.conti.domain.setlist.event.SetlistChangedEvent;
+import com.conti.global.common.KeyedSerialExecutor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process SSE broadcaster for committed setlist changes. Idle subscribers hold no thread (the request
+ * is async), and fan-out runs on virtual threads so a slow client never delays the editor. Deliveries for
+ * one setlist run one at a time in the order the after-commit callbacks fire, which can differ from commit
+ * order; a version no newer than the last one delivered is dropped, so event ids (setlist versions) never go
+ * backwards. A client that sees a gap catches up through the changes endpoint.
+ */
+@Slf4j
+@Component
+public class SetlistLiveChannel {
+
+    private static final long TIMEOUT_MS = 30 * 60 * 1000L;
+
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService fanOut = Executors.newVirtualThreadPerTaskExecutor();
+    private final KeyedSerialExecutor<Long> deliveries = new KeyedSerialExecutor<>(fanOut);
+    // Only touched from the setlist's serial deliveries, apart from the cleanup in unsubscribe
+    private final Map<Long, Long> deliveredVersions = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a subscriber and sends it the current version, so it can fetch anything it missed
+     * while disconnected. Registration is queued behind pending deliveries, so the subscriber never
+     * receives a change before its connected event.
+     */
+    public SseEmitter subscribe(Long setlistId, long version) {
+        SseEmitter emitter = createEmitter();
+        Runnable remove = () -> unsubscribe(setlistId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        deliveries.execute(setlistId, () -> {
+            subscribers.compute(setlistId, (id, emitters) -> {
+                Set<SseEmitter> registered = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+                registered.add(emitter);
+                return registered;
+            });
+            deliveredVersions.merge(setlistId, version, Math::max);
+            send(setlistId, emitter, SseEmitter.event()
+                    .id(String.valueOf(version))
+                    .name("connected")
+                    .data(new SetlistVersionResponse(version)));
+        });
+        return emitter;
+    }
+
+    public int subscriberCount(Long setlistId) {
+        Set<SseEmitter> emitters = subscribers.get(setlistId);
+        return emitters != null ? emitters.size() : 0;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSetlistChanged(SetlistChangedEvent event) {
+        deliveries.execute(event.setlistId(), () -> {
+            // Looked up when the delivery runs, so subscribers registered ahead of it are included
+            Set<SseEmitter> emitters = subscribers.get(event.setlistId());
+            if (emitters == null) {
+                deliveredVersions.remove(event.setlistId());
+                return;
+            }
+            Long delivered = deliveredVersions.get(event.setlistId());
+            if (delivered != null && delivered >= event.version()) {
+                log.debug("Dropping stale setlist {} change: version={}, delivered={}",
+                        event.setlistId(), event.version(), delivered);
+                return;
+            }
+            deliveredVersions.put(event.setlistId(), event.version());
+            for (SseEmitter emitter : emitters) {
+                send(event.setlistId(), emitter, SseEmitter.event()
+                        .id(String.valueOf(event.version()))
+                        .name("change")
+                        .data(event));
+            }
+        });
+    }
+
+    // Keeps idle connections open through proxies and drops the ones whose client is gone
+    @Scheduled(fixedDelay = 25_000)
+    public void heartbeat() {
+        subscribers.forEach((setlistId, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                send(setlistId, emitter, SseEmitter.event().comment("ping"));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOut.shutdown();
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        subscribers.clear();
+        deliveredVersions.clear();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(TIMEOUT_MS);
+    }
+
+    private void send(Long setlistId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping setlist {} subscriber: {}", setlistId, e.getMessage());
+            unsubscribe(setlistId, emitter);
+        }
+    }
+
+    private void unsubscribe(Long setlistId, SseEmitter emitter) {
+        subscribers.computeIfPresent(setlistId, (id, emitters) -> {
+            emitters.remove(emitter);
+            if (emitters.isEmpty()) {
+                deliveredVersions.remove(id);
+                return null;
+            }
+            return emitters;
+        });
+    }
+}
@@ -0,0 +1,12 @@
+package com.conti.domain.setlist.repository;
+
+import java.util.List;
+
+public interface SetlistItemQueryRepository {
+
+    /**
+     * Renumbers the items to evenly spaced ranks in the given order with a single UPDATE.
+     * Item versions are left alone; reorders reach clients through the change feed's item order.
+     */
+    long updateOrderIndexes(Long setlistId, List<Long> orderedItemIds);
+}
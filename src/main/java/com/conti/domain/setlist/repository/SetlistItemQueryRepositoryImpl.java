@@ -0,0 +1,43 @@
+package com.conti.domain.setlist.repository;
+
+import com.conti.domain.setlist.entity.OrderRank;
+import com.querydsl.core.types.dsl.CaseForEqBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static com.conti.domain.setlist.entity.QSetlistItem.setlistItem;
+
+@RequiredArgsConstructor
+public class SetlistItemQueryRepositoryImpl implements SetlistItemQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    @Override
+    public long updateOrderIndexes(Long setlistId, List<Long> orderedItemIds) {
+        if (orderedItemIds.isEmpty()) {
+            return 0;
+        }
+
+        CaseForEqBuilder<Long>.Cases<Integer, NumberExpression<Integer>> cases =
+                setlistItem.id.when(orderedItemIds.get(0)).then(OrderRank.at(0));
+        for (int i = 1; i < orderedItemIds.size(); i++) {
+            cases = cases.when(orderedItemIds.get(i)).then(OrderRank.at(i));
+        }
+
+        // Push pending changes first and drop stale items afterwards, as @Modifying(clearAutomatically) would
+        entityManager.flush();
+        long updated = queryFactory
+                .update(setlistItem)
+                .set(setlistItem.orderIndex, cases.otherwise(setlistItem.orderIndex))
+                .where(setlistItem.setlist.id.eq(setlistId),
+                        setlistItem.id.in(orderedItemIds))
+                .execute();
+        entityManager.clear();
+        return updated;
+    }
+}
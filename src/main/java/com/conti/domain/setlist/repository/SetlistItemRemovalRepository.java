@@ -0,0 +1,19 @@
+package com.conti.domain.setlist.repository;
+
+import com.conti.domain.setlist.entity.SetlistItemRemoval;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface SetlistItemRemovalRepository extends JpaRepository<SetlistItemRemoval, Long> {
+
+    @Query("SELECT r.itemId FROM SetlistItemRemoval r WHERE r.setlistId = :setlistId AND r.version > :version")
+    List<Long> findItemIdsRemovedAfter(@Param("setlistId") Long setlistId, @Param("version") long version);
+
+    @Modifying
+    @Query("DELETE FROM SetlistItemRemoval r WHERE r.setlistId = :setlistId")
+    int deleteBySetlistId(@Param("setlistId") Long setlistId);
+}
@@ -2,10 +2,14 @@ package com.conti.domain.setlist.repository;
 
 import com.conti.domain.setlist.entity.SetlistItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface SetlistItemRepository extends JpaRepository<SetlistItem, Long> {
+public interface SetlistItemRepository extends JpaRepository<SetlistItem, Long>, SetlistItemQueryRepository {
 
     List<SetlistItem> findBySetlistIdOrderByOrderIndex(Long setlistId);
 
@@ -14,4 +18,38 @@ public interface SetlistItemRepository extends JpaRepository<SetlistItem, Long>
     void deleteBySetlistId(Long setlistId);
 
     int countBySetlistId(Long setlistId);
+
+    int countBySetlistIdAndOrderIndexLessThan(Long setlistId, Integer orderIndex);
+
+    @Query("SELECT i FROM SetlistItem i LEFT JOIN FETCH i.song " +
+            "WHERE i.setlist.id = :setlistId AND i.version > :version")
+    List<SetlistItem> findChangedAfter(@Param("setlistId") Long setlistId, @Param("version") long version);
+
+    @Query("SELECT i.id FROM SetlistItem i WHERE i.setlist.id = :setlistId ORDER BY i.orderIndex, i.id")
+    List<Long> findIdsBySetlistId(@Param("setlistId") Long setlistId);
+
+    /**
+     * Setlists where two neighbouring items (or the first item and zero) are closer than {@code minGap}.
+     */
+    @Query(value = "SELECT DISTINCT ranked.setlist_id FROM (" +
+            "SELECT setlist_id, order_index - LAG(order_index, 1, 0) " +
+            "OVER (PARTITION BY setlist_id ORDER BY order_index) AS gap FROM setlist_items) ranked " +
+            "WHERE ranked.gap < :minGap LIMIT :limit", nativeQuery = true)
+    List<Long> findSetlistIdsWithDenseRanks(@Param("minGap") int minGap, @Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO setlist_items " +
+            "(setlist_id, item_type, title, song_id, order_index, song_key, duration_minutes, memo, color, service_phase) " +
+            "SELECT :targetSetlistId, item_type, title, song_id, order_index, song_key, duration_minutes, memo, color, service_phase " +
+            "FROM setlist_items WHERE setlist_id = :sourceSetlistId ORDER BY order_index", nativeQuery = true)
+    int copyItemsFromSetlist(@Param("sourceSetlistId") Long sourceSetlistId,
+                             @Param("targetSetlistId") Long targetSetlistId);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO setlist_items " +
+            "(setlist_id, item_type, title, song_id, order_index, duration_minutes, color, service_phase) " +
+            "SELECT s.id, ti.item_type, ti.title, ti.song_id, ti.order_index, ti.duration_minutes, ti.color, ti.service_phase " +
+            "FROM setlist_template_items ti INNER JOIN setlists s ON s.id IN (:setlistIds) " +
+            "WHERE ti.template_id = :templateId ORDER BY s.id, ti.order_index", nativeQuery = true)
+    int copyItemsFromTemplate(@Param("templateId") Long templateId, @Param("setlistIds") Collection<Long> setlistIds);
 }
@@ -0,0 +1,76 @@
+package com.conti.domain.setlist.repository;
+
+import com.conti.domain.setlist.entity.Setlist;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC batch inserts for setlists. IDENTITY ids keep Hibernate from batching these, while a JDBC batch is
+ * rewritten into a single multi-row INSERT by the driver (rewriteBatchedStatements).
+ */
+@Repository
+@RequiredArgsConstructor
+public class SetlistJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO setlists " +
+            "(team_id, creator_id, title, worship_date, worship_type, leader_id, memo, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the given unsaved setlists and returns their generated ids in the same order.
+     */
+    public List<Long> insertAll(List<Setlist> setlists) {
+        if (setlists.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Setlist setlist = setlists.get(i);
+                        ps.setLong(1, setlist.getTeam().getId());
+                        ps.setLong(2, setlist.getCreatorId());
+                        ps.setString(3, setlist.getTitle());
+                        ps.setDate(4, Date.valueOf(setlist.getWorshipDate()));
+                        ps.setString(5, setlist.getWorshipType() != null ? setlist.getWorshipType().name() : null);
+                        if (setlist.getLeaderId() != null) {
+                            ps.setLong(6, setlist.getLeaderId());
+                        } else {
+                            ps.setNull(6, Types.BIGINT);
+                        }
+                        ps.setString(7, setlist.getMemo());
+                        ps.setTimestamp(8, now);
+                        ps.setTimestamp(9, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return setlists.size();
+                    }
+                },
+                keyHolder);
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+}
@@ -2,10 +2,14 @@ package com.conti.domain.setlist.repository;
 
 import com.conti.domain.setlist.dto.SetlistSearchCondition;
 import com.conti.domain.setlist.entity.Setlist;
+import com.conti.global.common.Cursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface SetlistQueryRepository {
 
     Page<Setlist> searchSetlists(Long teamId, SetlistSearchCondition condition, Pageable pageable);
+
+    Slice<Setlist> searchSetlistsByCursor(Long teamId, SetlistSearchCondition condition, Cursor cursor, int size);
 }
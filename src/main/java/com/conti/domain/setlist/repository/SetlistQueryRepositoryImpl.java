@@ -2,13 +2,17 @@ package com.conti.domain.setlist.repository;
 
 import com.conti.domain.setlist.dto.SetlistSearchCondition;
 import com.conti.domain.setlist.entity.Setlist;
+import com.conti.global.common.Cursor;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,17 +31,12 @@ public class SetlistQueryRepositoryImpl implements SetlistQueryRepository {
 
     @Override
     public Page<Setlist> searchSetlists(Long teamId, SetlistSearchCondition condition, Pageable pageable) {
-        BooleanBuilder builder = new BooleanBuilder();
-        builder.and(setlist.team.id.eq(teamId));
-
-        builder.and(fromDateGoe(condition.fromDate()));
-        builder.and(toDateLoe(condition.toDate()));
-        builder.and(worshipTypeEquals(condition.worshipType()));
+        BooleanBuilder builder = searchConditions(teamId, condition);
 
         List<Setlist> content = queryFactory
                 .selectFrom(setlist)
                 .where(builder)
-                .orderBy(setlist.worshipDate.desc())
+                .orderBy(setlist.worshipDate.desc(), setlist.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
@@ -50,6 +49,44 @@ public class SetlistQueryRepositoryImpl implements SetlistQueryRepository {
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    @Override
+    public Slice<Setlist> searchSetlistsByCursor(Long teamId, SetlistSearchCondition condition, Cursor cursor, int size) {
+        BooleanBuilder builder = searchConditions(teamId, condition);
+        builder.and(worshipDateBefore(cursor));
+
+        List<Setlist> content = queryFactory
+                .selectFrom(setlist)
+                .where(builder)
+                .orderBy(setlist.worshipDate.desc(), setlist.id.desc())
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+        return new SliceImpl<>(content, PageRequest.ofSize(size), hasNext);
+    }
+
+    private BooleanBuilder searchConditions(Long teamId, SetlistSearchCondition condition) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(setlist.team.id.eq(teamId));
+
+        builder.and(fromDateGoe(condition.fromDate()));
+        builder.and(toDateLoe(condition.toDate()));
+        builder.and(worshipTypeEquals(condition.worshipType()));
+        return builder;
+    }
+
+    private BooleanExpression worshipDateBefore(Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        LocalDate worshipDate = cursor.dateKey();
+        return setlist.worshipDate.lt(worshipDate)
+                .or(setlist.worshipDate.eq(worshipDate).and(setlist.id.lt(cursor.id())));
+    }
+
     private BooleanExpression fromDateGoe(LocalDate fromDate) {
         if (fromDate == null) {
             return null;
@@ -1,11 +1,41 @@
 package com.conti.domain.setlist.repository;
 
 import com.conti.domain.setlist.entity.Setlist;
+import com.conti.domain.setlist.entity.WorshipType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 
 public interface SetlistRepository extends JpaRepository<Setlist, Long>, SetlistQueryRepository {
 
     Page<Setlist> findByTeamId(Long teamId, Pageable pageable);
+
+    List<Setlist> findByTeamIdAndWorshipTypeAndWorshipDateBetween(Long teamId, WorshipType worshipType,
+                                                                  LocalDate fromDate, LocalDate toDate);
+
+    List<Setlist> findByTeamIdAndWorshipTypeIsNullAndWorshipDateBetween(Long teamId,
+                                                                        LocalDate fromDate, LocalDate toDate);
+
+    @Query("SELECT s.version FROM Setlist s WHERE s.id = :setlistId")
+    Optional<Long> findVersionById(@Param("setlistId") Long setlistId);
+
+    // Serializes edits of one setlist (see SetlistService#beginEdit)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Setlist s WHERE s.id = :setlistId")
+    Optional<Setlist> findByIdForUpdate(@Param("setlistId") Long setlistId);
+
+    // Setlist, items (ordered by @OrderBy) and their songs in one round trip
+    @Query("SELECT DISTINCT s FROM Setlist s " +
+           "LEFT JOIN FETCH s.setlistItems i " +
+           "LEFT JOIN FETCH i.song " +
+           "WHERE s.id = :setlistId")
+    Optional<Setlist> findWithItemsById(@Param("setlistId") Long setlistId);
 }
@@ -0,0 +1,115 @@
+package com.conti.domain.setlist.service;
+
+import com.conti.domain.setlist.dto.SetlistBulkCreateRequest;
+import com.conti.domain.setlist.dto.SetlistBulkCreateResponse;
+import com.conti.domain.setlist.dto.SetlistBulkCreateResponse.DateResult;
+import com.conti.domain.setlist.dto.SetlistBulkCreateResponse.Progress;
+import com.conti.domain.setlist.entity.Setlist;
+import com.conti.domain.setlist.entity.SetlistTemplate;
+import com.conti.domain.setlist.entity.WorshipType;
+import com.conti.domain.setlist.repository.SetlistItemRepository;
+import com.conti.domain.setlist.repository.SetlistJdbcRepository;
+import com.conti.domain.setlist.repository.SetlistRepository;
+import com.conti.domain.setlist.repository.SetlistTemplateRepository;
+import com.conti.domain.song.repository.SongUsageRepository;
+import com.conti.domain.song.service.SongUsageSummaryService;
+import com.conti.domain.team.entity.Team;
+import com.conti.domain.team.repository.TeamRepository;
+import com.conti.global.error.BusinessException;
+import com.conti.global.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SetlistBulkService {
+
+    static final int MAX_DATES = 104;
+    static final int CHUNK_SIZE = 26;
+
+    private final TeamRepository teamRepository;
+    private final SetlistTemplateRepository setlistTemplateRepository;
+    private final SetlistRepository setlistRepository;
+    private final SetlistJdbcRepository setlistJdbcRepository;
+    private final SetlistItemRepository setlistItemRepository;
+    private final SongUsageRepository songUsageRepository;
+    private final SongUsageSummaryService songUsageSummaryService;
+
+    /**
+     * Creates one setlist per recurring date from the template in a single transaction. Dates that already have
+     * a setlist of the same worship type are skipped. Each chunk of dates costs a fixed number of statements:
+     * one multi-row INSERT for the setlists and one INSERT ... SELECT each for their items and song usages.
+     */
+    @Transactional
+    public SetlistBulkCreateResponse createSetlistsFromTemplate(Long teamId, Long userId,
+                                                                SetlistBulkCreateRequest request,
+                                                                Consumer<Progress> progressListener) {
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
+        SetlistTemplate template = setlistTemplateRepository.findById(request.templateId())
+                .filter(found -> found.getTeam().getId().equals(teamId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.TEMPLATE_NOT_FOUND));
+
+        List<LocalDate> dates = request.worshipDates();
+        if (dates.isEmpty() || dates.size() > MAX_DATES) {
+            throw new BusinessException(ErrorCode.INVALID_BULK_RANGE);
+        }
+
+        WorshipType worshipType = request.worshipType() != null ? request.worshipType() : template.getWorshipType();
+        String title = request.title() != null ? request.title() : template.getName();
+        Map<LocalDate, Long> existing = findExisting(teamId, worshipType, dates.get(0), dates.get(dates.size() - 1))
+                .stream()
+                .collect(Collectors.toMap(Setlist::getWorshipDate, Setlist::getId, (first, second) -> first));
+
+        List<DateResult> results = new ArrayList<>(dates.size());
+        for (int from = 0; from < dates.size(); from += CHUNK_SIZE) {
+            List<LocalDate> chunk = dates.subList(from, Math.min(from + CHUNK_SIZE, dates.size()));
+
+            List<Setlist> drafts = chunk.stream()
+                    .filter(date -> !existing.containsKey(date))
+                    .map(date -> Setlist.builder()
+                            .team(team)
+                            .creatorId(userId)
+                            .title(date + " " + title)
+                            .worshipDate(date)
+                            .worshipType(worshipType)
+                            .leaderId(request.leaderId())
+                            .build())
+                    .toList();
+            List<Long> createdIds = setlistJdbcRepository.insertAll(drafts);
+            if (!createdIds.isEmpty()) {
+                setlistItemRepository.copyItemsFromTemplate(template.getId(), createdIds);
+                if (songUsageRepository.insertForSetlistItems(createdIds) > 0) {
+                    songUsageSummaryService.recordSetlistUsages(createdIds);
+                }
+            }
+
+            int created = 0;
+            for (LocalDate date : chunk) {
+                results.add(existing.containsKey(date)
+                        ? new DateResult(date, existing.get(date), false)
+                        : new DateResult(date, createdIds.get(created++), true));
+            }
+            progressListener.accept(new Progress(results.size(), dates.size()));
+        }
+
+        return SetlistBulkCreateResponse.of(results);
+    }
+
+    // A setlist without a worship type only matches others without one; "= NULL" would never match
+    private List<Setlist> findExisting(Long teamId, WorshipType worshipType, LocalDate fromDate, LocalDate toDate) {
+        if (worshipType == null) {
+            return setlistRepository.findByTeamIdAndWorshipTypeIsNullAndWorshipDateBetween(teamId, fromDate, toDate);
+        }
+        return setlistRepository.findByTeamIdAndWorshipTypeAndWorshipDateBetween(teamId, worshipType, fromDate, toDate);
+    }
+}
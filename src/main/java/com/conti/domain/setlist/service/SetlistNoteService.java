@@ -8,6 +8,7 @@ import com.conti.domain.setlist.repository.SetlistNoteRepository;
 import com.conti.domain.setlist.repository.SetlistRepository;
 import com.conti.domain.user.entity.User;
 import com.conti.domain.user.repository.UserRepository;
+import com.conti.domain.user.service.UserNameResolver;
 import com.conti.global.error.BusinessException;
 import com.conti.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +25,7 @@ public class SetlistNoteService {
     private final SetlistNoteRepository setlistNoteRepository;
     private final SetlistRepository setlistRepository;
     private final UserRepository userRepository;
+    private final UserNameResolver userNameResolver;
 
     @Transactional(readOnly = true)
     public List<SetlistNoteResponse> getNotes(Long setlistId, String position) {
@@ -36,13 +39,12 @@ public class SetlistNoteService {
             notes = setlistNoteRepository.findBySetlistIdOrderByCreatedAtDesc(setlistId);
         }
 
+        Map<Long, String> authorNames = userNameResolver.resolveNames(
+                notes.stream().map(SetlistNote::getAuthorId).toList());
+
         return notes.stream()
-                .map(note -> {
-                    String authorName = userRepository.findById(note.getAuthorId())
-                            .map(User::getName)
-                            .orElse("알 수 없음");
-                    return SetlistNoteResponse.from(note, authorName);
-                })
+                .map(note -> SetlistNoteResponse.from(note,
+                        authorNames.getOrDefault(note.getAuthorId(), "알 수 없음")))
                 .toList();
     }
 
@@ -0,0 +1,27 @@
+package com.conti.domain.setlist.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SetlistRankRebalanceTask {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final SetlistService setlistService;
+
+    @Scheduled(cron = "0 0 4 * * *")
+    public void rebalanceRanks() {
+        int total = 0;
+        int rebalanced;
+        do {
+            rebalanced = setlistService.rebalanceItemRanks(CHUNK_SIZE);
+            total += rebalanced;
+        } while (rebalanced == CHUNK_SIZE);
+        log.info("Rebalanced item ranks of {} setlist(s)", total);
+    }
+}
@@ -1,41 +1,57 @@
 package com.conti.domain.setlist.service;
 
+import com.conti.domain.setlist.dto.MoveItemRequest;
 import com.conti.domain.setlist.dto.ReorderRequest;
 import com.conti.domain.setlist.dto.SetlistCopyRequest;
 import com.conti.domain.setlist.dto.SetlistCreateRequest;
+import com.conti.domain.setlist.dto.SetlistChangesResponse;
 import com.conti.domain.setlist.dto.SetlistDetailResponse;
 import com.conti.domain.setlist.dto.SetlistItemRequest;
 import com.conti.domain.setlist.dto.SetlistItemResponse;
 import com.conti.domain.setlist.dto.SetlistResponse;
 import com.conti.domain.setlist.dto.SetlistSearchCondition;
 import com.conti.domain.setlist.dto.SetlistUpdateRequest;
+import com.conti.domain.setlist.dto.SetlistVersionResponse;
+import com.conti.domain.setlist.entity.OrderRank;
+import com.conti.domain.setlist.event.SetlistChangedEvent;
 import com.conti.domain.setlist.entity.Setlist;
 import com.conti.domain.setlist.entity.SetlistItem;
+import com.conti.domain.setlist.entity.SetlistItemRemoval;
 import com.conti.domain.setlist.entity.SetlistItemType;
 import com.conti.domain.setlist.entity.SetlistTemplate;
-import com.conti.domain.setlist.entity.SetlistTemplateItem;
+import com.conti.domain.setlist.repository.SetlistItemRemovalRepository;
 import com.conti.domain.setlist.repository.SetlistItemRepository;
 import com.conti.domain.setlist.repository.SetlistRepository;
 import com.conti.domain.setlist.repository.SetlistTemplateRepository;
 import com.conti.domain.notification.entity.NotificationType;
 import com.conti.domain.notification.service.NotificationService;
-import com.conti.domain.schedule.entity.ServiceSchedule;
 import com.conti.domain.schedule.repository.ServiceScheduleRepository;
 import com.conti.domain.song.entity.Song;
 import com.conti.domain.song.entity.SongUsage;
 import com.conti.domain.song.repository.SongRepository;
 import com.conti.domain.song.repository.SongUsageRepository;
+import com.conti.domain.song.service.SongUsageSummaryService;
 import com.conti.domain.team.entity.Team;
 import com.conti.domain.team.repository.TeamRepository;
+import com.conti.global.common.Cursor;
+import com.conti.global.common.CursorResponse;
 import com.conti.global.error.BusinessException;
 import com.conti.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -44,18 +60,28 @@ public class SetlistService {
 
     private final SetlistRepository setlistRepository;
     private final SetlistItemRepository setlistItemRepository;
+    private final SetlistItemRemovalRepository setlistItemRemovalRepository;
     private final SongRepository songRepository;
     private final SongUsageRepository songUsageRepository;
     private final TeamRepository teamRepository;
     private final SetlistTemplateRepository setlistTemplateRepository;
     private final ServiceScheduleRepository serviceScheduleRepository;
     private final NotificationService notificationService;
+    private final SongUsageSummaryService songUsageSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<SetlistResponse> getSetlists(Long teamId, SetlistSearchCondition condition, Pageable pageable) {
         return setlistRepository.searchSetlists(teamId, condition, pageable)
                 .map(SetlistResponse::from);
     }
 
+    public CursorResponse<SetlistResponse> getSetlistsByCursor(Long teamId, SetlistSearchCondition condition, String cursor, int size) {
+        Slice<Setlist> setlists = setlistRepository.searchSetlistsByCursor(
+                teamId, condition, Cursor.decode(cursor), CursorResponse.clampSize(size));
+        return CursorResponse.of(setlists, SetlistResponse::from,
+                setlist -> Cursor.of(setlist.getWorshipDate(), setlist.getId()));
+    }
+
     @Transactional
     public SetlistResponse createSetlist(Long teamId, Long userId, SetlistCreateRequest request) {
         Team team = teamRepository.findById(teamId)
@@ -95,36 +121,55 @@ public class SetlistService {
 
         Setlist savedSetlist = setlistRepository.save(setlist);
 
-        for (SetlistTemplateItem templateItem : template.getItems()) {
-            SetlistItem item = SetlistItem.builder()
-                    .setlist(savedSetlist)
-                    .itemType(templateItem.getItemType())
-                    .title(templateItem.getTitle())
-                    .song(templateItem.getSong())
-                    .orderIndex(templateItem.getOrderIndex())
-                    .durationMinutes(templateItem.getDurationMinutes())
-                    .color(templateItem.getColor())
-                    .servicePhase(templateItem.getServicePhase())
-                    .build();
-            savedSetlist.getSetlistItems().add(item);
-        }
-
-        setlistRepository.flush();
-        return SetlistResponse.from(savedSetlist);
+        int itemCount = setlistItemRepository.copyItemsFromTemplate(templateId, List.of(savedSetlist.getId()));
+        recordCopiedUsages(savedSetlist.getId());
+        return SetlistResponse.from(savedSetlist, itemCount);
     }
 
     public SetlistDetailResponse getSetlist(Long setlistId) {
-        Setlist setlist = setlistRepository.findById(setlistId)
+        Setlist setlist = setlistRepository.findWithItemsById(setlistId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SETLIST_NOT_FOUND));
 
         return SetlistDetailResponse.from(setlist);
     }
 
-    @Transactional
-    public SetlistResponse updateSetlist(Long setlistId, SetlistUpdateRequest request) {
+    public long getVersion(Long setlistId) {
+        return setlistRepository.findVersionById(setlistId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.SETLIST_NOT_FOUND));
+    }
+
+    /**
+     * Items added or changed and items removed after the given version, with the current item order,
+     * so clients holding version {@code since} can catch up without reloading the whole setlist.
+     */
+    public SetlistChangesResponse getChanges(Long setlistId, long since) {
         Setlist setlist = setlistRepository.findById(setlistId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SETLIST_NOT_FOUND));
 
+        List<Long> itemOrder = setlistItemRepository.findIdsBySetlistId(setlistId);
+        if (since >= setlist.getVersion()) {
+            return new SetlistChangesResponse(setlist.getVersion(), SetlistResponse.from(setlist, itemOrder.size()),
+                    List.of(), List.of(), itemOrder);
+        }
+
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < itemOrder.size(); i++) {
+            positions.put(itemOrder.get(i), i);
+        }
+        List<SetlistItemResponse> changedItems = setlistItemRepository.findChangedAfter(setlistId, since).stream()
+                .map(item -> SetlistItemResponse.from(item, positions.get(item.getId())))
+                .sorted(Comparator.comparingInt(SetlistItemResponse::orderIndex))
+                .toList();
+        List<Long> removedItemIds = setlistItemRemovalRepository.findItemIdsRemovedAfter(setlistId, since);
+
+        return new SetlistChangesResponse(setlist.getVersion(), SetlistResponse.from(setlist, itemOrder.size()),
+                changedItems, removedItemIds, itemOrder);
+    }
+
+    @Transactional
+    public SetlistResponse updateSetlist(Long setlistId, SetlistUpdateRequest request, Long expectedVersion) {
+        Setlist setlist = beginEdit(setlistId, expectedVersion);
+
         if (request.title() != null) {
             setlist.updateTitle(request.title());
         }
@@ -140,9 +185,13 @@ public class SetlistService {
         if (request.memo() != null) {
             setlist.updateMemo(request.memo());
         }
+        if (request.worshipDate() != null || request.leaderId() != null) {
+            songUsageSummaryService.syncSetlistUsages(setlistId, setlist.getLeaderId(), setlist.getWorshipDate());
+        }
 
         // Notify scheduled members about setlist update
         notifyScheduledMembers(setlist, "콘티가 수정되었습니다: " + setlist.getTitle());
+        eventPublisher.publishEvent(SetlistChangedEvent.setlistUpdated(setlistId, setlist.getVersion()));
 
         return SetlistResponse.from(setlist);
     }
@@ -152,6 +201,7 @@ public class SetlistService {
         Setlist setlist = setlistRepository.findById(setlistId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SETLIST_NOT_FOUND));
 
+        setlistItemRemovalRepository.deleteBySetlistId(setlistId);
         setlistRepository.delete(setlist);
     }
 
@@ -171,34 +221,16 @@ public class SetlistService {
 
         Setlist savedCopy = setlistRepository.save(copy);
 
-        int index = 0;
-        for (SetlistItem sourceItem : source.getSetlistItems()) {
-            SetlistItem copiedItem = SetlistItem.builder()
-                    .setlist(savedCopy)
-                    .itemType(sourceItem.getItemType())
-                    .title(sourceItem.getTitle())
-                    .song(sourceItem.getSong())
-                    .orderIndex(index++)
-                    .songKey(sourceItem.getSongKey())
-                    .durationMinutes(sourceItem.getDurationMinutes())
-                    .memo(sourceItem.getMemo())
-                    .color(sourceItem.getColor())
-                    .servicePhase(sourceItem.getServicePhase())
-                    .build();
-            savedCopy.getSetlistItems().add(copiedItem);
-        }
-
-        setlistRepository.flush();
-        return SetlistResponse.from(savedCopy);
+        int itemCount = setlistItemRepository.copyItemsFromSetlist(setlistId, savedCopy.getId());
+        recordCopiedUsages(savedCopy.getId());
+        return SetlistResponse.from(savedCopy, itemCount);
     }
 
     @Transactional
-    public SetlistItemResponse addItem(Long setlistId, SetlistItemRequest request) {
-        Setlist setlist = setlistRepository.findById(setlistId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.SETLIST_NOT_FOUND));
+    public SetlistItemResponse addItem(Long setlistId, SetlistItemRequest request, Long expectedVersion) {
+        Setlist setlist = beginEdit(setlistId, expectedVersion);
 
         SetlistItemType itemType = request.itemType() != null ? request.itemType() : SetlistItemType.SONG;
-        int orderIndex = setlist.getSetlistItems().size();
 
         Song song = null;
         if (itemType == SetlistItemType.SONG) {
@@ -213,20 +245,23 @@ public class SetlistService {
             }
         }
 
+        List<SetlistItem> items = setlist.getSetlistItems();
+        int position = positionAfter(items, request.afterItemId(), items.size());
         SetlistItem item = SetlistItem.builder()
                 .setlist(setlist)
                 .itemType(itemType)
                 .title(request.title())
                 .song(song)
-                .orderIndex(orderIndex)
+                .orderIndex(rankAt(items, position))
                 .songKey(request.songKey())
                 .durationMinutes(request.durationMinutes())
                 .memo(request.memo())
                 .color(request.color())
                 .servicePhase(request.servicePhase())
+                .version(setlist.getVersion())
                 .build();
 
-        setlist.getSetlistItems().add(item);
+        items.add(position, item);
         setlistRepository.flush();
 
         // Create SongUsage record only for SONG items
@@ -234,19 +269,25 @@ public class SetlistService {
             SongUsage songUsage = SongUsage.builder()
                     .song(song)
                     .setlist(setlist)
+                    .teamId(setlist.getTeam().getId())
+                    .leaderId(setlist.getLeaderId())
                     .usedKey(request.songKey())
                     .usedAt(setlist.getWorshipDate())
                     .build();
             songUsageRepository.save(songUsage);
+            songUsageSummaryService.recordUsage(songUsage);
         }
 
-        return SetlistItemResponse.from(item);
+        SetlistItemResponse response = SetlistItemResponse.from(item, position);
+        eventPublisher.publishEvent(SetlistChangedEvent.itemChanged(
+                setlistId, setlist.getVersion(), SetlistChangedEvent.Type.ITEM_ADDED, response));
+        return response;
     }
 
     @Transactional
-    public SetlistItemResponse updateItem(Long setlistId, Long itemId, SetlistItemRequest request) {
-        SetlistItem item = setlistItemRepository.findById(itemId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.SETLIST_NOT_FOUND));
+    public SetlistItemResponse updateItem(Long setlistId, Long itemId, SetlistItemRequest request, Long expectedVersion) {
+        Setlist setlist = beginEdit(setlistId, expectedVersion);
+        SetlistItem item = findItem(setlistId, itemId);
 
         if (request.songKey() != null) {
             item.updateSongKey(request.songKey());
@@ -266,43 +307,169 @@ public class SetlistService {
         if (request.servicePhase() != null) {
             item.updateServicePhase(request.servicePhase());
         }
+        item.updateVersion(setlist.getVersion());
 
-        return SetlistItemResponse.from(item);
+        int position = setlistItemRepository.countBySetlistIdAndOrderIndexLessThan(setlistId, item.getOrderIndex());
+        SetlistItemResponse response = SetlistItemResponse.from(item, position);
+        eventPublisher.publishEvent(SetlistChangedEvent.itemChanged(
+                setlistId, setlist.getVersion(), SetlistChangedEvent.Type.ITEM_UPDATED, response));
+        return response;
     }
 
     @Transactional
-    public void removeItem(Long setlistId, Long itemId) {
-        SetlistItem item = setlistItemRepository.findById(itemId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.SETLIST_NOT_FOUND));
-
-        setlistItemRepository.delete(item);
+    public SetlistVersionResponse removeItem(Long setlistId, Long itemId, Long expectedVersion) {
+        Setlist setlist = beginEdit(setlistId, expectedVersion);
+        SetlistItem item = findItem(setlistId, itemId);
+
+        setlist.getSetlistItems().remove(item);
+        setlistItemRemovalRepository.save(SetlistItemRemoval.builder()
+                .setlistId(setlistId)
+                .itemId(itemId)
+                .version(setlist.getVersion())
+                .build());
+
+        if (item.getSong() != null) {
+            removeSongUsage(item);
+        }
+        eventPublisher.publishEvent(SetlistChangedEvent.itemRemoved(setlistId, setlist.getVersion(), itemId));
+        return new SetlistVersionResponse(setlist.getVersion());
     }
 
     @Transactional
-    public void reorderItems(Long setlistId, ReorderRequest request) {
+    public SetlistVersionResponse reorderItems(Long setlistId, ReorderRequest request, Long expectedVersion) {
+        Setlist setlist = beginEdit(setlistId, expectedVersion);
         List<Long> itemIds = request.itemIds();
 
-        for (int i = 0; i < itemIds.size(); i++) {
-            SetlistItem item = setlistItemRepository.findById(itemIds.get(i))
-                    .orElseThrow(() -> new BusinessException(ErrorCode.SETLIST_NOT_FOUND));
-            item.updateOrderIndex(i);
+        // Must be a permutation of the setlist's current items
+        Set<Long> currentIds = new HashSet<>(setlistItemRepository.findIdsBySetlistId(setlistId));
+        if (itemIds.size() != currentIds.size() || !currentIds.equals(new HashSet<>(itemIds))) {
+            throw new BusinessException(ErrorCode.INVALID_REORDER_ITEMS);
         }
+
+        long version = setlist.getVersion();
+        setlistItemRepository.updateOrderIndexes(setlistId, itemIds);
+        eventPublisher.publishEvent(SetlistChangedEvent.itemsReordered(setlistId, version, List.copyOf(itemIds)));
+        return new SetlistVersionResponse(version);
     }
 
-    private void notifyScheduledMembers(Setlist setlist, String message) {
-        List<ServiceSchedule> schedules = serviceScheduleRepository
-                .findBySetlistIdWithMember(setlist.getId());
-
-        for (ServiceSchedule schedule : schedules) {
-            Long userId = schedule.getTeamMember().getUser().getId();
-            notificationService.createNotification(
-                    userId,
-                    NotificationType.SETLIST_UPDATED,
-                    "콘티 수정 알림",
-                    message,
-                    "SETLIST",
-                    setlist.getId()
-            );
+    @Transactional
+    public SetlistItemResponse moveItem(Long setlistId, Long itemId, MoveItemRequest request, Long expectedVersion) {
+        Setlist setlist = beginEdit(setlistId, expectedVersion);
+        SetlistItem item = findItem(setlistId, itemId);
+
+        List<SetlistItem> items = setlist.getSetlistItems();
+        items.remove(item);
+        int position = positionAfter(items, request.afterItemId(), 0);
+        item.updateOrderIndex(rankAt(items, position));
+        item.updateVersion(setlist.getVersion());
+        items.add(position, item);
+
+        SetlistItemResponse response = SetlistItemResponse.from(item, position);
+        eventPublisher.publishEvent(SetlistChangedEvent.itemChanged(
+                setlistId, setlist.getVersion(), SetlistChangedEvent.Type.ITEM_MOVED, response));
+        return response;
+    }
+
+    /**
+     * Renumbers setlists whose neighbouring ranks have become too close, so later moves stay single-row writes.
+     * The visible order does not change, so the setlist row is only locked against concurrent edits and keeps
+     * its version; clients holding an If-Match are not affected. Returns the number of setlists renumbered.
+     */
+    @Transactional
+    public int rebalanceItemRanks(int limit) {
+        List<Long> setlistIds = setlistItemRepository.findSetlistIdsWithDenseRanks(OrderRank.MIN_GAP, limit);
+        for (Long setlistId : setlistIds) {
+            if (setlistRepository.findByIdForUpdate(setlistId).isEmpty()) {
+                continue;
+            }
+            List<Long> itemIds = setlistItemRepository.findIdsBySetlistId(setlistId);
+            setlistItemRepository.updateOrderIndexes(setlistId, itemIds);
+        }
+        return setlistIds.size();
+    }
+
+    /**
+     * Locks the setlist row and moves it to the next version. Edits of one setlist are serialized by the lock,
+     * and a client that sent If-Match with an older version gets 412 instead of overwriting newer changes.
+     */
+    private Setlist beginEdit(Long setlistId, Long expectedVersion) {
+        Setlist setlist = setlistRepository.findByIdForUpdate(setlistId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.SETLIST_NOT_FOUND));
+        if (expectedVersion != null && !expectedVersion.equals(setlist.getVersion())) {
+            throw new BusinessException(ErrorCode.SETLIST_VERSION_MISMATCH);
+        }
+        setlist.increaseVersion();
+        return setlist;
+    }
+
+    private SetlistItem findItem(Long setlistId, Long itemId) {
+        return setlistItemRepository.findById(itemId)
+                .filter(found -> found.getSetlist().getId().equals(setlistId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.SETLIST_NOT_FOUND));
+    }
+
+    private int positionAfter(List<SetlistItem> items, Long afterItemId, int defaultPosition) {
+        if (afterItemId == null) {
+            return defaultPosition;
+        }
+        for (int i = 0; i < items.size(); i++) {
+            if (afterItemId.equals(items.get(i).getId())) {
+                return i + 1;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_ITEM_POSITION);
+    }
+
+    /**
+     * Rank for an item placed at the given position of the ordered list. Only when the neighbours have no
+     * room left are the other items renumbered, leaving a free slot at that position.
+     */
+    private int rankAt(List<SetlistItem> items, int position) {
+        Integer before = position > 0 ? items.get(position - 1).getOrderIndex() : null;
+        Integer after = position < items.size() ? items.get(position).getOrderIndex() : null;
+        Integer rank = OrderRank.between(before, after);
+        if (rank != null) {
+            return rank;
+        }
+
+        for (int i = 0; i < items.size(); i++) {
+            items.get(i).updateOrderIndex(OrderRank.at(i < position ? i : i + 1));
+        }
+        return OrderRank.at(position);
+    }
+
+    // Items were cloned with INSERT ... SELECT, so their usages are written the same way
+    private void recordCopiedUsages(Long setlistId) {
+        if (songUsageRepository.insertForSetlistItems(List.of(setlistId)) > 0) {
+            songUsageSummaryService.recordSetlistUsages(List.of(setlistId));
+        }
+    }
+
+    private void removeSongUsage(SetlistItem item) {
+        List<SongUsage> usages = songUsageRepository
+                .findBySetlistIdAndSongId(item.getSetlist().getId(), item.getSong().getId());
+        if (usages.isEmpty()) {
+            return;
         }
+
+        SongUsage usage = usages.stream()
+                .filter(u -> Objects.equals(u.getUsedKey(), item.getSongKey()))
+                .findFirst()
+                .orElse(usages.get(0));
+        songUsageRepository.delete(usage);
+        songUsageRepository.flush();
+        songUsageSummaryService.removeUsage(usage);
+    }
+
+    private void notifyScheduledMembers(Setlist setlist, String message) {
+        List<Long> userIds = serviceScheduleRepository.findUserIdsBySetlistId(setlist.getId());
+        notificationService.requestNotifications(
+                userIds,
+                NotificationType.SETLIST_UPDATED,
+                "콘티 수정 알림",
+                message,
+                "SETLIST",
+                setlist.getId()
+        );
     }
 }
@@ -3,6 +3,7 @@ package com.conti.domain.setlist.service;
 import com.conti.domain.setlist.dto.SetlistTemplateCreateRequest;
 import com.conti.domain.setlist.dto.SetlistTemplateItemRequest;
 import com.conti.domain.setlist.dto.SetlistTemplateResponse;
+import com.conti.domain.setlist.entity.OrderRank;
 import com.conti.domain.setlist.entity.SetlistItemType;
 import com.conti.domain.setlist.entity.SetlistTemplate;
 import com.conti.domain.setlist.entity.SetlistTemplateItem;
@@ -68,7 +69,7 @@ public class SetlistTemplateService {
                 SetlistTemplateItem item = SetlistTemplateItem.builder()
                         .template(savedTemplate)
                         .itemType(itemType)
-                        .orderIndex(i)
+                        .orderIndex(OrderRank.at(i))
                         .song(song)
                         .title(itemReq.title())
                         .description(itemReq.description())
@@ -116,7 +117,7 @@ public class SetlistTemplateService {
                 SetlistTemplateItem item = SetlistTemplateItem.builder()
                         .template(template)
                         .itemType(itemType)
-                        .orderIndex(i)
+                        .orderIndex(OrderRank.at(i))
                         .song(song)
                         .title(itemReq.title())
                         .description(itemReq.description())
@@ -0,0 +1,77 @@
+package com.conti.domain.song.controller;
+
+import com.conti.domain.song.dto.KeyTrendResponse;
+import com.conti.domain.song.dto.LeaderRotationResponse;
+import com.conti.domain.song.dto.TagPopularityResponse;
+import com.conti.domain.song.dto.TopSongResponse;
+import com.conti.domain.song.service.SongAnalyticsService;
+import com.conti.global.auth.TeamAuth;
+import com.conti.global.common.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Tag(name = "사용 통계", description = "팀 곡 사용 분석")
+@RestController
+@RequestMapping("/api/v1/teams/{teamId}/analytics")
+@RequiredArgsConstructor
+public class SongAnalyticsController {
+
+    private final SongAnalyticsService songAnalyticsService;
+
+    @Operation(summary = "인기 곡 랭킹", description = "기간별 사용 횟수 Top N 곡 조회")
+    @TeamAuth(roles = {"ADMIN", "VIEWER", "GUEST"})
+    @GetMapping("/top-songs")
+    public ApiResponse<List<TopSongResponse>> getTopSongs(
+            @Parameter(description = "팀 ID") @PathVariable Long teamId,
+            @Parameter(description = "시작 날짜") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @Parameter(description = "종료 날짜") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @Parameter(description = "상위 N개") @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ApiResponse.ok(songAnalyticsService.getTopSongs(teamId, fromDate, toDate, limit));
+    }
+
+    @Operation(summary = "키 사용 추이", description = "기간 내 월별 사용 키 분포")
+    @TeamAuth(roles = {"ADMIN", "VIEWER", "GUEST"})
+    @GetMapping("/key-trends")
+    public ApiResponse<List<KeyTrendResponse>> getKeyTrends(
+            @Parameter(description = "팀 ID") @PathVariable Long teamId,
+            @Parameter(description = "시작 날짜") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @Parameter(description = "종료 날짜") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate
+    ) {
+        return ApiResponse.ok(songAnalyticsService.getKeyTrends(teamId, fromDate, toDate));
+    }
+
+    @Operation(summary = "인도자 로테이션", description = "기간 내 인도자별 인도 횟수 (마지막 인도일이 오래된 순)")
+    @TeamAuth(roles = {"ADMIN", "VIEWER", "GUEST"})
+    @GetMapping("/leader-rotation")
+    public ApiResponse<List<LeaderRotationResponse>> getLeaderRotation(
+            @Parameter(description = "팀 ID") @PathVariable Long teamId,
+            @Parameter(description = "시작 날짜") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @Parameter(description = "종료 날짜") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate
+    ) {
+        return ApiResponse.ok(songAnalyticsService.getLeaderRotation(teamId, fromDate, toDate));
+    }
+
+    @Operation(summary = "태그 인기도", description = "기간 내 태그별 곡 사용 횟수")
+    @TeamAuth(roles = {"ADMIN", "VIEWER", "GUEST"})
+    @GetMapping("/tag-popularity")
+    public ApiResponse<List<TagPopularityResponse>> getTagPopularity(
+            @Parameter(description = "팀 ID") @PathVariable Long teamId,
+            @Parameter(description = "시작 날짜") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @Parameter(description = "종료 날짜") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @Parameter(description = "상위 N개") @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ApiResponse.ok(songAnalyticsService.getTagPopularity(teamId, fromDate, toDate, limit));
+    }
+}
@@ -11,9 +11,12 @@ import com.conti.domain.song.dto.SongStatsResponse;
 import com.conti.domain.song.dto.SongUpdateRequest;
 import com.conti.domain.song.dto.SongUsageResponse;
 import com.conti.domain.song.dto.TopSongResponse;
+import com.conti.domain.song.search.SongSearchMode;
+import com.conti.domain.song.service.SongAnalyticsService;
 import com.conti.domain.song.service.SongService;
 import com.conti.global.auth.TeamAuth;
 import com.conti.global.common.ApiResponse;
+import com.conti.global.common.CursorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -44,6 +47,7 @@ import java.util.List;
 public class SongController {
 
     private final SongService songService;
+    private final SongAnalyticsService songAnalyticsService;
 
     @Operation(summary = "찬양 목록 조회", description = "검색 조건으로 필터링 가능")
     @TeamAuth(roles = {"ADMIN", "VIEWER", "GUEST"})
@@ -51,16 +55,35 @@ public class SongController {
     public ApiResponse<Page<SongResponse>> getSongs(
             @Parameter(description = "팀 ID") @PathVariable Long teamId,
             @Parameter(description = "검색 키워드 (제목/아티스트)") @RequestParam(required = false) String keyword,
+            @Parameter(description = "검색 모드 (CONTAINS, CHOSUNG, JAMO)") @RequestParam(required = false) SongSearchMode searchMode,
             @Parameter(description = "태그 필터") @RequestParam(required = false) List<String> tags,
             @Parameter(description = "원키 필터") @RequestParam(required = false) String key,
             @Parameter(description = "미사용 주수 필터") @RequestParam(required = false) Integer unusedWeeks,
             @Parameter(description = "인도자 ID 필터") @RequestParam(required = false) Long leaderId,
             Pageable pageable
     ) {
-        SongSearchCondition condition = new SongSearchCondition(keyword, tags, key, unusedWeeks, leaderId);
+        SongSearchCondition condition = new SongSearchCondition(keyword, searchMode, tags, key, unusedWeeks, leaderId);
         return ApiResponse.ok(songService.getSongs(teamId, condition, pageable));
     }
 
+    @Operation(summary = "찬양 목록 커서 조회", description = "무한 스크롤용. 최신 등록순, 전체 개수를 계산하지 않음")
+    @TeamAuth(roles = {"ADMIN", "VIEWER", "GUEST"})
+    @GetMapping("/cursor")
+    public ApiResponse<CursorResponse<SongResponse>> getSongsByCursor(
+            @Parameter(description = "팀 ID") @PathVariable Long teamId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "검색 키워드 (제목/아티스트)") @RequestParam(required = false) String keyword,
+            @Parameter(description = "검색 모드 (CONTAINS, CHOSUNG, JAMO)") @RequestParam(required = false) SongSearchMode searchMode,
+            @Parameter(description = "태그 필터") @RequestParam(required = false) List<String> tags,
+            @Parameter(description = "원키 필터") @RequestParam(required = false) String key,
+            @Parameter(description = "미사용 주수 필터") @RequestParam(required = false) Integer unusedWeeks,
+            @Parameter(description = "인도자 ID 필터") @RequestParam(required = false) Long leaderId
+    ) {
+        SongSearchCondition condition = new SongSearchCondition(keyword, searchMode, tags, key, unusedWeeks, leaderId);
+        return ApiResponse.ok(songService.getSongsByCursor(teamId, condition, cursor, size));
+    }
+
     @Operation(summary = "곡 사용 통계 - 인기 곡 랭킹", description = "기간별 사용 횟수 Top N 곡 조회")
     @TeamAuth(roles = {"ADMIN", "VIEWER", "GUEST"})
     @GetMapping("/stats")
@@ -70,7 +93,7 @@ public class SongController {
             @Parameter(description = "종료 날짜") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
             @Parameter(description = "상위 N개") @RequestParam(defaultValue = "10") int limit
     ) {
-        return ApiResponse.ok(songService.getTopSongs(teamId, fromDate, toDate, limit));
+        return ApiResponse.ok(songAnalyticsService.getTopSongs(teamId, fromDate, toDate, limit));
     }
 
     @Operation(summary = "개별 곡 사용 통계", description = "월별 사용, 키 분포, 인도자별 통계")
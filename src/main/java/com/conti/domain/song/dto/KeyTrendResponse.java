@@ -0,0 +1,11 @@
+package com.conti.domain.song.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "월별 키 사용 추이 응답")
+public record KeyTrendResponse(
+        @Schema(description = "연도") int year,
+        @Schema(description = "월") int month,
+        @Schema(description = "사용 키") String key,
+        @Schema(description = "사용 횟수") long usageCount
+) {}
@@ -0,0 +1,14 @@
+package com.conti.domain.song.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(description = "인도자 로테이션 응답")
+public record LeaderRotationResponse(
+        @Schema(description = "인도자 ID") Long leaderId,
+        @Schema(description = "인도자 이름") String leaderName,
+        @Schema(description = "인도한 콘티 수") long setlistCount,
+        @Schema(description = "사용한 곡 수") long songCount,
+        @Schema(description = "마지막 인도일") LocalDate lastLedAt
+) {}
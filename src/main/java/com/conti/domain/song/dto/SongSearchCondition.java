@@ -1,12 +1,24 @@
 package com.conti.domain.song.dto;
 
+import com.conti.domain.song.search.SongSearchMode;
+
 import java.util.List;
 
 public record SongSearchCondition(
         String keyword,
+        SongSearchMode searchMode,
         List<String> tags,
         String key,
         Integer unusedWeeks,
         Long leaderId
 ) {
+    public SongSearchCondition {
+        if (searchMode == null) {
+            searchMode = SongSearchMode.CONTAINS;
+        }
+    }
+
+    public SongSearchCondition(String keyword, List<String> tags, String key, Integer unusedWeeks, Long leaderId) {
+        this(keyword, SongSearchMode.CONTAINS, tags, key, unusedWeeks, leaderId);
+    }
 }
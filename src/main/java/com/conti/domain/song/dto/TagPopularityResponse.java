@@ -0,0 +1,9 @@
+package com.conti.domain.song.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "태그별 사용 횟수 응답")
+public record TagPopularityResponse(
+        @Schema(description = "태그") String tag,
+        @Schema(description = "사용 횟수") long usageCount
+) {}
@@ -16,8 +16,18 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Entity
 @Table(name = "songs")
@@ -94,4 +104,53 @@ public class Song extends BaseEntity {
     public void updateMusicUrl(String musicUrl) {
         this.musicUrl = musicUrl;
     }
+
+    /**
+     * Replaces the tags with the given ones, keeping rows whose tag is unchanged.
+     */
+    public void syncTags(Collection<String> tags) {
+        Set<String> added = new LinkedHashSet<>(tags);
+        songTags.removeIf(songTag -> !added.contains(songTag.getTag()));
+        songTags.forEach(songTag -> added.remove(songTag.getTag()));
+        for (String tag : added) {
+            songTags.add(SongTag.builder()
+                    .song(this)
+                    .tag(tag)
+                    .build());
+        }
+    }
+
+    /**
+     * Replaces the sections with the given ones. Existing rows are matched by (orderIndex, sectionType)
+     * and updated in place; only unmatched rows are deleted or inserted.
+     */
+    public void syncSections(List<SongSection> sections) {
+        Map<SectionKey, Deque<SongSection>> existing = new HashMap<>();
+        for (SongSection section : songSections) {
+            existing.computeIfAbsent(SectionKey.of(section), key -> new ArrayDeque<>()).add(section);
+        }
+
+        Set<SongSection> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<SongSection> added = new ArrayList<>();
+        for (SongSection section : sections) {
+            Deque<SongSection> matches = existing.get(SectionKey.of(section));
+            SongSection match = matches != null ? matches.poll() : null;
+            if (match != null) {
+                match.update(section.getLabel(), section.getChords(), section.getBuildUpLevel(), section.getMemo());
+                kept.add(match);
+            } else {
+                added.add(section);
+            }
+        }
+
+        songSections.removeIf(section -> !kept.contains(section));
+        songSections.addAll(added);
+        songSections.sort(Comparator.comparing(SongSection::getOrderIndex));
+    }
+
+    private record SectionKey(Integer orderIndex, SectionType sectionType) {
+        static SectionKey of(SongSection section) {
+            return new SectionKey(section.getOrderIndex(), section.getSectionType());
+        }
+    }
 }
@@ -55,4 +55,11 @@ public class SongSection {
 
     @Column(columnDefinition = "TEXT")
     private String memo;
+
+    public void update(String label, String chords, Integer buildUpLevel, String memo) {
+        this.label = label;
+        this.chords = chords;
+        this.buildUpLevel = buildUpLevel;
+        this.memo = memo;
+    }
 }
@@ -38,6 +38,9 @@ public class SongUsage {
     @JoinColumn(name = "setlist_id")
     private Setlist setlist;
 
+    @Column(name = "team_id")
+    private Long teamId;
+
     @Column(name = "used_key", length = 10)
     private String usedKey;
 
@@ -0,0 +1,101 @@
+package com.conti.domain.song.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+@Entity
+@Table(name = "song_usage_summaries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SongUsageSummary {
+
+    @Id
+    @Column(name = "song_id")
+    private Long songId;
+
+    @Column(name = "usage_count", nullable = false)
+    private long usageCount;
+
+    @Column(name = "last_used_at")
+    private LocalDate lastUsedAt;
+
+    // "yyyy-MM" -> count
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "monthly_usage", nullable = false)
+    private Map<String, Long> monthlyUsage = new HashMap<>();
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "key_usage", nullable = false)
+    private Map<String, Long> keyUsage = new HashMap<>();
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "leader_usage", nullable = false)
+    private Map<Long, Long> leaderUsage = new HashMap<>();
+
+    // Row exists but has not been aggregated from song_usages yet
+    @Column(nullable = false)
+    private boolean stale;
+
+    public static String monthKey(int year, int month) {
+        return String.format("%04d-%02d", year, month);
+    }
+
+    public void recordUsage(LocalDate usedAt, String usedKey, Long leaderId) {
+        adjust(usedAt, usedKey, leaderId, 1);
+        if (lastUsedAt == null || usedAt.isAfter(lastUsedAt)) {
+            lastUsedAt = usedAt;
+        }
+    }
+
+    public void removeUsage(LocalDate usedAt, String usedKey, Long leaderId) {
+        adjust(usedAt, usedKey, leaderId, -1);
+        if (usageCount == 0) {
+            lastUsedAt = null;
+        }
+    }
+
+    public void updateLastUsedAt(LocalDate lastUsedAt) {
+        this.lastUsedAt = lastUsedAt;
+    }
+
+    public void rebuild(long usageCount, LocalDate lastUsedAt, Map<String, Long> monthlyUsage,
+                        Map<String, Long> keyUsage, Map<Long, Long> leaderUsage) {
+        this.usageCount = usageCount;
+        this.lastUsedAt = lastUsedAt;
+        this.monthlyUsage = new HashMap<>(monthlyUsage);
+        this.keyUsage = new HashMap<>(keyUsage);
+        this.leaderUsage = new HashMap<>(leaderUsage);
+        this.stale = false;
+    }
+
+    private void adjust(LocalDate usedAt, String usedKey, Long leaderId, long delta) {
+        usageCount = Math.max(0, usageCount + delta);
+        increment(monthlyUsage, monthKey(usedAt.getYear(), usedAt.getMonthValue()), delta);
+        if (usedKey != null) {
+            increment(keyUsage, usedKey, delta);
+        }
+        if (leaderId != null) {
+            increment(leaderUsage, leaderId, delta);
+        }
+    }
+
+    private static <K> void increment(Map<K, Long> histogram, K key, long delta) {
+        long count = histogram.getOrDefault(key, 0L) + delta;
+        if (count > 0) {
+            histogram.put(key, count);
+        } else {
+            histogram.remove(key);
+        }
+    }
+}
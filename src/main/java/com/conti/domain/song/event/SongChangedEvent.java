@@ -0,0 +1,63 @@
+package com.conti.domain.song.event;
+
+import com.conti.domain.song.entity.Song;
+import com.conti.domain.song.entity.SongTag;
+
+import java.util.List;
+
+/**
+ * previousTags/tags are the song's distinct tags before and after the change,
+ * both null when the change did not touch tags.
+ */
+public record SongChangedEvent(
+        Long teamId,
+        Long songId,
+        String title,
+        String artist,
+        List<String> previousTags,
+        List<String> tags,
+        boolean deleted
+) {
+    public static SongChangedEvent created(Song song) {
+        return new SongChangedEvent(
+                song.getTeam().getId(),
+                song.getId(),
+                song.getTitle(),
+                song.getArtist(),
+                List.of(),
+                tagNames(song),
+                false
+        );
+    }
+
+    public static SongChangedEvent updated(Song song, List<String> previousTags) {
+        return new SongChangedEvent(
+                song.getTeam().getId(),
+                song.getId(),
+                song.getTitle(),
+                song.getArtist(),
+                previousTags,
+                previousTags != null ? tagNames(song) : null,
+                false
+        );
+    }
+
+    public static SongChangedEvent deleted(Song song) {
+        return new SongChangedEvent(
+                song.getTeam().getId(),
+                song.getId(),
+                song.getTitle(),
+                song.getArtist(),
+                tagNames(song),
+                List.of(),
+                true
+        );
+    }
+
+    public static List<String> tagNames(Song song) {
+        return song.getSongTags().stream()
+                .map(SongTag::getTag)
+                .distinct()
+                .toList();
+    }
+}
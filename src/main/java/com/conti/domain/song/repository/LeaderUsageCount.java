@@ -0,0 +1,6 @@
+package com.conti.domain.song.repository;
+
+import java.time.LocalDate;
+
+public record LeaderUsageCount(Long leaderId, long setlistCount, long songCount, LocalDate lastLedAt) {
+}
@@ -1,17 +1,15 @@
 package com.conti.domain.song.repository;
 
 import com.conti.domain.song.dto.SongSearchCondition;
-import com.conti.domain.song.dto.TopSongResponse;
 import com.conti.domain.song.entity.Song;
+import com.conti.global.common.Cursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-
-import java.time.LocalDate;
-import java.util.List;
+import org.springframework.data.domain.Slice;
 
 public interface SongQueryRepository {
 
     Page<Song> searchSongs(Long teamId, SongSearchCondition condition, Pageable pageable);
 
-    List<TopSongResponse> findTopSongs(Long teamId, LocalDate fromDate, LocalDate toDate, int limit);
+    Slice<Song> searchSongsByCursor(Long teamId, SongSearchCondition condition, Cursor cursor, int size);
 }
@@ -1,22 +1,33 @@
 package com.conti.domain.song.repository;
 
 import com.conti.domain.song.dto.SongSearchCondition;
-import com.conti.domain.song.dto.TopSongResponse;
 import com.conti.domain.song.entity.Song;
+import com.conti.domain.song.search.SongSearchIndex;
+import com.conti.global.common.Cursor;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.conti.domain.song.entity.QSong.song;
 import static com.conti.domain.song.entity.QSongTag.songTag;
@@ -27,45 +38,149 @@ import static com.conti.domain.song.entity.QSongUsage.songUsage;
 public class SongQueryRepositoryImpl implements SongQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final SongSearchIndex songSearchIndex;
 
     @Override
     public Page<Song> searchSongs(Long teamId, SongSearchCondition condition, Pageable pageable) {
-        BooleanBuilder builder = new BooleanBuilder();
-        builder.and(song.team.id.eq(teamId));
-
-        builder.and(keywordContains(condition.keyword()));
-        builder.and(originalKeyEquals(condition.key()));
-        builder.and(tagsIn(condition.tags()));
-        builder.and(unusedWithinWeeks(condition.unusedWeeks()));
-        builder.and(leaderIdEquals(condition.leaderId()));
+        Optional<SearchFilter> filter = searchConditions(teamId, condition);
+        if (filter.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        BooleanBuilder builder = filter.get().where();
+
+        if (filter.get().matchedIds() != null) {
+            // Too many index matches for an IN list; filter the ordered ids in memory so the total stays exact
+            List<Long> matched = orderedSongIds(builder).stream()
+                    .filter(filter.get().matchedIds()::contains)
+                    .toList();
+            List<Long> pageIds = matched.stream()
+                    .skip(pageable.getOffset())
+                    .limit(pageable.getPageSize())
+                    .toList();
+            return new PageImpl<>(findSongsWithTags(pageIds), pageable, matched.size());
+        }
 
-        List<Song> content = queryFactory
-                .selectFrom(song)
-                .leftJoin(song.songTags, songTag).fetchJoin()
+        // Page over ids only so LIMIT/OFFSET reach the database, then fetch-join tags for that slice
+        List<Long> songIds = queryFactory
+                .select(song.id)
+                .from(song)
                 .where(builder)
-                .orderBy(song.createdAt.desc())
+                .orderBy(song.createdAt.desc(), song.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .distinct()
                 .fetch();
 
+        List<Song> content = findSongsWithTags(songIds);
+
         JPAQuery<Long> countQuery = queryFactory
-                .select(song.countDistinct())
+                .select(song.count())
                 .from(song)
                 .where(builder);
 
-        // Join songTag in count query only when tags filter is active
-        if (condition.tags() != null && !condition.tags().isEmpty()) {
-            countQuery.leftJoin(song.songTags, songTag);
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public Slice<Song> searchSongsByCursor(Long teamId, SongSearchCondition condition, Cursor cursor, int size) {
+        Optional<SearchFilter> filter = searchConditions(teamId, condition);
+        if (filter.isEmpty()) {
+            return new SliceImpl<>(List.of(), PageRequest.ofSize(size), false);
+        }
+        BooleanBuilder builder = filter.get().where();
+        builder.and(createdBefore(cursor));
+
+        List<Long> songIds;
+        if (filter.get().matchedIds() != null) {
+            songIds = orderedSongIds(builder).stream()
+                    .filter(filter.get().matchedIds()::contains)
+                    .limit(size + 1)
+                    .toList();
+        } else {
+            songIds = queryFactory
+                    .select(song.id)
+                    .from(song)
+                    .where(builder)
+                    .orderBy(song.createdAt.desc(), song.id.desc())
+                    .limit(size + 1)
+                    .fetch();
+        }
+
+        boolean hasNext = songIds.size() > size;
+        if (hasNext) {
+            songIds = songIds.subList(0, size);
         }
+        return new SliceImpl<>(findSongsWithTags(songIds), PageRequest.ofSize(size), hasNext);
+    }
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    // Empty when the keyword matches no song, so callers can skip the query entirely
+    private Optional<SearchFilter> searchConditions(Long teamId, SongSearchCondition condition) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(song.team.id.eq(teamId));
+        Set<Long> matchedIds = null;
+
+        if (hasKeyword(condition.keyword())) {
+            Optional<List<Long>> songIds = songSearchIndex.findSongIds(
+                    teamId, condition.keyword(), condition.searchMode());
+            if (songIds.isPresent() && songIds.get().isEmpty()) {
+                return Optional.empty();
+            }
+            if (songIds.isEmpty()) {
+                builder.and(keywordContains(condition.keyword()));
+            } else if (songIds.get().size() <= SongSearchIndex.MAX_CANDIDATES) {
+                builder.and(song.id.in(songIds.get()));
+            } else {
+                matchedIds = new HashSet<>(songIds.get());
+            }
+        }
+        builder.and(originalKeyEquals(condition.key()));
+        builder.and(tagsIn(condition.tags()));
+        builder.and(unusedWithinWeeks(teamId, condition.unusedWeeks()));
+        builder.and(leaderIdEquals(teamId, condition.leaderId()));
+        return Optional.of(new SearchFilter(builder, matchedIds));
     }
 
-    private BooleanExpression keywordContains(String keyword) {
-        if (keyword == null || keyword.isBlank()) {
+    // Every id passing the SQL conditions, in list order; only team_id bounds it, so callers filter in memory
+    private List<Long> orderedSongIds(BooleanBuilder builder) {
+        return queryFactory
+                .select(song.id)
+                .from(song)
+                .where(builder)
+                .orderBy(song.createdAt.desc(), song.id.desc())
+                .fetch();
+    }
+
+    private BooleanExpression createdBefore(Cursor cursor) {
+        if (cursor == null) {
             return null;
         }
+        LocalDateTime createdAt = cursor.dateTimeKey();
+        return song.createdAt.lt(createdAt)
+                .or(song.createdAt.eq(createdAt).and(song.id.lt(cursor.id())));
+    }
+
+    private List<Song> findSongsWithTags(List<Long> songIds) {
+        if (songIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Song> songsById = queryFactory
+                .selectFrom(song)
+                .leftJoin(song.songTags, songTag).fetchJoin()
+                .where(song.id.in(songIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(Song::getId, Function.identity(), (a, b) -> a));
+
+        return songIds.stream()
+                .map(songsById::get)
+                .toList();
+    }
+
+    private boolean hasKeyword(String keyword) {
+        return keyword != null && !keyword.isBlank();
+    }
+
+    private BooleanExpression keywordContains(String keyword) {
         return song.title.containsIgnoreCase(keyword)
                 .or(song.artist.containsIgnoreCase(keyword));
     }
@@ -89,57 +204,34 @@ public class SongQueryRepositoryImpl implements SongQueryRepository {
         );
     }
 
-    private BooleanExpression unusedWithinWeeks(Integer unusedWeeks) {
+    private BooleanExpression unusedWithinWeeks(Long teamId, Integer unusedWeeks) {
         if (unusedWeeks == null) {
             return null;
         }
         LocalDate sinceDate = LocalDate.now().minusWeeks(unusedWeeks);
-        return song.id.notIn(
-                JPAExpressions
-                        .select(songUsage.song.id)
-                        .from(songUsage)
-                        .where(songUsage.usedAt.goe(sinceDate))
-        );
+        return JPAExpressions
+                .selectOne()
+                .from(songUsage)
+                .where(songUsage.teamId.eq(teamId),
+                        songUsage.song.id.eq(song.id),
+                        songUsage.usedAt.goe(sinceDate))
+                .notExists();
     }
 
-    private BooleanExpression leaderIdEquals(Long leaderId) {
+    private BooleanExpression leaderIdEquals(Long teamId, Long leaderId) {
         if (leaderId == null) {
             return null;
         }
-        return song.id.in(
-                JPAExpressions
-                        .select(songUsage.song.id)
-                        .from(songUsage)
-                        .where(songUsage.leaderId.eq(leaderId))
-        );
+        return JPAExpressions
+                .selectOne()
+                .from(songUsage)
+                .where(songUsage.teamId.eq(teamId),
+                        songUsage.leaderId.eq(leaderId),
+                        songUsage.song.id.eq(song.id))
+                .exists();
     }
 
-    @Override
-    public List<TopSongResponse> findTopSongs(Long teamId, LocalDate fromDate, LocalDate toDate, int limit) {
-        BooleanBuilder builder = new BooleanBuilder();
-        builder.and(song.team.id.eq(teamId));
-        if (fromDate != null) {
-            builder.and(songUsage.usedAt.goe(fromDate));
-        }
-        if (toDate != null) {
-            builder.and(songUsage.usedAt.loe(toDate));
-        }
-
-        return queryFactory
-                .select(Projections.constructor(TopSongResponse.class,
-                        song.id,
-                        song.title,
-                        song.artist,
-                        song.originalKey,
-                        songUsage.count(),
-                        songUsage.usedAt.max()
-                ))
-                .from(songUsage)
-                .join(songUsage.song, song)
-                .where(builder)
-                .groupBy(song.id, song.title, song.artist, song.originalKey)
-                .orderBy(songUsage.count().desc())
-                .limit(limit)
-                .fetch();
+    // matchedIds is set when the keyword matched more songs than fit in an IN list
+    private record SearchFilter(BooleanBuilder where, Set<Long> matchedIds) {
     }
 }
@@ -4,8 +4,15 @@ import com.conti.domain.song.entity.Song;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface SongRepository extends JpaRepository<Song, Long>, SongQueryRepository {
 
     Page<Song> findByTeamId(Long teamId, Pageable pageable);
+
+    @Query("SELECT s.id FROM Song s WHERE s.id > :afterId ORDER BY s.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,6 @@
+package com.conti.domain.song.repository;
+
+import java.time.LocalDate;
+
+public record SongUsageCount(Long songId, long usageCount, LocalDate lastUsedAt) {
+}
@@ -0,0 +1,18 @@
+package com.conti.domain.song.repository;
+
+import com.conti.domain.song.dto.KeyTrendResponse;
+import com.conti.domain.song.dto.TagPopularityResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SongUsageQueryRepository {
+
+    List<SongUsageCount> findTopSongUsages(Long teamId, LocalDate fromDate, LocalDate toDate, int limit);
+
+    List<KeyTrendResponse> findKeyTrends(Long teamId, LocalDate fromDate, LocalDate toDate);
+
+    List<LeaderUsageCount> findLeaderUsages(Long teamId, LocalDate fromDate, LocalDate toDate);
+
+    List<TagPopularityResponse> findTagPopularity(Long teamId, LocalDate fromDate, LocalDate toDate, int limit);
+}
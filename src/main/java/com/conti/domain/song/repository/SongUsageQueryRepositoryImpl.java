@@ -0,0 +1,102 @@
+package com.conti.domain.song.repository;
+
+import com.conti.domain.song.dto.KeyTrendResponse;
+import com.conti.domain.song.dto.TagPopularityResponse;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.conti.domain.song.entity.QSong.song;
+import static com.conti.domain.song.entity.QSongTag.songTag;
+import static com.conti.domain.song.entity.QSongUsage.songUsage;
+
+// Every query is served from song_usages (team_id, used_at, ...) indexes; top songs also probes songs by primary key
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SongUsageQueryRepositoryImpl implements SongUsageQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<SongUsageCount> findTopSongUsages(Long teamId, LocalDate fromDate, LocalDate toDate, int limit) {
+        return queryFactory
+                .select(Projections.constructor(SongUsageCount.class,
+                        songUsage.song.id,
+                        songUsage.count(),
+                        songUsage.usedAt.max()
+                ))
+                .from(songUsage)
+                // Usages outlive deleted songs; joining keeps them out before LIMIT
+                .join(songUsage.song, song)
+                .where(teamWindow(teamId, fromDate, toDate))
+                .groupBy(songUsage.song.id)
+                .orderBy(songUsage.count().desc(), songUsage.usedAt.max().desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<KeyTrendResponse> findKeyTrends(Long teamId, LocalDate fromDate, LocalDate toDate) {
+        return queryFactory
+                .select(Projections.constructor(KeyTrendResponse.class,
+                        songUsage.usedAt.year(),
+                        songUsage.usedAt.month(),
+                        songUsage.usedKey,
+                        songUsage.count()
+                ))
+                .from(songUsage)
+                .where(teamWindow(teamId, fromDate, toDate), songUsage.usedKey.isNotNull())
+                .groupBy(songUsage.usedAt.year(), songUsage.usedAt.month(), songUsage.usedKey)
+                .orderBy(songUsage.usedAt.year().desc(), songUsage.usedAt.month().desc(), songUsage.count().desc())
+                .fetch();
+    }
+
+    @Override
+    public List<LeaderUsageCount> findLeaderUsages(Long teamId, LocalDate fromDate, LocalDate toDate) {
+        return queryFactory
+                .select(Projections.constructor(LeaderUsageCount.class,
+                        songUsage.leaderId,
+                        songUsage.setlist.id.countDistinct(),
+                        songUsage.count(),
+                        songUsage.usedAt.max()
+                ))
+                .from(songUsage)
+                .where(teamWindow(teamId, fromDate, toDate), songUsage.leaderId.isNotNull())
+                .groupBy(songUsage.leaderId)
+                .orderBy(songUsage.usedAt.max().asc())
+                .fetch();
+    }
+
+    @Override
+    public List<TagPopularityResponse> findTagPopularity(Long teamId, LocalDate fromDate, LocalDate toDate, int limit) {
+        return queryFactory
+                .select(Projections.constructor(TagPopularityResponse.class,
+                        songTag.tag,
+                        songUsage.count()
+                ))
+                .from(songUsage)
+                .join(songTag).on(songTag.song.id.eq(songUsage.song.id))
+                .where(teamWindow(teamId, fromDate, toDate))
+                .groupBy(songTag.tag)
+                .orderBy(songUsage.count().desc(), songTag.tag.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanBuilder teamWindow(Long teamId, LocalDate fromDate, LocalDate toDate) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(songUsage.teamId.eq(teamId));
+        if (fromDate != null) {
+            builder.and(songUsage.usedAt.goe(fromDate));
+        }
+        if (toDate != null) {
+            builder.and(songUsage.usedAt.loe(toDate));
+        }
+        return builder;
+    }
+}
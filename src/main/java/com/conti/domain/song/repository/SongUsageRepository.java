@@ -2,18 +2,22 @@ package com.conti.domain.song.repository;
 
 import com.conti.domain.song.entity.SongUsage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
-public interface SongUsageRepository extends JpaRepository<SongUsage, Long> {
+public interface SongUsageRepository extends JpaRepository<SongUsage, Long>, SongUsageQueryRepository {
 
     List<SongUsage> findBySongId(Long songId);
 
     long countBySongId(Long songId);
 
+    List<SongUsage> findBySetlistIdAndSongId(Long setlistId, Long songId);
+
     @Query("SELECT MAX(u.usedAt) FROM SongUsage u WHERE u.song.id = :songId")
     LocalDate findLastUsedAt(@Param("songId") Long songId);
 
@@ -32,4 +36,37 @@ public interface SongUsageRepository extends JpaRepository<SongUsage, Long> {
             "WHERE u.song.id = :songId AND u.leaderId IS NOT NULL " +
             "GROUP BY u.leaderId ORDER BY COUNT(u) DESC")
     List<Object[]> findLeaderBreakdown(@Param("songId") Long songId);
+
+    @Query("SELECT u.song.id, COUNT(u), MAX(u.usedAt) FROM SongUsage u " +
+            "WHERE u.song.id IN :songIds GROUP BY u.song.id")
+    List<Object[]> findUsageTotalsBySongIds(@Param("songIds") Collection<Long> songIds);
+
+    @Query("SELECT u.song.id, YEAR(u.usedAt), MONTH(u.usedAt), COUNT(u) FROM SongUsage u " +
+            "WHERE u.song.id IN :songIds " +
+            "GROUP BY u.song.id, YEAR(u.usedAt), MONTH(u.usedAt)")
+    List<Object[]> findMonthlyUsageBySongIds(@Param("songIds") Collection<Long> songIds);
+
+    @Query("SELECT u.song.id, u.usedKey, COUNT(u) FROM SongUsage u " +
+            "WHERE u.song.id IN :songIds AND u.usedKey IS NOT NULL " +
+            "GROUP BY u.song.id, u.usedKey")
+    List<Object[]> findKeyDistributionBySongIds(@Param("songIds") Collection<Long> songIds);
+
+    @Query("SELECT u.song.id, u.leaderId, COUNT(u) FROM SongUsage u " +
+            "WHERE u.song.id IN :songIds AND u.leaderId IS NOT NULL " +
+            "GROUP BY u.song.id, u.leaderId")
+    List<Object[]> findLeaderBreakdownBySongIds(@Param("songIds") Collection<Long> songIds);
+
+    @Modifying
+    @Query("UPDATE SongUsage u SET u.leaderId = :leaderId, u.usedAt = :usedAt WHERE u.setlist.id = :setlistId")
+    int updateLeaderAndUsedAtBySetlistId(@Param("setlistId") Long setlistId,
+                                         @Param("leaderId") Long leaderId,
+                                         @Param("usedAt") LocalDate usedAt);
+
+    // One usage per SONG item of the setlists, as addItem records them
+    @Modifying
+    @Query(value = "INSERT INTO song_usages (song_id, setlist_id, team_id, leader_id, used_key, used_at) " +
+            "SELECT si.song_id, st.id, st.team_id, st.leader_id, si.song_key, st.worship_date " +
+            "FROM setlist_items si INNER JOIN setlists st ON st.id = si.setlist_id " +
+            "WHERE si.setlist_id IN (:setlistIds) AND si.item_type = 'SONG' AND si.song_id IS NOT NULL", nativeQuery = true)
+    int insertForSetlistItems(@Param("setlistIds") Collection<Long> setlistIds);
 }
@@ -0,0 +1,39 @@
+package com.conti.domain.song.repository;
+
+import com.conti.domain.song.entity.SongUsageSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SongUsageSummaryRepository extends JpaRepository<SongUsageSummary, Long> {
+
+    // ON DUPLICATE KEY UPDATE takes an exclusive lock on an existing row right away; INSERT IGNORE would take
+    // a shared one, and two transactions upgrading it in the following findAllForUpdate deadlock
+    @Modifying
+    @Query(value = "INSERT INTO song_usage_summaries " +
+            "(song_id, usage_count, monthly_usage, key_usage, leader_usage, stale) " +
+            "SELECT s.id, 0, JSON_OBJECT(), JSON_OBJECT(), JSON_OBJECT(), TRUE " +
+            "FROM songs s WHERE s.id IN (:songIds) " +
+            "ON DUPLICATE KEY UPDATE song_id = song_usage_summaries.song_id", nativeQuery = true)
+    int insertStaleIfAbsent(@Param("songIds") Collection<Long> songIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SongUsageSummary s WHERE s.songId IN :songIds")
+    List<SongUsageSummary> findAllForUpdate(@Param("songIds") Collection<Long> songIds);
+
+    @Modifying
+    @Query("UPDATE SongUsageSummary s SET s.stale = true " +
+            "WHERE s.songId IN (SELECT u.song.id FROM SongUsage u WHERE u.setlist.id = :setlistId)")
+    int markStaleBySetlistId(@Param("setlistId") Long setlistId);
+
+    @Modifying
+    @Query("UPDATE SongUsageSummary s SET s.stale = true " +
+            "WHERE s.songId IN (SELECT u.song.id FROM SongUsage u WHERE u.setlist.id IN :setlistIds)")
+    int markStaleBySetlistIds(@Param("setlistIds") Collection<Long> setlistIds);
+}
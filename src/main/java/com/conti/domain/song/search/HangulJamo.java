@@ -0,0 +1,85 @@
+package com.conti.domain.song.search;
+
+import java.util.Map;
+
+/**
+ * Converts Hangul text into search keys. Compound vowels and final consonants are split
+ * into the jamo a phone keyboard types them as, so a half-typed syllable still prefixes the full key.
+ */
+final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final char COMPAT_JAMO_BEGIN = 'ㄱ';
+    private static final char COMPAT_JAMO_END = 'ㆎ';
+
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSUNG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private static final Map<Character, String> COMPOUNDS = Map.ofEntries(
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+            Map.entry('ㅢ', "ㅡㅣ"),
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ")
+    );
+
+    private HangulJamo() {
+    }
+
+    /**
+     * "은혜로다" -> "ㅇㅎㄹㄷ". Characters other than Hangul syllables are kept as-is.
+     */
+    static String chosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                sb.append(CHOSUNG.charAt((c - SYLLABLE_BEGIN) / 588));
+            } else if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * "은혜로다" -> "ㅇㅡㄴㅎㅖㄹㅗㄷㅏ". Characters other than Hangul are kept as-is.
+     */
+    static String jamo(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BEGIN;
+                sb.append(CHOSUNG.charAt(offset / 588));
+                appendJamo(sb, JUNGSUNG.charAt((offset % 588) / 28));
+                int jong = offset % 28;
+                if (jong != 0) {
+                    appendJamo(sb, JONGSUNG.charAt(jong));
+                }
+            } else if (c >= COMPAT_JAMO_BEGIN && c <= COMPAT_JAMO_END) {
+                appendJamo(sb, c);
+            } else if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendJamo(StringBuilder sb, char jamo) {
+        String split = COMPOUNDS.get(jamo);
+        if (split != null) {
+            sb.append(split);
+        } else {
+            sb.append(jamo);
+        }
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
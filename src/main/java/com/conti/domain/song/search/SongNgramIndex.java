@@ -0,0 +1,283 @@
+package com.conti.domain.song.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * In-memory inverted index over song title/artist for a single team.
+ * Text is NFC-normalized and lower-cased, then split into character bigrams,
+ * which for Hangul means syllable bigrams. Candidates from the bigram postings
+ * are verified with a substring check, so results match a case-insensitive LIKE '%keyword%'.
+ * Chosung and jamo keys are kept in sorted maps from every word start, so those modes are prefix range lookups.
+ */
+public class SongNgramIndex {
+
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final NavigableMap<String, Postings> chosungKeys = new TreeMap<>();
+    private final NavigableMap<String, Postings> jamoKeys = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(Long songId, String title, String artist) {
+        Document document = new Document(normalize(title), normalize(artist));
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.put(songId, document);
+            if (previous != null) {
+                unindex(songId, previous);
+            }
+            addPostings(postings, document.bigrams(), songId);
+            addPostings(chosungKeys, document.chosungKeys(), songId);
+            addPostings(jamoKeys, document.jamoKeys(), songId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long songId) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(songId);
+            if (previous != null) {
+                unindex(songId, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Long> search(String keyword) {
+        return search(keyword, SongSearchMode.CONTAINS);
+    }
+
+    public List<Long> search(String keyword, SongSearchMode mode) {
+        return search(keyword, mode, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns at most {@code limit} matching ids. When more songs match, the highest ids are kept,
+     * which are the most recently created songs.
+     */
+    public List<Long> search(String keyword, SongSearchMode mode, int limit) {
+        return switch (mode) {
+            case CONTAINS -> searchContains(keyword, limit);
+            case CHOSUNG -> searchPrefix(chosungKeys, HangulJamo.chosung(normalize(keyword)), limit);
+            case JAMO -> searchPrefix(jamoKeys, HangulJamo.jamo(normalize(keyword)), limit);
+        };
+    }
+
+    private List<Long> searchContains(String keyword, int limit) {
+        String normalized = normalize(keyword);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            // A single character has no bigram; a scan over the team's documents is cheap enough
+            if (normalized.length() == 1) {
+                List<Long> result = new ArrayList<>();
+                documents.forEach((songId, document) -> {
+                    if (document.contains(normalized)) {
+                        result.add(songId);
+                    }
+                });
+                if (result.size() <= limit) {
+                    return result;
+                }
+                result.sort(Comparator.reverseOrder());
+                return new ArrayList<>(result.subList(0, limit));
+            }
+
+            List<Postings> lists = new ArrayList<>();
+            for (String gram : bigrams(normalized)) {
+                Postings list = postings.get(gram);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort((a, b) -> Integer.compare(a.size, b.size));
+
+            Postings smallest = lists.get(0);
+            List<Long> result = new ArrayList<>();
+            for (int i = smallest.size - 1; i >= 0 && result.size() < limit; i--) {
+                long songId = smallest.ids[i];
+                if (containsInAll(lists, songId) && documents.get(songId).contains(normalized)) {
+                    result.add(songId);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> searchPrefix(NavigableMap<String, Postings> keys, String prefix, int limit) {
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            // A short prefix can span most of the team; keep only the highest ids instead of collecting them all
+            TreeSet<Long> result = new TreeSet<>();
+            for (Postings list : keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+                for (int i = list.size - 1; i >= 0; i--) {
+                    long songId = list.ids[i];
+                    if (result.size() < limit) {
+                        result.add(songId);
+                    } else if (songId <= result.first()) {
+                        break;
+                    } else if (result.add(songId)) {
+                        result.pollFirst();
+                    }
+                }
+            }
+            return new ArrayList<>(result.descendingSet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    static Set<String> bigrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    // Keys starting at each word, with whitespace dropped: "모든 찬양" -> "ㅁㄷㅊㅇ", "ㅊㅇ"
+    static Set<String> wordStartKeys(String text, Function<String, String> toKey) {
+        Set<String> keys = new LinkedHashSet<>();
+        String[] words = text.trim().split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            String key = toKey.apply(String.join("", Arrays.copyOfRange(words, i, words.length)));
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    private void unindex(Long songId, Document document) {
+        removePostings(postings, document.bigrams(), songId);
+        removePostings(chosungKeys, document.chosungKeys(), songId);
+        removePostings(jamoKeys, document.jamoKeys(), songId);
+    }
+
+    private static void addPostings(Map<String, Postings> index, Set<String> keys, Long songId) {
+        for (String key : keys) {
+            index.computeIfAbsent(key, k -> new Postings()).add(songId);
+        }
+    }
+
+    private static void removePostings(Map<String, Postings> index, Set<String> keys, Long songId) {
+        for (String key : keys) {
+            Postings list = index.get(key);
+            if (list != null && list.remove(songId) && list.size == 0) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static boolean containsInAll(List<Postings> lists, long songId) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(songId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Document(String title, String artist) {
+
+        boolean contains(String keyword) {
+            return title.contains(keyword) || artist.contains(keyword);
+        }
+
+        Set<String> bigrams() {
+            Set<String> grams = SongNgramIndex.bigrams(title);
+            grams.addAll(SongNgramIndex.bigrams(artist));
+            return grams;
+        }
+
+        Set<String> chosungKeys() {
+            Set<String> keys = wordStartKeys(title, HangulJamo::chosung);
+            keys.addAll(wordStartKeys(artist, HangulJamo::chosung));
+            return keys;
+        }
+
+        Set<String> jamoKeys() {
+            Set<String> keys = wordStartKeys(title, HangulJamo::jamo);
+            keys.addAll(wordStartKeys(artist, HangulJamo::jamo));
+            return keys;
+        }
+    }
+
+    // Sorted primitive id list; keeps large teams to a few bytes per posting
+    private static final class Postings {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        void add(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                return;
+            }
+            int insertAt = -pos - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            size--;
+            return true;
+        }
+    }
+}
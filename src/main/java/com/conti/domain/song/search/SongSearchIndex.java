@@ -0,0 +1,82 @@
+package com.conti.domain.song.search;
+
+import com.conti.domain.song.event.SongChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static com.conti.domain.song.entity.QSong.song;
+
+/**
+ * Per-team keyword index for song search. Each team's index is built lazily on first search,
+ * kept up to date from committed song changes, and rebuilt periodically to pick up anything missed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SongSearchIndex {
+
+    // Bounds the IN list sent to the page and count queries
+    public static final int MAX_CANDIDATES = 2_000;
+
+    private final JPAQueryFactory queryFactory;
+
+    private final Cache<Long, SongNgramIndex> teamIndexes = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .build();
+
+    /**
+     * Returns ids of the team's songs matching the keyword in the given mode.
+     * For CONTAINS, returns empty when more than {@link #MAX_CANDIDATES} match, since the LIKE
+     * predicate gives the same result. Chosung and jamo have no SQL equivalent, so every match is
+     * returned and the caller must not send more than {@link #MAX_CANDIDATES} of them as an IN list.
+     */
+    public Optional<List<Long>> findSongIds(Long teamId, String keyword, SongSearchMode mode) {
+        SongNgramIndex index = teamIndexes.get(teamId, this::load);
+        if (mode != SongSearchMode.CONTAINS) {
+            return Optional.of(index.search(keyword, mode));
+        }
+        List<Long> songIds = index.search(keyword, mode, MAX_CANDIDATES + 1);
+        return songIds.size() <= MAX_CANDIDATES ? Optional.of(songIds) : Optional.empty();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSongChanged(SongChangedEvent event) {
+        // computeIfPresent waits for an in-flight load instead of missing it, so a song committed while
+        // the index was being built is not lost until the next rebuild
+        teamIndexes.asMap().computeIfPresent(event.teamId(), (teamId, index) -> {
+            if (event.deleted()) {
+                index.remove(event.songId());
+            } else {
+                index.put(event.songId(), event.title(), event.artist());
+            }
+            return index;
+        });
+    }
+
+    private SongNgramIndex load(Long teamId) {
+        List<Tuple> rows = queryFactory
+                .select(song.id, song.title, song.artist)
+                .from(song)
+                .where(song.team.id.eq(teamId))
+                .fetch();
+
+        SongNgramIndex index = new SongNgramIndex();
+        for (Tuple row : rows) {
+            index.put(row.get(song.id), row.get(song.title), row.get(song.artist));
+        }
+        log.debug("Built song search index: teamId={}, songs={}", teamId, index.size());
+        return index;
+    }
+}
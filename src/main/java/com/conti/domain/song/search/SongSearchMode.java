@@ -0,0 +1,14 @@
+package com.conti.domain.song.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum SongSearchMode {
+    CONTAINS("부분 일치"),
+    CHOSUNG("초성 검색"),
+    JAMO("자모 검색");
+
+    private final String displayName;
+}
@@ -0,0 +1,92 @@
+package com.conti.domain.song.search;
+
+import com.conti.domain.song.dto.TagResponse;
+import com.conti.domain.song.event.SongChangedEvent;
+import com.conti.domain.song.repository.SongTagRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-team tag counts for the tag list. Each team's counts are loaded with one GROUP BY on first read,
+ * adjusted in memory from committed song changes, and reloaded after expiry to correct any drift.
+ */
+@Component
+@RequiredArgsConstructor
+public class TagCountCache {
+
+    private static final Comparator<TagResponse> BY_COUNT_DESC =
+            Comparator.comparingLong(TagResponse::count).reversed().thenComparing(TagResponse::tag);
+
+    private final SongTagRepository songTagRepository;
+
+    private final Cache<Long, Map<String, Long>> teamTagCounts = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .build();
+
+    public List<TagResponse> getTags(Long teamId) {
+        return teamTagCounts.get(teamId, this::load).entrySet().stream()
+                .map(entry -> new TagResponse(entry.getKey(), entry.getValue()))
+                .sorted(BY_COUNT_DESC)
+                .toList();
+    }
+
+    /**
+     * Applies the tags a committed change added and removed to the team's cached counts. computeIfPresent runs
+     * under the entry's lock and waits for a load in flight, so concurrent changes are never lost; the counts are
+     * replaced copy-on-write, so readers need no lock. Counts that would go negative mean the cache missed
+     * a change, and the team is reloaded on the next read instead.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSongChanged(SongChangedEvent event) {
+        if (event.previousTags() == null || event.tags() == null) {
+            return;
+        }
+        Set<String> added = new HashSet<>(event.tags());
+        added.removeAll(event.previousTags());
+        Set<String> removed = new HashSet<>(event.previousTags());
+        removed.removeAll(event.tags());
+        if (added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        teamTagCounts.asMap().computeIfPresent(event.teamId(), (teamId, counts) -> applyDelta(counts, added, removed));
+    }
+
+    // Null drops the entry
+    private static Map<String, Long> applyDelta(Map<String, Long> counts, Set<String> added, Set<String> removed) {
+        Map<String, Long> updated = new HashMap<>(counts);
+        for (String tag : removed) {
+            long count = updated.getOrDefault(tag, 0L) - 1;
+            if (count < 0) {
+                return null;
+            }
+            if (count == 0) {
+                updated.remove(tag);
+            } else {
+                updated.put(tag, count);
+            }
+        }
+        added.forEach(tag -> updated.merge(tag, 1L, Long::sum));
+        return Map.copyOf(updated);
+    }
+
+    private Map<String, Long> load(Long teamId) {
+        Map<String, Long> counts = new HashMap<>();
+        for (TagResponse tag : songTagRepository.findTagsWithCountByTeamId(teamId)) {
+            counts.put(tag.tag(), tag.count());
+        }
+        return Map.copyOf(counts);
+    }
+}
@@ -0,0 +1,75 @@
+package com.conti.domain.song.service;
+
+import com.conti.domain.song.dto.KeyTrendResponse;
+import com.conti.domain.song.dto.LeaderRotationResponse;
+import com.conti.domain.song.dto.TagPopularityResponse;
+import com.conti.domain.song.dto.TopSongResponse;
+import com.conti.domain.song.entity.Song;
+import com.conti.domain.song.repository.LeaderUsageCount;
+import com.conti.domain.song.repository.SongRepository;
+import com.conti.domain.song.repository.SongUsageCount;
+import com.conti.domain.song.repository.SongUsageRepository;
+import com.conti.domain.user.service.UserNameResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SongAnalyticsService {
+
+    private final SongUsageRepository songUsageRepository;
+    private final SongRepository songRepository;
+    private final UserNameResolver userNameResolver;
+
+    public List<TopSongResponse> getTopSongs(Long teamId, LocalDate fromDate, LocalDate toDate, int limit) {
+        List<SongUsageCount> counts = songUsageRepository.findTopSongUsages(teamId, fromDate, toDate, limit);
+        if (counts.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Song> songsById = songRepository.findAllById(counts.stream().map(SongUsageCount::songId).toList())
+                .stream()
+                .collect(Collectors.toMap(Song::getId, Function.identity()));
+
+        // The query skips deleted songs; one deleted since then has nothing to show
+        return counts.stream()
+                .filter(count -> songsById.containsKey(count.songId()))
+                .map(count -> {
+                    Song song = songsById.get(count.songId());
+                    return new TopSongResponse(song.getId(), song.getTitle(), song.getArtist(),
+                            song.getOriginalKey(), count.usageCount(), count.lastUsedAt());
+                })
+                .toList();
+    }
+
+    public List<KeyTrendResponse> getKeyTrends(Long teamId, LocalDate fromDate, LocalDate toDate) {
+        return songUsageRepository.findKeyTrends(teamId, fromDate, toDate);
+    }
+
+    public List<LeaderRotationResponse> getLeaderRotation(Long teamId, LocalDate fromDate, LocalDate toDate) {
+        List<LeaderUsageCount> counts = songUsageRepository.findLeaderUsages(teamId, fromDate, toDate);
+        Map<Long, String> leaderNames = userNameResolver.resolveNames(
+                counts.stream().map(LeaderUsageCount::leaderId).toList());
+
+        return counts.stream()
+                .map(count -> new LeaderRotationResponse(
+                        count.leaderId(),
+                        leaderNames.getOrDefault(count.leaderId(), "Unknown"),
+                        count.setlistCount(),
+                        count.songCount(),
+                        count.lastLedAt()))
+                .toList();
+    }
+
+    public List<TagPopularityResponse> getTagPopularity(Long teamId, LocalDate fromDate, LocalDate toDate, int limit) {
+        return songUsageRepository.findTagPopularity(teamId, fromDate, toDate, limit);
+    }
+}
@@ -12,34 +12,40 @@ import com.conti.domain.song.dto.SongStatsResponse;
 import com.conti.domain.song.dto.SongUpdateRequest;
 import com.conti.domain.song.dto.SongUsageResponse;
 import com.conti.domain.song.dto.TagResponse;
-import com.conti.domain.song.dto.TopSongResponse;
 import com.conti.domain.song.entity.SectionType;
 import com.conti.domain.song.entity.Song;
 import com.conti.domain.song.entity.SongFile;
 import com.conti.domain.song.entity.SongSection;
-import com.conti.domain.song.entity.SongTag;
 import com.conti.domain.song.entity.SongUsage;
+import com.conti.domain.song.entity.SongUsageSummary;
+import com.conti.domain.song.event.SongChangedEvent;
 import com.conti.domain.song.repository.SongFileRepository;
 import com.conti.domain.song.repository.SongRepository;
 import com.conti.domain.song.repository.SongSectionRepository;
-import com.conti.domain.song.repository.SongTagRepository;
 import com.conti.domain.song.repository.SongUsageRepository;
+import com.conti.domain.song.search.TagCountCache;
 import com.conti.domain.team.entity.Team;
 import com.conti.domain.team.repository.TeamRepository;
-import com.conti.domain.user.entity.User;
-import com.conti.domain.user.repository.UserRepository;
+import com.conti.domain.user.service.UserNameResolver;
+import com.conti.global.common.Cursor;
+import com.conti.global.common.CursorResponse;
 import com.conti.global.error.BusinessException;
 import com.conti.global.error.ErrorCode;
 import com.conti.infra.s3.S3FileService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -47,20 +53,28 @@ import java.util.List;
 public class SongService {
 
     private final SongRepository songRepository;
-    private final SongTagRepository songTagRepository;
     private final SongFileRepository songFileRepository;
     private final SongSectionRepository songSectionRepository;
     private final SongUsageRepository songUsageRepository;
     private final TeamRepository teamRepository;
     private final SetlistRepository setlistRepository;
-    private final UserRepository userRepository;
     private final S3FileService s3FileService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SongUsageSummaryService songUsageSummaryService;
+    private final UserNameResolver userNameResolver;
+    private final TagCountCache tagCountCache;
 
     public Page<SongResponse> getSongs(Long teamId, SongSearchCondition condition, Pageable pageable) {
         return songRepository.searchSongs(teamId, condition, pageable)
                 .map(SongResponse::from);
     }
 
+    public CursorResponse<SongResponse> getSongsByCursor(Long teamId, SongSearchCondition condition, String cursor, int size) {
+        Slice<Song> songs = songRepository.searchSongsByCursor(
+                teamId, condition, Cursor.decode(cursor), CursorResponse.clampSize(size));
+        return CursorResponse.of(songs, SongResponse::from, song -> Cursor.of(song.getCreatedAt(), song.getId()));
+    }
+
     @Transactional
     public SongResponse createSong(Long teamId, SongCreateRequest request) {
         Team team = teamRepository.findById(teamId)
@@ -78,31 +92,15 @@ public class SongService {
                 .build();
 
         if (request.tags() != null) {
-            for (String tagName : request.tags()) {
-                SongTag songTag = SongTag.builder()
-                        .song(song)
-                        .tag(tagName)
-                        .build();
-                song.getSongTags().add(songTag);
-            }
+            song.syncTags(request.tags());
         }
 
         if (request.sections() != null) {
-            for (SongSectionRequest sectionReq : request.sections()) {
-                SongSection section = SongSection.builder()
-                        .song(song)
-                        .sectionType(SectionType.valueOf(sectionReq.sectionType()))
-                        .orderIndex(sectionReq.orderIndex())
-                        .label(sectionReq.label())
-                        .chords(sectionReq.chords())
-                        .buildUpLevel(sectionReq.buildUpLevel())
-                        .memo(sectionReq.memo())
-                        .build();
-                song.getSongSections().add(section);
-            }
+            song.syncSections(toSections(song, request.sections()));
         }
 
         Song savedSong = songRepository.save(song);
+        eventPublisher.publishEvent(SongChangedEvent.created(savedSong));
         return SongResponse.from(savedSong);
     }
 
@@ -110,6 +108,11 @@ public class SongService {
         Song song = songRepository.findById(songId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SONG_NOT_FOUND));
 
+        Optional<SongUsageSummary> summary = songUsageSummaryService.getSummary(songId);
+        if (summary.isPresent()) {
+            return SongDetailResponse.from(song, summary.get().getUsageCount(), summary.get().getLastUsedAt());
+        }
+
         long usageCount = songUsageRepository.countBySongId(songId);
         LocalDate lastUsedAt = songUsageRepository.findLastUsedAt(songId);
 
@@ -142,32 +145,16 @@ public class SongService {
         if (request.musicUrl() != null) {
             song.updateMusicUrl(request.musicUrl());
         }
+        List<String> previousTags = null;
         if (request.tags() != null) {
-            song.getSongTags().clear();
-            for (String tagName : request.tags()) {
-                SongTag songTag = SongTag.builder()
-                        .song(song)
-                        .tag(tagName)
-                        .build();
-                song.getSongTags().add(songTag);
-            }
+            previousTags = SongChangedEvent.tagNames(song);
+            song.syncTags(request.tags());
         }
         if (request.sections() != null) {
-            song.getSongSections().clear();
-            for (SongSectionRequest sectionReq : request.sections()) {
-                SongSection section = SongSection.builder()
-                        .song(song)
-                        .sectionType(SectionType.valueOf(sectionReq.sectionType()))
-                        .orderIndex(sectionReq.orderIndex())
-                        .label(sectionReq.label())
-                        .chords(sectionReq.chords())
-                        .buildUpLevel(sectionReq.buildUpLevel())
-                        .memo(sectionReq.memo())
-                        .build();
-                song.getSongSections().add(section);
-            }
+            song.syncSections(toSections(song, request.sections()));
         }
 
+        eventPublisher.publishEvent(SongChangedEvent.updated(song, previousTags));
         return SongResponse.from(song);
     }
 
@@ -176,22 +163,8 @@ public class SongService {
         Song song = songRepository.findById(songId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SONG_NOT_FOUND));
 
-        song.getSongSections().clear();
-        songRepository.flush();
-
-        for (SongSectionRequest sectionReq : requests) {
-            SongSection section = SongSection.builder()
-                    .song(song)
-                    .sectionType(SectionType.valueOf(sectionReq.sectionType()))
-                    .orderIndex(sectionReq.orderIndex())
-                    .label(sectionReq.label())
-                    .chords(sectionReq.chords())
-                    .buildUpLevel(sectionReq.buildUpLevel())
-                    .memo(sectionReq.memo())
-                    .build();
-            song.getSongSections().add(section);
-        }
-
+        song.syncSections(toSections(song, requests));
+        // Assign ids to inserted sections for the response
         songRepository.flush();
 
         return song.getSongSections().stream()
@@ -199,12 +172,28 @@ public class SongService {
                 .toList();
     }
 
+    private List<SongSection> toSections(Song song, List<SongSectionRequest> requests) {
+        return requests.stream()
+                .map(sectionReq -> SongSection.builder()
+                        .song(song)
+                        .sectionType(SectionType.valueOf(sectionReq.sectionType()))
+                        .orderIndex(sectionReq.orderIndex())
+                        .label(sectionReq.label())
+                        .chords(sectionReq.chords())
+                        .buildUpLevel(sectionReq.buildUpLevel())
+                        .memo(sectionReq.memo())
+                        .build())
+                .toList();
+    }
+
     @Transactional
     public void deleteSong(Long teamId, Long songId) {
         Song song = songRepository.findById(songId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SONG_NOT_FOUND));
 
+        SongChangedEvent event = SongChangedEvent.deleted(song);
         songRepository.delete(song);
+        eventPublisher.publishEvent(event);
     }
 
     public List<SongUsageResponse> getSongUsages(Long songId) {
@@ -268,14 +257,15 @@ public class SongService {
         }
     }
 
-    public List<TopSongResponse> getTopSongs(Long teamId, LocalDate fromDate, LocalDate toDate, int limit) {
-        return songRepository.findTopSongs(teamId, fromDate, toDate, limit);
-    }
-
     public SongStatsResponse getSongStats(Long teamId, Long songId) {
         Song song = songRepository.findById(songId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SONG_NOT_FOUND));
 
+        Optional<SongUsageSummary> summary = songUsageSummaryService.getSummary(songId);
+        if (summary.isPresent()) {
+            return toSongStatsResponse(song, summary.get());
+        }
+
         long totalCount = songUsageRepository.countBySongId(songId);
         LocalDate lastUsedAt = songUsageRepository.findLastUsedAt(songId);
 
@@ -294,14 +284,15 @@ public class SongService {
                         ((Number) row[1]).longValue()))
                 .toList();
 
-        List<SongStatsResponse.LeaderUsage> leaderBreakdown = songUsageRepository.findLeaderBreakdown(songId)
-                .stream()
+        List<Object[]> leaderRows = songUsageRepository.findLeaderBreakdown(songId);
+        Map<Long, String> leaderNames = userNameResolver.resolveNames(
+                leaderRows.stream().map(row -> ((Number) row[0]).longValue()).toList());
+
+        List<SongStatsResponse.LeaderUsage> leaderBreakdown = leaderRows.stream()
                 .map(row -> {
                     Long leaderId = ((Number) row[0]).longValue();
-                    String leaderName = userRepository.findById(leaderId)
-                            .map(User::getName)
-                            .orElse("Unknown");
-                    return new SongStatsResponse.LeaderUsage(leaderId, leaderName, ((Number) row[1]).longValue());
+                    return new SongStatsResponse.LeaderUsage(leaderId,
+                            leaderNames.getOrDefault(leaderId, "Unknown"), ((Number) row[1]).longValue());
                 })
                 .toList();
 
@@ -317,7 +308,41 @@ public class SongService {
         );
     }
 
+    private SongStatsResponse toSongStatsResponse(Song song, SongUsageSummary summary) {
+        List<SongStatsResponse.MonthlyUsage> monthlyUsages = summary.getMonthlyUsage().entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByKey().reversed())
+                .map(entry -> {
+                    YearMonth month = YearMonth.parse(entry.getKey());
+                    return new SongStatsResponse.MonthlyUsage(month.getYear(), month.getMonthValue(), entry.getValue());
+                })
+                .toList();
+
+        List<SongStatsResponse.KeyUsage> keyDistribution = summary.getKeyUsage().entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .map(entry -> new SongStatsResponse.KeyUsage(entry.getKey(), entry.getValue()))
+                .toList();
+
+        Map<Long, String> leaderNames = userNameResolver.resolveNames(summary.getLeaderUsage().keySet());
+
+        List<SongStatsResponse.LeaderUsage> leaderBreakdown = summary.getLeaderUsage().entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .map(entry -> new SongStatsResponse.LeaderUsage(entry.getKey(),
+                        leaderNames.getOrDefault(entry.getKey(), "Unknown"), entry.getValue()))
+                .toList();
+
+        return new SongStatsResponse(
+                song.getId(),
+                song.getTitle(),
+                song.getArtist(),
+                summary.getUsageCount(),
+                summary.getLastUsedAt(),
+                monthlyUsages,
+                keyDistribution,
+                leaderBreakdown
+        );
+    }
+
     public List<TagResponse> getTeamTags(Long teamId) {
-        return songTagRepository.findTagsWithCountByTeamId(teamId);
+        return tagCountCache.getTags(teamId);
     }
 }
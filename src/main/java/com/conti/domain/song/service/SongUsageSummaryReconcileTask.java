@@ -0,0 +1,26 @@
+package com.conti.domain.song.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SongUsageSummaryReconcileTask {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final SongUsageSummaryService songUsageSummaryService;
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void reconcileSummaries() {
+        int chunks = 0;
+        Long lastSongId = 0L;
+        while ((lastSongId = songUsageSummaryService.reconcile(lastSongId, CHUNK_SIZE)) != null) {
+            chunks++;
+        }
+        log.info("Reconciled song usage summaries in {} chunk(s)", chunks);
+    }
+}
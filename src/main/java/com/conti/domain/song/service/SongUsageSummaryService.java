@@ -0,0 +1,139 @@
+package com.conti.domain.song.service;
+
+import com.conti.domain.song.entity.SongUsage;
+import com.conti.domain.song.entity.SongUsageSummary;
+import com.conti.domain.song.repository.SongRepository;
+import com.conti.domain.song.repository.SongUsageRepository;
+import com.conti.domain.song.repository.SongUsageSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SongUsageSummaryService {
+
+    private final SongUsageSummaryRepository songUsageSummaryRepository;
+    private final SongUsageRepository songUsageRepository;
+    private final SongRepository songRepository;
+
+    public Optional<SongUsageSummary> getSummary(Long songId) {
+        return songUsageSummaryRepository.findById(songId)
+                .filter(summary -> !summary.isStale());
+    }
+
+    @Transactional
+    public void recordUsage(SongUsage usage) {
+        lockSummary(usage.getSong().getId()).ifPresent(summary -> {
+            if (summary.isStale()) {
+                rebuild(List.of(summary));
+            } else {
+                summary.recordUsage(usage.getUsedAt(), usage.getUsedKey(), usage.getLeaderId());
+            }
+        });
+    }
+
+    // Call after the usage row has been deleted
+    @Transactional
+    public void removeUsage(SongUsage usage) {
+        Long songId = usage.getSong().getId();
+        lockSummary(songId).ifPresent(summary -> {
+            if (summary.isStale()) {
+                rebuild(List.of(summary));
+                return;
+            }
+            boolean wasLatest = usage.getUsedAt().equals(summary.getLastUsedAt());
+            summary.removeUsage(usage.getUsedAt(), usage.getUsedKey(), usage.getLeaderId());
+            if (wasLatest && summary.getUsageCount() > 0) {
+                summary.updateLastUsedAt(songUsageRepository.findLastUsedAt(songId));
+            }
+        });
+    }
+
+    // Setlist date/leader changed: move its usages and let the affected summaries re-aggregate
+    @Transactional
+    public void syncSetlistUsages(Long setlistId, Long leaderId, LocalDate worshipDate) {
+        songUsageRepository.updateLeaderAndUsedAtBySetlistId(setlistId, leaderId, worshipDate);
+        songUsageSummaryRepository.markStaleBySetlistId(setlistId);
+    }
+
+    // Usages were bulk-inserted for new setlists: let the affected summaries re-aggregate
+    @Transactional
+    public void recordSetlistUsages(Collection<Long> setlistIds) {
+        songUsageSummaryRepository.markStaleBySetlistIds(setlistIds);
+    }
+
+    /**
+     * Rebuilds the summaries of the next chunk of songs after the given id from song_usages.
+     * Returns the last song id processed, or null when there are no more songs.
+     */
+    @Transactional
+    public Long reconcile(Long afterSongId, int chunkSize) {
+        List<Long> songIds = songRepository.findIdsAfter(afterSongId, PageRequest.ofSize(chunkSize));
+        if (songIds.isEmpty()) {
+            return null;
+        }
+
+        // Lock first so the aggregation below sees every usage committed before the lock
+        songUsageSummaryRepository.insertStaleIfAbsent(songIds);
+        rebuild(songUsageSummaryRepository.findAllForUpdate(songIds));
+        return songIds.get(songIds.size() - 1);
+    }
+
+    private Optional<SongUsageSummary> lockSummary(Long songId) {
+        songUsageSummaryRepository.insertStaleIfAbsent(List.of(songId));
+        return songUsageSummaryRepository.findAllForUpdate(List.of(songId)).stream().findFirst();
+    }
+
+    private void rebuild(List<SongUsageSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        Collection<Long> songIds = summaries.stream().map(SongUsageSummary::getSongId).toList();
+
+        Map<Long, Object[]> totals = new HashMap<>();
+        for (Object[] row : songUsageRepository.findUsageTotalsBySongIds(songIds)) {
+            totals.put(((Number) row[0]).longValue(), row);
+        }
+
+        Map<Long, Map<String, Long>> monthly = new HashMap<>();
+        for (Object[] row : songUsageRepository.findMonthlyUsageBySongIds(songIds)) {
+            String month = SongUsageSummary.monthKey(((Number) row[1]).intValue(), ((Number) row[2]).intValue());
+            monthly.computeIfAbsent(((Number) row[0]).longValue(), id -> new HashMap<>())
+                    .put(month, ((Number) row[3]).longValue());
+        }
+
+        Map<Long, Map<String, Long>> keys = new HashMap<>();
+        for (Object[] row : songUsageRepository.findKeyDistributionBySongIds(songIds)) {
+            keys.computeIfAbsent(((Number) row[0]).longValue(), id -> new HashMap<>())
+                    .put((String) row[1], ((Number) row[2]).longValue());
+        }
+
+        Map<Long, Map<Long, Long>> leaders = new HashMap<>();
+        for (Object[] row : songUsageRepository.findLeaderBreakdownBySongIds(songIds)) {
+            leaders.computeIfAbsent(((Number) row[0]).longValue(), id -> new HashMap<>())
+                    .put(((Number) row[1]).longValue(), ((Number) row[2]).longValue());
+        }
+
+        for (SongUsageSummary summary : summaries) {
+            Long songId = summary.getSongId();
+            Object[] total = totals.get(songId);
+            summary.rebuild(
+                    total != null ? ((Number) total[1]).longValue() : 0L,
+                    total != null ? (LocalDate) total[2] : null,
+                    monthly.getOrDefault(songId, Map.of()),
+                    keys.getOrDefault(songId, Map.of()),
+                    leaders.getOrDefault(songId, Map.of())
+            );
+        }
+    }
+}
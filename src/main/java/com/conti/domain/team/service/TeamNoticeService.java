@@ -8,6 +8,7 @@ import com.conti.domain.team.repository.TeamNoticeRepository;
 import com.conti.domain.team.repository.TeamRepository;
 import com.conti.domain.user.entity.User;
 import com.conti.domain.user.repository.UserRepository;
+import com.conti.domain.user.service.UserNameResolver;
 import com.conti.global.error.BusinessException;
 import com.conti.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -23,20 +25,20 @@ public class TeamNoticeService {
     private final TeamNoticeRepository teamNoticeRepository;
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
+    private final UserNameResolver userNameResolver;
 
     @Transactional(readOnly = true)
     public List<TeamNoticeResponse> getNotices(Long teamId) {
         teamRepository.findById(teamId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
 
-        return teamNoticeRepository.findByTeamIdOrderByIsPinnedDescCreatedAtDesc(teamId)
-                .stream()
-                .map(notice -> {
-                    String authorName = userRepository.findById(notice.getAuthorId())
-                            .map(User::getName)
-                            .orElse("알 수 없음");
-                    return TeamNoticeResponse.from(notice, authorName);
-                })
+        List<TeamNotice> notices = teamNoticeRepository.findByTeamIdOrderByIsPinnedDescCreatedAtDesc(teamId);
+        Map<Long, String> authorNames = userNameResolver.resolveNames(
+                notices.stream().map(TeamNotice::getAuthorId).toList());
+
+        return notices.stream()
+                .map(notice -> TeamNoticeResponse.from(notice,
+                        authorNames.getOrDefault(notice.getAuthorId(), "알 수 없음")))
                 .toList();
     }
 
@@ -0,0 +1,4 @@
+package com.conti.domain.user.event;
+
+public record UserProfileUpdatedEvent(Long userId) {
+}
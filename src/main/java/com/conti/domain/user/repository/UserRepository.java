@@ -3,7 +3,11 @@ package com.conti.domain.user.repository;
 import com.conti.domain.user.entity.Provider;
 import com.conti.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -11,4 +15,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     Optional<User> findByProviderAndProviderId(Provider provider, String providerId);
+
+    @Query("SELECT u.id, u.name FROM User u WHERE u.id IN :userIds")
+    List<Object[]> findNamesByIdIn(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,60 @@
+package com.conti.domain.user.service;
+
+import com.conti.domain.user.event.UserProfileUpdatedEvent;
+import com.conti.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves user ids to display names for listing responses. Cache misses are loaded
+ * together in a single query, so a listing costs at most one user lookup.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserNameResolver {
+
+    private final UserRepository userRepository;
+
+    private final Cache<Long, String> names = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .build();
+
+    /**
+     * Returns names keyed by user id. Ids of users that no longer exist are absent from the result.
+     */
+    public Map<Long, String> resolveNames(Collection<Long> userIds) {
+        Set<Long> ids = userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return names.getAll(ids, this::load);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserProfileUpdated(UserProfileUpdatedEvent event) {
+        names.invalidate(event.userId());
+    }
+
+    private Map<Long, String> load(Set<? extends Long> userIds) {
+        Map<Long, String> loaded = new HashMap<>();
+        for (Object[] row : userRepository.findNamesByIdIn(userIds)) {
+            loaded.put(((Number) row[0]).longValue(), (String) row[1]);
+        }
+        return loaded;
+    }
+}
@@ -6,10 +6,12 @@ import com.conti.domain.user.dto.UserResponse;
 import com.conti.domain.user.dto.UserTeamResponse;
 import com.conti.domain.user.dto.UserUpdateRequest;
 import com.conti.domain.user.entity.User;
+import com.conti.domain.user.event.UserProfileUpdatedEvent;
 import com.conti.domain.user.repository.UserRepository;
 import com.conti.global.error.BusinessException;
 import com.conti.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final TeamMemberRepository teamMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public UserResponse getProfile(Long userId) {
@@ -36,6 +39,7 @@ public class UserService {
 
         user.updateName(request.name());
         user.updateProfileImage(request.profileImage());
+        eventPublisher.publishEvent(new UserProfileUpdatedEvent(userId));
 
         return UserResponse.from(user);
     }
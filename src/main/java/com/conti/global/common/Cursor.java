@@ -0,0 +1,64 @@
+package com.conti.global.common;
+
+import com.conti.global.error.BusinessException;
+import com.conti.global.error.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset pagination position: the sort key and id of the last row on the previous page.
+ * Sent to clients as an opaque URL-safe token.
+ */
+public record Cursor(String sortKey, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static Cursor of(LocalDateTime sortKey, Long id) {
+        return new Cursor(sortKey.toString(), id);
+    }
+
+    public static Cursor of(LocalDate sortKey, Long id) {
+        return new Cursor(sortKey.toString(), id);
+    }
+
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiter = raw.lastIndexOf(DELIMITER);
+            if (delimiter < 0) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return new Cursor(raw.substring(0, delimiter), Long.parseLong(raw.substring(delimiter + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = sortKey + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime dateTimeKey() {
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public LocalDate dateKey() {
+        try {
+            return LocalDate.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
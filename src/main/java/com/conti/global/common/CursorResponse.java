@@ -0,0 +1,37 @@
+package com.conti.global.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Schema(description = "커서 기반 목록 응답")
+public record CursorResponse<T>(
+        @Schema(description = "조회 결과")
+        List<T> content,
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+        String nextCursor,
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext
+) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    public static <E, T> CursorResponse<T> of(Slice<E> slice, Function<E, T> mapper, Function<E, Cursor> cursorOf) {
+        List<E> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? cursorOf.apply(content.get(content.size() - 1)).encode()
+                : null;
+        return new CursorResponse<>(
+                content.stream().map(mapper).toList(),
+                nextCursor,
+                slice.hasNext()
+        );
+    }
+
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+}
@@ -0,0 +1,38 @@
+package com.conti.global.common;
+
+import com.conti.global.error.BusinessException;
+import com.conti.global.error.ErrorCode;
+
+/**
+ * Version-based entity tags for If-Match preconditions.
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    /**
+     * Parses an If-Match header such as {@code "3"}, {@code W/"3"} or {@code 3}.
+     * Returns null when the header is absent or {@code *}, i.e. there is no precondition.
+     */
+    public static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String tag = ifMatch.strip();
+        if (tag.equals("*")) {
+            return null;
+        }
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.conti.global.common;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs tasks submitted under the same key one at a time, in submission order, on the given executor; tasks
+ * under different keys run concurrently. A failed task does not stop the ones queued behind it.
+ */
+public class KeyedSerialExecutor<K> {
+
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    private final Executor executor;
+    private final Map<K, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    public KeyedSerialExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public void execute(K key, Runnable task) {
+        CompletableFuture<Void> next = tails.compute(key, (k, tail) ->
+                (tail != null ? tail.exceptionally(e -> null) : DONE).thenRunAsync(task, executor));
+        // Drop the entry once the key is idle, unless another task was queued behind this one
+        next.whenComplete((result, e) -> tails.remove(key, next));
+    }
+}
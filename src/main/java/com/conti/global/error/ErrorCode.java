@@ -10,6 +10,7 @@ public enum ErrorCode {
     // Common
     INVALID_INPUT(400, "C001", "잘못된 입력값입니다"),
     INTERNAL_ERROR(500, "C002", "서버 내부 오류가 발생했습니다"),
+    INVALID_CURSOR(400, "C003", "유효하지 않은 커서입니다"),
 
     // Auth
     UNAUTHORIZED(401, "A001", "인증이 필요합니다"),
@@ -30,6 +31,8 @@ public enum ErrorCode {
 
     // Setlist
     SETLIST_NOT_FOUND(404, "SL001", "콘티를 찾을 수 없습니다"),
+    INVALID_BULK_RANGE(400, "SL002", "일괄 생성 기간에 해당하는 날짜가 없거나 너무 많습니다"),
+    SETLIST_VERSION_MISMATCH(412, "SL003", "다른 사용자가 먼저 콘티를 수정했습니다. 변경 사항을 동기화한 뒤 다시 시도해주세요"),
 
     // File
     FILE_UPLOAD_FAILED(500, "F001", "파일 업로드에 실패했습니다"),
@@ -48,6 +51,8 @@ public enum ErrorCode {
     // SetlistItem
     SONG_ID_REQUIRED(400, "SI001", "찬양 항목에는 곡 ID가 필요합니다"),
     ITEM_TITLE_REQUIRED(400, "SI002", "비찬양 항목에는 제목이 필요합니다"),
+    INVALID_REORDER_ITEMS(400, "SI003", "순서 변경 목록이 콘티 항목과 일치하지 않습니다"),
+    INVALID_ITEM_POSITION(400, "SI004", "기준 항목이 콘티에 없습니다"),
 
     // SetlistTemplate
     TEMPLATE_NOT_FOUND(404, "ST001", "템플릿을 찾을 수 없습니다"),
@@ -0,0 +1,42 @@
+package com.conti.global.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Runs a scheduled job on one instance at a time through a database lease (ShedLock-style). The lease ends
+ * after {@code lockAtMostFor} even if the holder dies, and is kept for at least {@code lockAtLeastFor} so an
+ * instance whose cron fires a little later does not run the job again. Call outside a transaction so the
+ * lease is visible to other instances immediately.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchedulerLock {
+
+    private static final String INSTANCE = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final SchedulerLockJdbcRepository schedulerLockJdbcRepository;
+
+    /**
+     * Runs the task if the lease was acquired and returns whether it ran.
+     */
+    public boolean runLocked(String name, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+        String owner = INSTANCE + ":" + UUID.randomUUID();
+        if (!schedulerLockJdbcRepository.tryAcquire(name, lockAtMostFor, owner)) {
+            log.debug("Skipping {}: locked by another instance", name);
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            schedulerLockJdbcRepository.release(name, lockAtLeastFor, owner);
+        }
+    }
+}
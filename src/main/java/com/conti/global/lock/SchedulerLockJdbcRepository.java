@@ -0,0 +1,48 @@
+package com.conti.global.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+/**
+ * Lease rows in scheduler_locks. All times come from the database clock, so instances with skewed clocks
+ * still agree on when a lease expires.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SchedulerLockJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO scheduler_locks " +
+            "(name, locked_until, locked_at, locked_by) " +
+            "VALUES (?, NOW(6) + INTERVAL ? SECOND, NOW(6), ?)";
+
+    private static final String TAKE_OVER_SQL = "UPDATE scheduler_locks " +
+            "SET locked_until = NOW(6) + INTERVAL ? SECOND, locked_at = NOW(6), locked_by = ? " +
+            "WHERE name = ? AND locked_until <= NOW(6)";
+
+    private static final String RELEASE_SQL = "UPDATE scheduler_locks " +
+            "SET locked_until = GREATEST(NOW(6), locked_at + INTERVAL ? SECOND) " +
+            "WHERE name = ? AND locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Takes the lease if nobody holds it or the previous lease expired.
+     */
+    public boolean tryAcquire(String name, Duration lockAtMostFor, String owner) {
+        long seconds = lockAtMostFor.toSeconds();
+        if (jdbcTemplate.update(INSERT_SQL, name, seconds, owner) == 1) {
+            return true;
+        }
+        return jdbcTemplate.update(TAKE_OVER_SQL, seconds, owner, name) == 1;
+    }
+
+    /**
+     * Ends the lease, but not before {@code lockAtLeastFor} after it was taken.
+     */
+    public void release(String name, Duration lockAtLeastFor, String owner) {
+        jdbcTemplate.update(RELEASE_SQL, lockAtLeastFor.toSeconds(), name, owner);
+    }
+}
@@ -0,0 +1,96 @@
+package com.conti.global.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers committed outbox events. Each instance claims batches with SELECT ... FOR UPDATE SKIP LOCKED,
+ * so several instances share the work without delivering an event twice, and delivery happens outside
+ * any transaction so a slow sender never holds a pooled connection.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_BATCHES_PER_RUN = 50;
+
+    private final OutboxService outboxService;
+    private final Map<String, OutboxEventHandler> handlers;
+
+    public OutboxDispatcher(OutboxService outboxService, List<OutboxEventHandler> handlers) {
+        this.outboxService = outboxService;
+        this.handlers = handlers.stream()
+                .collect(Collectors.toMap(OutboxEventHandler::eventType, Function.identity()));
+    }
+
+    @Scheduled(fixedDelay = 1_000)
+    public void dispatch() {
+        int batches = 0;
+        while (batches < MAX_BATCHES_PER_RUN && dispatchBatch() == BATCH_SIZE) {
+            batches++;
+        }
+    }
+
+    /**
+     * Claims and delivers one batch, returning the number of events claimed.
+     */
+    public int dispatchBatch() {
+        List<OutboxEvent> events = outboxService.claim(BATCH_SIZE);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<OutboxEvent>> byType = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            byType.computeIfAbsent(event.getEventType(), type -> new ArrayList<>()).add(event);
+        }
+
+        List<Long> sent = new ArrayList<>();
+        Map<Long, String> failures = new HashMap<>();
+        byType.forEach((type, group) -> {
+            Map<Long, String> failed = deliver(type, group);
+            for (OutboxEvent event : group) {
+                if (failed.containsKey(event.getId())) {
+                    failures.put(event.getId(), failed.get(event.getId()));
+                } else {
+                    sent.add(event.getId());
+                }
+            }
+        });
+
+        outboxService.complete(sent, failures);
+        if (!failures.isEmpty()) {
+            log.warn("Outbox delivery failed for {} of {} event(s)", failures.size(), events.size());
+        }
+        return events.size();
+    }
+
+    private Map<Long, String> deliver(String type, List<OutboxEvent> group) {
+        OutboxEventHandler handler = handlers.get(type);
+        if (handler == null) {
+            return failAll(group, "No handler for event type " + type);
+        }
+        try {
+            return handler.handle(group);
+        } catch (RuntimeException e) {
+            log.error("Outbox handler {} failed", type, e);
+            return failAll(group, e.getMessage());
+        }
+    }
+
+    private Map<Long, String> failAll(List<OutboxEvent> group, String error) {
+        Map<Long, String> failed = new HashMap<>();
+        group.forEach(event -> failed.put(event.getId(), String.valueOf(error)));
+        return failed;
+    }
+}
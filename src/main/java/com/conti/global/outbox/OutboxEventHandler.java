@@ -0,0 +1,18 @@
+package com.conti.global.outbox;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Delivers outbox events of one type. Implementations are picked up by {@link OutboxDispatcher}.
+ */
+public interface OutboxEventHandler {
+
+    String eventType();
+
+    /**
+     * Delivers the given events and returns the ids of those that failed, mapped to an error message.
+     * Failed events are retried with backoff; throwing fails the whole batch.
+     */
+    Map<Long, String> handle(List<OutboxEvent> events);
+}
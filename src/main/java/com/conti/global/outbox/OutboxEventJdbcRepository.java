@@ -0,0 +1,49 @@
+package com.conti.global.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC batch inserts for outbox events written alongside batch-inserted aggregates, and batched purges of
+ * finished events.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxEventJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO outbox_events " +
+            "(event_type, aggregate_id, status, attempts, next_attempt_at, created_at) " +
+            "VALUES (?, ?, 'PENDING', 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(String eventType, List<Long> aggregateIds) {
+        if (aggregateIds.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, aggregateIds, aggregateIds.size(), (ps, aggregateId) -> {
+            ps.setString(1, eventType);
+            ps.setLong(2, aggregateId);
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+        });
+    }
+
+    /**
+     * Deletes up to limit events in the given status whose last claim ended before the cutoff. For finished
+     * events next_attempt_at is the end of the last claim, so this walks idx_outbox_status_next_attempt
+     * and touches only the deleted rows.
+     */
+    public int deleteFinishedBefore(OutboxStatus status, LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM outbox_events WHERE status = ? AND next_attempt_at < ? ORDER BY next_attempt_at LIMIT ?",
+                status.name(), Timestamp.valueOf(cutoff), limit);
+    }
+}
@@ -0,0 +1,45 @@
+package com.conti.global.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Walks idx_outbox_status_next_attempt in order, so only the returned rows are locked;
+    // rows claimed by another dispatcher are skipped instead of waited on
+    @Query(value = "SELECT * FROM outbox_events " +
+            "WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // Never-claimed event still waiting out its delay; while it is locked the dispatcher skips it
+    @Query(value = "SELECT * FROM outbox_events " +
+            "WHERE event_type = :eventType AND aggregate_id = :aggregateId AND status = 'PENDING' " +
+            "AND attempts = 0 AND next_attempt_at > :now " +
+            "ORDER BY id DESC " +
+            "LIMIT 1 " +
+            "FOR UPDATE", nativeQuery = true)
+    Optional<OutboxEvent> findWaitingForUpdate(@Param("eventType") String eventType,
+                                               @Param("aggregateId") Long aggregateId,
+                                               @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = com.conti.global.outbox.OutboxStatus.SENT, " +
+            "e.sentAt = :now, e.lastError = null WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = com.conti.global.outbox.OutboxStatus.SENT, " +
+            "e.sentAt = :now, e.lastError = null " +
+            "WHERE e.id = :id AND e.status = com.conti.global.outbox.OutboxStatus.PENDING")
+    int markSentIfPending(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,53 @@
+package com.conti.global.outbox;
+
+import com.conti.global.lock.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Purges delivered outbox events after a short window and permanently failed ones after a longer window
+ * kept for inspection. Runs on one instance at a time (see {@link SchedulerLock}).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRetentionTask {
+
+    private static final Duration SENT_TTL = Duration.ofDays(7);
+    private static final Duration FAILED_TTL = Duration.ofDays(30);
+    private static final int BATCH_SIZE = 1_000;
+    private static final String LOCK_NAME = "outbox-purge";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofHours(1);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+
+    private final OutboxEventJdbcRepository outboxEventJdbcRepository;
+    private final SchedulerLock schedulerLock;
+
+    @Scheduled(cron = "0 15 5 * * *")
+    public void purgeFinished() {
+        schedulerLock.runLocked(LOCK_NAME, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR, () -> {
+            LocalDateTime now = LocalDateTime.now();
+            purge(OutboxStatus.SENT, now.minus(SENT_TTL));
+            purge(OutboxStatus.FAILED, now.minus(FAILED_TTL));
+        });
+    }
+
+    // Each batch is one autocommitted DELETE, so row locks are held briefly
+    private void purge(OutboxStatus status, LocalDateTime cutoff) {
+        long deleted = 0;
+        int batch;
+        do {
+            batch = outboxEventJdbcRepository.deleteFinishedBefore(status, cutoff, BATCH_SIZE);
+            deleted += batch;
+        } while (batch == BATCH_SIZE);
+
+        if (deleted > 0) {
+            log.info("Purged {} {} outbox event(s)", deleted, status);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.conti.global.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OutboxService {
+
+    // Longer than any delivery should take; a claim older than this is retried
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    static final int MAX_ATTEMPTS = 8;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventJdbcRepository outboxEventJdbcRepository;
+
+    /**
+     * Records an event in the caller's transaction.
+     */
+    @Transactional
+    public void append(String eventType, Long aggregateId) {
+        append(eventType, aggregateId, null, Duration.ZERO);
+    }
+
+    /**
+     * Records an event carrying a payload in the caller's transaction, due once the delay has passed.
+     */
+    @Transactional
+    public void append(String eventType, Long aggregateId, Map<String, Object> payload, Duration delay) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .payload(payload)
+                .nextAttemptAt(now.plus(delay))
+                .createdAt(now)
+                .build());
+    }
+
+    /**
+     * Merges the payload into the aggregate's event that is still waiting out its delay, or records a new event
+     * due after the delay, so a burst of requests reaches the handler as one event. The merge function returns
+     * {@code null} when the two payloads cannot be combined.
+     */
+    @Transactional
+    public void appendOrMerge(String eventType, Long aggregateId, Map<String, Object> payload, Duration delay,
+                              BinaryOperator<Map<String, Object>> merge) {
+        OutboxEvent waiting = outboxEventRepository
+                .findWaitingForUpdate(eventType, aggregateId, LocalDateTime.now())
+                .orElse(null);
+        Map<String, Object> merged = waiting != null ? merge.apply(waiting.getPayload(), payload) : null;
+        if (merged != null) {
+            waiting.replacePayload(merged);
+            return;
+        }
+        append(eventType, aggregateId, payload, delay);
+    }
+
+    @Transactional
+    public void appendAll(String eventType, List<Long> aggregateIds) {
+        outboxEventJdbcRepository.insertAll(eventType, aggregateIds);
+    }
+
+    /**
+     * Claims up to limit due events for delivery. The row locks last only for this short transaction;
+     * the lease written to next_attempt_at keeps other dispatchers away while the events are delivered.
+     */
+    @Transactional
+    public List<OutboxEvent> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.findDueForUpdate(now, limit);
+        events.forEach(event -> event.claim(now.plus(LEASE)));
+        return events;
+    }
+
+    /**
+     * Marks the event sent in the caller's transaction. Returns false if it already was, so a handler that commits
+     * its own writes together with this call never applies a redelivered event twice.
+     */
+    @Transactional
+    public boolean markSentIfPending(Long eventId) {
+        return outboxEventRepository.markSentIfPending(eventId, LocalDateTime.now()) == 1;
+    }
+
+    @Transactional
+    public void complete(List<Long> sentIds, Map<Long, String> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!sentIds.isEmpty()) {
+            outboxEventRepository.markSent(sentIds, now);
+        }
+        if (!failures.isEmpty()) {
+            outboxEventRepository.findAllById(failures.keySet())
+                    .forEach(event -> event.fail(failures.get(event.getId()), now, MAX_ATTEMPTS));
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.conti.global.outbox;
+
+public enum OutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,24 @@
+-- V10: 곡별 사용 통계 요약 테이블
+-- 곡 상세/통계 조회 시 song_usages 집계 쿼리 대신 한 행으로 조회
+-- addItem/removeItem 시 증분 갱신, 매일 재집계 작업으로 보정
+
+-- ============================================================
+-- 1. SONG USAGE SUMMARIES
+-- ============================================================
+CREATE TABLE IF NOT EXISTS song_usage_summaries (
+    song_id BIGINT PRIMARY KEY,
+    usage_count BIGINT NOT NULL DEFAULT 0,
+    last_used_at DATE NULL,
+    monthly_usage JSON NOT NULL,
+    key_usage JSON NOT NULL,
+    leader_usage JSON NOT NULL,
+    stale BOOLEAN NOT NULL DEFAULT TRUE,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+-- ============================================================
+-- 2. 기존 사용 이력 집계 (stale 행으로 생성 후 재집계 작업에서 채움)
+-- ============================================================
+INSERT INTO song_usage_summaries (song_id, usage_count, monthly_usage, key_usage, leader_usage, stale)
+SELECT s.id, 0, JSON_OBJECT(), JSON_OBJECT(), JSON_OBJECT(), TRUE
+FROM songs s;
@@ -0,0 +1,22 @@
+-- V11: song_usages 팀 스코프 컬럼 및 인덱스
+-- 미사용 기간/인도자 필터가 다른 팀의 사용 이력까지 스캔하지 않도록
+-- team_id를 비정규화하고 NOT EXISTS / EXISTS 상관 서브쿼리용 복합 인덱스 추가
+
+-- ============================================================
+-- 1. SONG USAGES team_id 추가
+-- ============================================================
+ALTER TABLE song_usages
+    ADD COLUMN team_id BIGINT NULL AFTER setlist_id;
+
+UPDATE song_usages su
+INNER JOIN songs s ON s.id = su.song_id
+SET su.team_id = s.team_id;
+
+-- ============================================================
+-- 2. 상관 서브쿼리용 커버링 인덱스
+-- ============================================================
+-- unusedWithinWeeks: NOT EXISTS (team_id = ? AND song_id = s.id AND used_at >= ?)
+CREATE INDEX idx_usage_team_song_used ON song_usages (team_id, song_id, used_at);
+
+-- leaderIdEquals: EXISTS (team_id = ? AND leader_id = ? AND song_id = s.id)
+CREATE INDEX idx_usage_team_leader_song ON song_usages (team_id, leader_id, song_id);
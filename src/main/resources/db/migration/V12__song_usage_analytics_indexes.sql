@@ -0,0 +1,23 @@
+-- V12: 팀 단위 곡 사용 분석 지원
+-- 1) song_usages.leader_id 백필 (기존 addItem이 인도자를 기록하지 않음)
+-- 2) (team_id, used_at) 선두 커버링 인덱스 (songs 조인 없이 분석 쿼리 처리)
+
+-- ============================================================
+-- 1. LEADER ID 백필
+-- ============================================================
+UPDATE song_usages su
+INNER JOIN setlists st ON st.id = su.setlist_id
+SET su.leader_id = st.leader_id
+WHERE su.leader_id IS NULL;
+
+-- ============================================================
+-- 2. 분석용 인덱스
+-- ============================================================
+-- 인기 곡 / 태그 인기도: GROUP BY song_id
+CREATE INDEX idx_usage_team_used_song ON song_usages (team_id, used_at, song_id);
+
+-- 키 사용 추이: GROUP BY YEAR/MONTH(used_at), used_key
+CREATE INDEX idx_usage_team_used_key ON song_usages (team_id, used_at, used_key);
+
+-- 인도자 로테이션: GROUP BY leader_id, COUNT(DISTINCT setlist_id)
+CREATE INDEX idx_usage_team_used_leader ON song_usages (team_id, used_at, leader_id, setlist_id);
@@ -0,0 +1,25 @@
+-- V13: 콘티/템플릿 항목 순서를 간격 기반 rank로 전환
+-- 1) order_index를 1024 간격으로 재배치 (중간 삽입/이동 시 해당 행 하나만 갱신)
+-- 2) setlist_template_items 정렬 인덱스 추가
+
+-- ============================================================
+-- 1. ORDER INDEX 재배치 (기존 순서 유지, 동순위는 id 순)
+-- ============================================================
+UPDATE setlist_items si
+INNER JOIN (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY setlist_id ORDER BY order_index, id) AS position
+    FROM setlist_items
+) ranked ON ranked.id = si.id
+SET si.order_index = ranked.position * 1024;
+
+UPDATE setlist_template_items ti
+INNER JOIN (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY template_id ORDER BY order_index, id) AS position
+    FROM setlist_template_items
+) ranked ON ranked.id = ti.id
+SET ti.order_index = ranked.position * 1024;
+
+-- ============================================================
+-- 2. 템플릿 항목 정렬 인덱스
+-- ============================================================
+CREATE INDEX idx_template_items_order ON setlist_template_items (template_id, order_index);
@@ -0,0 +1,30 @@
+-- V14: 콘티 협업 편집 동기화
+-- 1) setlists.version: 콘티와 항목 변경마다 증가하는 리비전 (If-Match 비교 대상)
+-- 2) setlist_items.version: 항목이 마지막으로 변경된 리비전 (변경분 조회)
+-- 3) setlist_item_removals: 삭제된 항목 기록 (변경분 조회에서 삭제 전달)
+
+-- ============================================================
+-- 1. SETLIST VERSION
+-- ============================================================
+ALTER TABLE setlists
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- ============================================================
+-- 2. SETLIST ITEM VERSION
+-- ============================================================
+ALTER TABLE setlist_items
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0,
+    ADD INDEX idx_setlist_items_version (setlist_id, version);
+
+-- ============================================================
+-- 3. SETLIST ITEM REMOVALS
+-- ============================================================
+CREATE TABLE IF NOT EXISTS setlist_item_removals (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    setlist_id BIGINT NOT NULL,
+    item_id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    INDEX idx_item_removals_setlist_version (setlist_id, version)
+);
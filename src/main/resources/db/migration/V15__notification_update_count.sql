@@ -0,0 +1,8 @@
+-- V15: 반복 알림 병합
+-- 1) notifications.update_count: 짧은 시간 내 같은 대상의 반복 알림(콘티 수정 등)을 합친 횟수
+
+-- ============================================================
+-- 1. NOTIFICATION UPDATE COUNT
+-- ============================================================
+ALTER TABLE notifications
+    ADD COLUMN update_count INT NOT NULL DEFAULT 1;
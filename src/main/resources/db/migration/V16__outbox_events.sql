@@ -0,0 +1,20 @@
+-- V16: 트랜잭셔널 아웃박스
+-- 1) outbox_events: 도메인 트랜잭션과 함께 기록되고 커밋 후 디스패처가 전달하는 이벤트 (푸시 알림 등)
+--    선점 시 attempts 증가 + next_attempt_at을 임대 만료 시각으로 미룸 -> 전달 중 장애 시 자동 재시도
+
+-- ============================================================
+-- 1. OUTBOX EVENTS
+-- ============================================================
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    event_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(500),
+    created_at DATETIME(6) NOT NULL,
+    sent_at DATETIME(6),
+
+    INDEX idx_outbox_status_next_attempt (status, next_attempt_at)
+);
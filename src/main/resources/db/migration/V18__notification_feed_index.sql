@@ -0,0 +1,10 @@
+-- V18: 알림 커서 피드 인덱스
+-- idx_notifications_user_read(user_id, is_read, created_at)는 is_read가 중간에 있어
+-- 읽음 여부와 관계없는 최신순 목록은 정렬을 인덱스로 처리하지 못함
+-- -> (user_id, created_at DESC, id DESC)로 커서 조건과 정렬, LIMIT을 인덱스 범위 스캔으로 처리
+-- (V17은 선택 적용 파티셔닝 스크립트 db/partitioning/V17__partition_notifications.sql에 예약)
+
+-- ============================================================
+-- 1. NOTIFICATIONS (user_id, created_at, id) 인덱스
+-- ============================================================
+CREATE INDEX idx_notifications_user_created ON notifications (user_id, created_at DESC, id DESC);
@@ -0,0 +1,25 @@
+-- V19: 봉사 리마인더 다중 인스턴스 안전 실행
+-- 1) scheduler_locks: 스케줄 작업 임대 잠금 (한 인스턴스만 실행, locked_until 경과 시 다른 인스턴스가 인수)
+-- 2) service_schedules.reminder_sent_on: 리마인더를 보낸 실행 날짜 -> 같은 날 재실행 시 이미 보낸 배정 건너뜀
+-- 3) setlists(worship_date) 인덱스: 팀 구분 없이 예배 날짜로 리마인더 대상 조회
+
+-- ============================================================
+-- 1. SCHEDULER LOCKS
+-- ============================================================
+CREATE TABLE IF NOT EXISTS scheduler_locks (
+    name VARCHAR(64) PRIMARY KEY,
+    locked_until DATETIME(6) NOT NULL,
+    locked_at DATETIME(6) NOT NULL,
+    locked_by VARCHAR(255) NOT NULL
+);
+
+-- ============================================================
+-- 2. SERVICE SCHEDULE REMINDER MARKER
+-- ============================================================
+ALTER TABLE service_schedules
+    ADD COLUMN reminder_sent_on DATE;
+
+-- ============================================================
+-- 3. SETLISTS (worship_date) 인덱스
+-- ============================================================
+CREATE INDEX idx_setlists_worship_date ON setlists (worship_date);
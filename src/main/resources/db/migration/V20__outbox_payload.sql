@@ -0,0 +1,14 @@
+-- V20: 아웃박스 이벤트 페이로드
+-- 1) outbox_events.payload: 집계 id만으로 다시 만들 수 없는 이벤트 내용 (알림 팬아웃 요청: 대상 사용자, 제목, 메시지 등)
+-- 2) (event_type, aggregate_id, status) 인덱스: 같은 대상에 대기 중인 이벤트를 찾아 병합 (콘티 수정 알림 묶음)
+
+-- ============================================================
+-- 1. OUTBOX EVENT PAYLOAD
+-- ============================================================
+ALTER TABLE outbox_events
+    ADD COLUMN payload JSON;
+
+-- ============================================================
+-- 2. OUTBOX EVENTS (event_type, aggregate_id, status) 인덱스
+-- ============================================================
+CREATE INDEX idx_outbox_type_aggregate ON outbox_events (event_type, aggregate_id, status);
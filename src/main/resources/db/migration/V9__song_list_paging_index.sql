@@ -0,0 +1,7 @@
+-- V9: 찬양 목록 페이징 인덱스
+-- searchSongs 1단계(ID 페이징)가 team_id 조건 + created_at DESC 정렬을 인덱스로 처리하도록 추가
+
+-- ============================================================
+-- 1. SONGS (team_id, created_at, id) 인덱스
+-- ============================================================
+CREATE INDEX idx_songs_team_created ON songs (team_id, created_at DESC, id DESC);
@@ -0,0 +1,29 @@
+-- V17: notifications 월별 RANGE 파티셔닝 (선택 적용)
+-- 기본 Flyway 경로(db/migration)에 포함되지 않음. 적용하려면 spring.flyway.locations에
+-- classpath:db/partitioning을 추가 (V18 이후에 추가하는 경우 spring.flyway.out-of-order: true 필요)
+-- 1) MySQL은 파티션 키가 모든 유니크 키에 포함되어야 하므로 PK를 (id, created_at)으로 변경
+--    created_at은 파티션 키이므로 NOT NULL
+-- 2) 적용 시점의 다음 달 1일 이전 데이터는 p_history, 이후 데이터는 p_max에 적재
+--    NotificationRetentionTask가 매일 p_max에서 이번 달/다음 달 파티션(pYYYYMM)을 분리
+--    -> (user_id, is_read, created_at) 등 인덱스가 파티션 단위로 작게 유지됨
+
+-- ============================================================
+-- 1. PRIMARY KEY
+-- ============================================================
+ALTER TABLE notifications
+    MODIFY created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, created_at);
+
+-- ============================================================
+-- 2. PARTITIONS
+-- ============================================================
+-- p_history 경계는 적용 시점의 다음 달 1일 (파티션 정의에는 상수만 올 수 있어 동적 SQL로 생성)
+SET @p_history_until = DATE_FORMAT(CURRENT_DATE + INTERVAL 1 MONTH, '%Y-%m-01 00:00:00');
+SET @partition_ddl = CONCAT(
+    'ALTER TABLE notifications PARTITION BY RANGE (UNIX_TIMESTAMP(created_at)) (',
+    'PARTITION p_history VALUES LESS THAN (UNIX_TIMESTAMP(''', @p_history_until, ''')), ',
+    'PARTITION p_max VALUES LESS THAN MAXVALUE)');
+PREPARE partition_stmt FROM @partition_ddl;
+EXECUTE partition_stmt;
+DEALLOCATE PREPARE partition_stmt;
@@ -0,0 +1,133 @@
+package com.conti.domain.notification.live;
+
+import com.conti.domain.notification.dto.NotificationResponse;
+import com.conti.domain.notification.dto.UnreadCountResponse;
+import com.conti.domain.notification.event.NotificationCreatedEvent;
+import com.conti.domain.notification.event.NotificationsReadEvent;
+import com.conti.support.RecordingSseEmitter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.tuple;
+
+class NotificationInboxChannelTest {
+
+    private final NotificationInboxChannel channel = new NotificationInboxChannel() {
+        @Override
+        SseEmitter createEmitter() {
+            return new RecordingSseEmitter();
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdown();
+    }
+
+    private NotificationResponse notification(Long id) {
+        return new NotificationResponse(id, "SCHEDULE_ASSIGNED", "봉사 배정", "봉사 배정 알림",
+                "보컬로 배정되었습니다", "SETLIST", 1L, 1, false, LocalDateTime.now());
+    }
+
+    private RecordingSseEmitter subscribe(Long userId, long unreadCount,
+                                          Supplier<List<NotificationResponse>> missed) throws InterruptedException {
+        RecordingSseEmitter emitter = (RecordingSseEmitter) channel.subscribe(userId, () -> unreadCount, missed);
+        emitter.await("connected", 1);
+        return emitter;
+    }
+
+    @Test
+    @DisplayName("사용자별로 구독자를 관리하고 놓친 알림은 등록 후에 조회한다")
+    void subscribe_perUser() throws InterruptedException {
+        // given
+        AtomicInteger registeredWhenQueried = new AtomicInteger(-1);
+
+        // when
+        subscribe(1L, 2L, List::of);
+        subscribe(1L, 2L, () -> {
+            registeredWhenQueried.set(channel.subscriberCount(1L));
+            return List.of();
+        });
+        subscribe(2L, 0L, List::of);
+
+        // then
+        assertThat(registeredWhenQueried.get()).isEqualTo(2);
+        assertThat(channel.subscriberCount(1L)).isEqualTo(2);
+        assertThat(channel.subscriberCount(2L)).isEqualTo(1);
+        assertThat(channel.subscriberCount(3L)).isZero();
+    }
+
+    @Test
+    @DisplayName("읽지 않은 수를 먼저 보내고 놓친 알림을 ID 순서로 다시 보낸다")
+    void subscribe_replaysMissedAfterConnected() throws InterruptedException {
+        // when
+        RecordingSseEmitter emitter = subscribe(1L, 2L, () -> List.of(notification(5L), notification(6L)));
+
+        // then
+        emitter.await("notification", 2);
+        assertThat(emitter.events())
+                .extracting(RecordingSseEmitter.Event::name, RecordingSseEmitter.Event::id)
+                .containsExactly(
+                        tuple("connected", null),
+                        tuple("notification", "5"),
+                        tuple("notification", "6"));
+        assertThat(emitter.events().get(0).data()).isEqualTo(new UnreadCountResponse(2L));
+    }
+
+    @Test
+    @DisplayName("커밋된 알림과 읽음 이벤트를 순서대로 보내고 이미 다시 보낸 알림은 건너뛴다")
+    void onNotificationCreated_deliversInOrder() throws InterruptedException {
+        // given
+        RecordingSseEmitter emitter = subscribe(1L, 0L, () -> List.of(notification(5L)));
+
+        // when
+        channel.onNotificationCreated(new NotificationCreatedEvent(1L, notification(5L)));
+        for (long id = 6; id <= 30; id++) {
+            channel.onNotificationCreated(new NotificationCreatedEvent(1L, notification(id)));
+        }
+        channel.onNotificationsRead(NotificationsReadEvent.all(1L, 26));
+
+        // then
+        emitter.await("read", 1);
+        List<String> ids = emitter.events().stream()
+                .filter(event -> "notification".equals(event.name()))
+                .map(RecordingSseEmitter.Event::id)
+                .toList();
+        assertThat(ids).containsExactlyElementsOf(
+                LongStream.rangeClosed(5, 30).mapToObj(String::valueOf).toList());
+        assertThat(emitter.events().get(emitter.events().size() - 1).name()).isEqualTo("read");
+    }
+
+    @Test
+    @DisplayName("완료된 구독자에게 보내면 구독에서 제거한다")
+    void heartbeat_dropsCompletedSubscriber() throws InterruptedException {
+        // given
+        SseEmitter emitter = subscribe(1L, 0L, List::of);
+        emitter.complete();
+
+        // when
+        channel.heartbeat();
+
+        // then
+        assertThat(channel.subscriberCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 사용자의 알림은 무시한다")
+    void onNotificationCreated_noSubscribers() {
+        assertThatCode(() -> {
+            channel.onNotificationCreated(new NotificationCreatedEvent(9L, notification(1L)));
+            channel.onNotificationsRead(NotificationsReadEvent.all(9L, 3));
+        }).doesNotThrowAnyException();
+    }
+}
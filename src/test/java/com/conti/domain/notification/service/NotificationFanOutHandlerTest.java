@@ -0,0 +1,106 @@
+package com.conti.domain.notification.service;
+
+import com.conti.domain.notification.entity.Notification;
+import com.conti.domain.notification.entity.NotificationType;
+import com.conti.global.outbox.OutboxEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationFanOutHandlerTest {
+
+    @InjectMocks
+    private NotificationFanOutHandler handler;
+
+    @Mock
+    private NotificationService notificationService;
+
+    private OutboxEvent event(Long id, NotificationFanOut request) {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent event = OutboxEvent.builder()
+                .eventType(NotificationFanOutHandler.EVENT_TYPE)
+                .aggregateId(request.referenceId())
+                .payload(request.toPayload())
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+
+    @Test
+    @DisplayName("요청의 대상자마다 알림을 만들어 이벤트 단위로 저장한다")
+    void handle_savesNotificationsPerRequest() {
+        // given
+        NotificationFanOut request = NotificationFanOut.of(
+                List.of(1L, 2L), NotificationType.SCHEDULE_ASSIGNED, "봉사 배정 알림", "보컬로 배정되었습니다", "SETLIST", 7L);
+
+        // when
+        Map<Long, String> failures = handler.handle(List.of(event(10L, request)));
+
+        // then
+        assertThat(failures).isEmpty();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).saveFanOut(eq(10L), captor.capture());
+        assertThat(captor.getValue()).extracting(Notification::getUserId).containsExactly(1L, 2L);
+        assertThat(captor.getValue()).allSatisfy(notification -> {
+            assertThat(notification.getReferenceId()).isEqualTo(7L);
+            assertThat(notification.getUpdateCount()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("병합된 요청은 마지막 메시지와 대상자별 누적 횟수로 저장한다")
+    void handle_mergedRequest() {
+        // given
+        NotificationFanOut first = NotificationFanOut.of(
+                List.of(1L, 2L), NotificationType.SETLIST_UPDATED, "콘티 수정 알림", "수정 1", "SETLIST", 7L);
+        NotificationFanOut second = NotificationFanOut.of(
+                List.of(1L), NotificationType.SETLIST_UPDATED, "콘티 수정 알림", "수정 2", "SETLIST", 7L);
+
+        // when
+        handler.handle(List.of(event(10L, first.merge(second))));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).saveFanOut(eq(10L), captor.capture());
+        assertThat(captor.getValue()).extracting(Notification::getUserId, Notification::getUpdateCount)
+                .containsExactly(tuple(1L, 2), tuple(2L, 1));
+        assertThat(captor.getValue()).extracting(Notification::getMessage).containsOnly("수정 2");
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 이벤트만 실패로 돌려주고 나머지는 계속 처리한다")
+    void handle_saveFails() {
+        // given
+        NotificationFanOut request = NotificationFanOut.of(
+                List.of(1L), NotificationType.SCHEDULE_ASSIGNED, "봉사 배정 알림", "보컬로 배정되었습니다", "SETLIST", 7L);
+        willThrow(new IllegalStateException("db down")).given(notificationService).saveFanOut(eq(10L), anyList());
+
+        // when
+        Map<Long, String> failures = handler.handle(List.of(event(10L, request), event(11L, request)));
+
+        // then
+        assertThat(failures).containsOnlyKeys(10L);
+        verify(notificationService).saveFanOut(eq(11L), anyList());
+    }
+}
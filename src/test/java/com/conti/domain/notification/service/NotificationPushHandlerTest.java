@@ -0,0 +1,75 @@
+package com.conti.domain.notification.service;
+
+import com.conti.domain.notification.entity.Notification;
+import com.conti.domain.notification.entity.NotificationType;
+import com.conti.domain.notification.repository.NotificationRepository;
+import com.conti.global.outbox.OutboxEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPushHandlerTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private final PushNotificationService pushNotificationService = spy(new MockPushNotificationService());
+
+    private Notification notification(Long id, Long userId) {
+        Notification notification = Notification.builder()
+                .userId(userId)
+                .type(NotificationType.SCHEDULE_ASSIGNED)
+                .title("봉사 배정 알림")
+                .message("보컬로 배정되었습니다")
+                .build();
+        ReflectionTestUtils.setField(notification, "id", id);
+        return notification;
+    }
+
+    private OutboxEvent event(Long id, Long notificationId) {
+        OutboxEvent event = OutboxEvent.builder()
+                .eventType(NotificationPushHandler.EVENT_TYPE)
+                .aggregateId(notificationId)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+
+    @Test
+    @DisplayName("사용자별로 알림을 묶어 푸시하고 실패한 사용자의 이벤트만 돌려준다")
+    void handle_pushesPerUser() {
+        // given
+        NotificationPushHandler handler = new NotificationPushHandler(notificationRepository, pushNotificationService);
+        given(notificationRepository.findAllById(List.of(10L, 11L, 12L, 13L))).willReturn(List.of(
+                notification(10L, 1L), notification(11L, 1L), notification(12L, 2L)));
+        willThrow(new IllegalStateException("invalid token"))
+                .given(pushNotificationService).sendPushes(eq(2L), anyList());
+
+        // when
+        Map<Long, String> failures = handler.handle(List.of(
+                event(1L, 10L), event(2L, 11L), event(3L, 12L), event(4L, 13L)));
+
+        // then
+        verify(pushNotificationService).sendPushes(eq(1L), anyList());
+        assertThat(failures).containsOnlyKeys(3L);
+        assertThat(failures.get(3L)).isEqualTo("invalid token");
+    }
+}
@@ -0,0 +1,178 @@
+package com.conti.domain.notification.service;
+
+import com.conti.domain.notification.entity.NotificationType;
+import com.conti.domain.notification.repository.NotificationJdbcRepository;
+import com.conti.global.lock.SchedulerLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionTaskTest {
+
+    @Mock
+    private NotificationJdbcRepository notificationJdbcRepository;
+
+    @Mock
+    private SchedulerLock schedulerLock;
+
+    private final NotificationRetentionProperties properties = new NotificationRetentionProperties(
+            true, Duration.ofDays(90), Map.of(NotificationType.SCHEDULE_REMINDER, Duration.ofDays(14)));
+
+    private NotificationRetentionTask task;
+
+    @BeforeEach
+    void setUp() {
+        task = new NotificationRetentionTask(notificationJdbcRepository, properties, schedulerLock);
+    }
+
+    private void givenLockAcquired() {
+        given(schedulerLock.runLocked(any(), any(), any(), any())).willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(3).run();
+            return true;
+        });
+    }
+
+    @Test
+    @DisplayName("유형별 보관 기간을 적용하고 없으면 기본값을 쓴다")
+    void cutoffs_perType() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2026, 10, 17, 5, 0);
+
+        // when
+        Map<NotificationType, LocalDateTime> cutoffs = properties.cutoffs(now);
+
+        // then
+        assertThat(cutoffs).hasSize(NotificationType.values().length);
+        assertThat(cutoffs.get(NotificationType.SCHEDULE_REMINDER)).isEqualTo(now.minusDays(14));
+        assertThat(cutoffs.get(NotificationType.SCHEDULE_ASSIGNED)).isEqualTo(now.minusDays(90));
+    }
+
+    @Test
+    @DisplayName("가장 오래된 읽은 알림 id부터 만료 가능한 마지막 id까지 범위를 나눠 삭제한다")
+    void purgeExpired_walksIdRanges() {
+        // given
+        givenLockAcquired();
+        given(notificationJdbcRepository.findLastIdCreatedBefore(any())).willReturn(25_000L);
+        given(notificationJdbcRepository.findFirstReadIdCreatedBefore(any())).willReturn(1L);
+        given(notificationJdbcRepository.deleteExpiredRead(anyLong(), anyLong(), anyMap())).willReturn(10);
+
+        // when
+        task.purgeExpired();
+
+        // then
+        verify(notificationJdbcRepository).deleteExpiredRead(eq(1L), eq(10_001L), anyMap());
+        verify(notificationJdbcRepository).deleteExpiredRead(eq(10_001L), eq(20_001L), anyMap());
+        verify(notificationJdbcRepository).deleteExpiredRead(eq(20_001L), eq(25_001L), anyMap());
+        verify(notificationJdbcRepository, times(3)).deleteExpiredRead(anyLong(), anyLong(), anyMap());
+    }
+
+    @Test
+    @DisplayName("오래된 안 읽은 알림이 남아 있어도 그 id부터 걷지 않는다")
+    void purgeExpired_skipsOldUnread() {
+        // given
+        givenLockAcquired();
+        given(notificationJdbcRepository.findLastIdCreatedBefore(any())).willReturn(25_000L);
+        given(notificationJdbcRepository.findFirstReadIdCreatedBefore(any())).willReturn(24_000L);
+        given(notificationJdbcRepository.deleteExpiredRead(anyLong(), anyLong(), anyMap())).willReturn(10);
+
+        // when
+        task.purgeExpired();
+
+        // then
+        verify(notificationJdbcRepository).deleteExpiredRead(eq(24_000L), eq(25_001L), anyMap());
+        verify(notificationJdbcRepository, times(1)).deleteExpiredRead(anyLong(), anyLong(), anyMap());
+    }
+
+    @Test
+    @DisplayName("만료될 만큼 오래된 읽은 알림이 없으면 삭제하지 않는다")
+    void purgeExpired_nothingReadOldEnough() {
+        // given
+        givenLockAcquired();
+        given(notificationJdbcRepository.findLastIdCreatedBefore(any())).willReturn(25_000L);
+        given(notificationJdbcRepository.findFirstReadIdCreatedBefore(any())).willReturn(null);
+
+        // when
+        task.purgeExpired();
+
+        // then
+        verify(notificationJdbcRepository, never()).deleteExpiredRead(anyLong(), anyLong(), anyMap());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 락을 잡고 있으면 삭제하지 않는다")
+    void purgeExpired_lockedElsewhere() {
+        // given
+        given(schedulerLock.runLocked(eq("notification-purge"), any(), any(), any())).willReturn(false);
+
+        // when
+        task.purgeExpired();
+
+        // then
+        verify(notificationJdbcRepository, never()).findLastIdCreatedBefore(any());
+        verify(notificationJdbcRepository, never()).deleteExpiredRead(anyLong(), anyLong(), anyMap());
+    }
+
+    @Test
+    @DisplayName("만료될 만큼 오래된 알림이 없으면 삭제하지 않는다")
+    void purgeExpired_nothingOldEnough() {
+        // given
+        givenLockAcquired();
+        given(notificationJdbcRepository.findLastIdCreatedBefore(any())).willReturn(null);
+
+        // when
+        task.purgeExpired();
+
+        // then
+        verify(notificationJdbcRepository, never()).deleteExpiredRead(anyLong(), anyLong(), anyMap());
+    }
+
+    @Test
+    @DisplayName("파티셔닝된 테이블이면 아직 없는 이번 달/다음 달 파티션만 추가한다")
+    void maintainPartitions_addsMissingMonths() {
+        // given
+        givenLockAcquired();
+        YearMonth current = YearMonth.now();
+        given(notificationJdbcRepository.findPartitionedUntil())
+                .willReturn(current.plusMonths(1).atDay(1).atStartOfDay());
+
+        // when
+        task.maintainPartitions();
+
+        // then
+        verify(notificationJdbcRepository, never()).addMonthlyPartition(current);
+        verify(notificationJdbcRepository).addMonthlyPartition(current.plusMonths(1));
+    }
+
+    @Test
+    @DisplayName("파티셔닝되지 않은 테이블은 건드리지 않는다")
+    void maintainPartitions_notPartitioned() {
+        // given
+        givenLockAcquired();
+        given(notificationJdbcRepository.findPartitionedUntil()).willReturn(null);
+
+        // when
+        task.maintainPartitions();
+
+        // then
+        verify(notificationJdbcRepository, never()).addMonthlyPartition(any());
+    }
+}
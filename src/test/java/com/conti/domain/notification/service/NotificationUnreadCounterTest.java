@@ -0,0 +1,98 @@
+package com.conti.domain.notification.service;
+
+import com.conti.domain.notification.event.NotificationCreatedEvent;
+import com.conti.domain.notification.event.NotificationsReadEvent;
+import com.conti.domain.notification.repository.NotificationRepository;
+import com.conti.domain.notification.repository.UnreadCount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationUnreadCounterTest {
+
+    @InjectMocks
+    private NotificationUnreadCounter counter;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Test
+    @DisplayName("처음 조회할 때만 DB에서 세고 이후에는 캐시된 값을 쓴다")
+    void get_loadsOnce() {
+        // given
+        given(notificationRepository.countByUserIdAndIsReadFalse(1L)).willReturn(3L);
+
+        // when
+        long first = counter.get(1L);
+        long second = counter.get(1L);
+
+        // then
+        assertThat(first).isEqualTo(3L);
+        assertThat(second).isEqualTo(3L);
+        verify(notificationRepository, times(1)).countByUserIdAndIsReadFalse(1L);
+    }
+
+    @Test
+    @DisplayName("생성/읽음 이벤트로 캐시된 값을 조정하고 0 아래로 내려가지 않는다")
+    void events_adjustCachedCount() {
+        // given
+        given(notificationRepository.countByUserIdAndIsReadFalse(1L)).willReturn(1L);
+        counter.get(1L);
+
+        // when & then
+        counter.onNotificationCreated(new NotificationCreatedEvent(1L, null));
+        assertThat(counter.get(1L)).isEqualTo(2L);
+
+        counter.onNotificationsRead(NotificationsReadEvent.one(1L));
+        counter.onNotificationsRead(NotificationsReadEvent.one(1L));
+        counter.onNotificationsRead(NotificationsReadEvent.one(1L));
+        assertThat(counter.get(1L)).isZero();
+
+        counter.onNotificationCreated(new NotificationCreatedEvent(1L, null));
+        counter.onNotificationsRead(NotificationsReadEvent.all(1L, 1));
+        assertThat(counter.get(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 사용자의 이벤트는 무시한다")
+    void events_ignoreUncachedUser() {
+        // when
+        counter.onNotificationCreated(new NotificationCreatedEvent(2L, null));
+        counter.onNotificationsRead(NotificationsReadEvent.all(2L, 5));
+
+        // then
+        verify(notificationRepository, never()).countByUserIdAndIsReadFalse(2L);
+    }
+
+    @Test
+    @DisplayName("주기적으로 캐시된 사용자의 값을 DB 기준으로 맞춘다")
+    void reconcile_correctsDrift() {
+        // given
+        given(notificationRepository.countByUserIdAndIsReadFalse(1L)).willReturn(5L);
+        given(notificationRepository.countByUserIdAndIsReadFalse(2L)).willReturn(2L);
+        counter.get(1L);
+        counter.get(2L);
+        given(notificationRepository.countUnreadByUserIds(anyCollection()))
+                .willReturn(List.of(new UnreadCount(1L, 4L)));
+
+        // when
+        counter.reconcile();
+
+        // then
+        assertThat(counter.get(1L)).isEqualTo(4L);
+        assertThat(counter.get(2L)).isZero();
+    }
+}
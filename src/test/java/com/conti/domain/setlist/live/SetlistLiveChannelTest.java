@@ -0,0 +1,141 @@
+package com.conti.domain.setlist.live;
+
+import com.conti.domain.setlist.event.SetlistChangedEvent;
+import com.conti.support.RecordingSseEmitter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class SetlistLiveChannelTest {
+
+    private final SetlistLiveChannel channel = new SetlistLiveChannel() {
+        @Override
+        SseEmitter createEmitter() {
+            return new RecordingSseEmitter();
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdown();
+    }
+
+    private RecordingSseEmitter subscribe(Long setlistId, long version) throws InterruptedException {
+        RecordingSseEmitter emitter = (RecordingSseEmitter) channel.subscribe(setlistId, version);
+        emitter.await("connected", 1);
+        return emitter;
+    }
+
+    @Test
+    @DisplayName("콘티별로 구독자를 관리한다")
+    void subscribe_perSetlist() throws InterruptedException {
+        // when
+        subscribe(1L, 3L);
+        subscribe(1L, 3L);
+        subscribe(2L, 0L);
+
+        // then
+        assertThat(channel.subscriberCount(1L)).isEqualTo(2);
+        assertThat(channel.subscriberCount(2L)).isEqualTo(1);
+        assertThat(channel.subscriberCount(3L)).isZero();
+    }
+
+    @Test
+    @DisplayName("완료된 구독자에게 보내면 구독에서 제거한다")
+    void heartbeat_dropsCompletedSubscriber() throws InterruptedException {
+        // given
+        SseEmitter emitter = subscribe(1L, 3L);
+        emitter.complete();
+
+        // when
+        channel.heartbeat();
+
+        // then
+        assertThat(channel.subscriberCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("커밋된 변경을 버전을 ID로 한 change 이벤트로 보낸다")
+    void onSetlistChanged_sendsChangeWithVersionId() throws InterruptedException {
+        // given
+        RecordingSseEmitter emitter = subscribe(1L, 3L);
+
+        // when
+        channel.onSetlistChanged(SetlistChangedEvent.itemsReordered(1L, 4L, List.of(1L, 2L)));
+
+        // then
+        List<RecordingSseEmitter.Event> changes = emitter.await("change", 1);
+        assertThat(changes.get(0).id()).isEqualTo("4");
+        assertThat(changes.get(0).data()).isInstanceOf(SetlistChangedEvent.class);
+    }
+
+    @Test
+    @DisplayName("같은 콘티의 변경은 커밋 순서대로 도착한다")
+    void onSetlistChanged_deliversInOrder() throws InterruptedException {
+        // given
+        RecordingSseEmitter emitter = subscribe(1L, 3L);
+
+        // when
+        for (long version = 4; version <= 53; version++) {
+            channel.onSetlistChanged(SetlistChangedEvent.itemsReordered(1L, version, List.of(1L, 2L)));
+        }
+
+        // then
+        List<String> ids = emitter.await("change", 50).stream()
+                .map(RecordingSseEmitter.Event::id)
+                .toList();
+        assertThat(ids).containsExactlyElementsOf(
+                LongStream.rangeClosed(4, 53).mapToObj(String::valueOf).toList());
+        assertThat(emitter.events().get(0).name()).isEqualTo("connected");
+    }
+
+    @Test
+    @DisplayName("이미 보낸 버전보다 오래된 변경은 늦게 도착해도 보내지 않는다")
+    void onSetlistChanged_dropsStaleVersion() throws InterruptedException {
+        // given
+        RecordingSseEmitter emitter = subscribe(1L, 3L);
+
+        // when
+        channel.onSetlistChanged(SetlistChangedEvent.itemsReordered(1L, 5L, List.of(1L, 2L)));
+        channel.onSetlistChanged(SetlistChangedEvent.itemsReordered(1L, 4L, List.of(2L, 1L)));
+        channel.onSetlistChanged(SetlistChangedEvent.itemsReordered(1L, 6L, List.of(1L, 2L)));
+
+        // then
+        List<String> ids = emitter.await("change", 2).stream()
+                .map(RecordingSseEmitter.Event::id)
+                .toList();
+        assertThat(ids).containsExactly("5", "6");
+    }
+
+    @Test
+    @DisplayName("구독 시점 버전 이하의 변경은 보내지 않는다")
+    void onSetlistChanged_dropsVersionBeforeSubscription() throws InterruptedException {
+        // given
+        RecordingSseEmitter emitter = subscribe(1L, 7L);
+
+        // when
+        channel.onSetlistChanged(SetlistChangedEvent.itemsReordered(1L, 7L, List.of(1L, 2L)));
+        channel.onSetlistChanged(SetlistChangedEvent.itemsReordered(1L, 8L, List.of(1L, 2L)));
+
+        // then
+        List<String> ids = emitter.await("change", 1).stream()
+                .map(RecordingSseEmitter.Event::id)
+                .toList();
+        assertThat(ids).containsExactly("8");
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 콘티의 변경은 무시한다")
+    void onSetlistChanged_noSubscribers() {
+        assertThatCode(() -> channel.onSetlistChanged(
+                SetlistChangedEvent.itemsReordered(9L, 4L, List.of(1L, 2L))))
+                .doesNotThrowAnyException();
+    }
+}
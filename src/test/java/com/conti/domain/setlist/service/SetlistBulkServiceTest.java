@@ -0,0 +1,228 @@
+package com.conti.domain.setlist.service;
+
+import com.conti.domain.setlist.dto.SetlistBulkCreateRequest;
+import com.conti.domain.setlist.dto.SetlistBulkCreateResponse;
+import com.conti.domain.setlist.dto.SetlistBulkCreateResponse.DateResult;
+import com.conti.domain.setlist.dto.SetlistBulkCreateResponse.Progress;
+import com.conti.domain.setlist.entity.Setlist;
+import com.conti.domain.setlist.entity.SetlistTemplate;
+import com.conti.domain.setlist.entity.WorshipType;
+import com.conti.domain.setlist.repository.SetlistItemRepository;
+import com.conti.domain.setlist.repository.SetlistJdbcRepository;
+import com.conti.domain.setlist.repository.SetlistRepository;
+import com.conti.domain.setlist.repository.SetlistTemplateRepository;
+import com.conti.domain.song.repository.SongUsageRepository;
+import com.conti.domain.song.service.SongUsageSummaryService;
+import com.conti.domain.team.entity.Team;
+import com.conti.domain.team.repository.TeamRepository;
+import com.conti.global.error.BusinessException;
+import com.conti.global.error.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SetlistBulkServiceTest {
+
+    @InjectMocks
+    private SetlistBulkService setlistBulkService;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private SetlistTemplateRepository setlistTemplateRepository;
+
+    @Mock
+    private SetlistRepository setlistRepository;
+
+    @Mock
+    private SetlistJdbcRepository setlistJdbcRepository;
+
+    @Mock
+    private SetlistItemRepository setlistItemRepository;
+
+    @Mock
+    private SongUsageRepository songUsageRepository;
+
+    @Mock
+    private SongUsageSummaryService songUsageSummaryService;
+
+    private Team createTeam(Long id) {
+        Team team = Team.builder()
+                .name("찬양팀")
+                .description("테스트 팀")
+                .inviteCode("ABC123")
+                .build();
+        ReflectionTestUtils.setField(team, "id", id);
+        return team;
+    }
+
+    private SetlistTemplate createTemplate(Team team) {
+        SetlistTemplate template = SetlistTemplate.builder()
+                .team(team)
+                .name("주일 1부 기본 콘티")
+                .worshipType(WorshipType.SUNDAY_1ST)
+                .build();
+        ReflectionTestUtils.setField(template, "id", 3L);
+        return template;
+    }
+
+    private SetlistBulkCreateRequest sundaysInApril(Integer intervalWeeks) {
+        return new SetlistBulkCreateRequest(3L, LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 30),
+                DayOfWeek.SUNDAY, intervalWeeks, null, null, 1L);
+    }
+
+    @Nested
+    @DisplayName("worshipDates")
+    class WorshipDates {
+
+        @Test
+        @DisplayName("시작일 이후 첫 반복 요일부터 간격마다 날짜를 계산한다")
+        void worshipDates_everyOtherWeek() {
+            assertThat(sundaysInApril(2).worshipDates())
+                    .containsExactly(LocalDate.of(2026, 4, 5), LocalDate.of(2026, 4, 19));
+            assertThat(sundaysInApril(null).worshipDates()).hasSize(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("createSetlistsFromTemplate")
+    class CreateSetlistsFromTemplate {
+
+        @Test
+        @DisplayName("없는 날짜만 한 번에 생성하고 항목과 사용 이력을 복사한다")
+        void createSetlists_skipsExisting() {
+            // given
+            Team team = createTeam(1L);
+            SetlistTemplate template = createTemplate(team);
+            Setlist existing = Setlist.builder()
+                    .team(team)
+                    .creatorId(1L)
+                    .worshipDate(LocalDate.of(2026, 4, 12))
+                    .worshipType(WorshipType.SUNDAY_1ST)
+                    .build();
+            ReflectionTestUtils.setField(existing, "id", 50L);
+
+            given(teamRepository.findById(1L)).willReturn(Optional.of(team));
+            given(setlistTemplateRepository.findById(3L)).willReturn(Optional.of(template));
+            given(setlistRepository.findByTeamIdAndWorshipTypeAndWorshipDateBetween(
+                    1L, WorshipType.SUNDAY_1ST, LocalDate.of(2026, 4, 5), LocalDate.of(2026, 4, 26)))
+                    .willReturn(List.of(existing));
+            given(setlistJdbcRepository.insertAll(any())).willReturn(List.of(101L, 102L, 103L));
+            given(songUsageRepository.insertForSetlistItems(List.of(101L, 102L, 103L))).willReturn(3);
+            List<Progress> progress = new ArrayList<>();
+
+            // when
+            SetlistBulkCreateResponse result = setlistBulkService.createSetlistsFromTemplate(
+                    1L, 1L, sundaysInApril(null), progress::add);
+
+            // then
+            assertThat(result.createdCount()).isEqualTo(3);
+            assertThat(result.skippedCount()).isEqualTo(1);
+            assertThat(result.results()).containsExactly(
+                    new DateResult(LocalDate.of(2026, 4, 5), 101L, true),
+                    new DateResult(LocalDate.of(2026, 4, 12), 50L, false),
+                    new DateResult(LocalDate.of(2026, 4, 19), 102L, true),
+                    new DateResult(LocalDate.of(2026, 4, 26), 103L, true));
+            assertThat(progress).containsExactly(new Progress(4, 4));
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Setlist>> drafts = ArgumentCaptor.forClass(List.class);
+            verify(setlistJdbcRepository).insertAll(drafts.capture());
+            assertThat(drafts.getValue()).extracting(Setlist::getTitle)
+                    .containsExactly("2026-04-05 주일 1부 기본 콘티", "2026-04-19 주일 1부 기본 콘티", "2026-04-26 주일 1부 기본 콘티");
+            verify(setlistItemRepository).copyItemsFromTemplate(3L, List.of(101L, 102L, 103L));
+            verify(songUsageSummaryService).recordSetlistUsages(List.of(101L, 102L, 103L));
+        }
+
+        @Test
+        @DisplayName("예배 유형이 없으면 유형이 없는 기존 콘티를 기준으로 건너뛴다")
+        void createSetlists_withoutWorshipType() {
+            // given
+            Team team = createTeam(1L);
+            SetlistTemplate template = SetlistTemplate.builder()
+                    .team(team)
+                    .name("기본 콘티")
+                    .build();
+            ReflectionTestUtils.setField(template, "id", 3L);
+            Setlist existing = Setlist.builder()
+                    .team(team)
+                    .creatorId(1L)
+                    .worshipDate(LocalDate.of(2026, 4, 5))
+                    .build();
+            ReflectionTestUtils.setField(existing, "id", 50L);
+
+            given(teamRepository.findById(1L)).willReturn(Optional.of(team));
+            given(setlistTemplateRepository.findById(3L)).willReturn(Optional.of(template));
+            given(setlistRepository.findByTeamIdAndWorshipTypeIsNullAndWorshipDateBetween(
+                    1L, LocalDate.of(2026, 4, 5), LocalDate.of(2026, 4, 19)))
+                    .willReturn(List.of(existing));
+            given(setlistJdbcRepository.insertAll(any())).willReturn(List.of(101L));
+
+            // when
+            SetlistBulkCreateResponse result = setlistBulkService.createSetlistsFromTemplate(
+                    1L, 1L, sundaysInApril(2), p -> {
+                    });
+
+            // then
+            assertThat(result.results()).containsExactly(
+                    new DateResult(LocalDate.of(2026, 4, 5), 50L, false),
+                    new DateResult(LocalDate.of(2026, 4, 19), 101L, true));
+            verify(setlistRepository, never()).findByTeamIdAndWorshipTypeAndWorshipDateBetween(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("다른 팀의 템플릿이면 예외를 던진다")
+        void createSetlists_otherTeamTemplate() {
+            // given
+            given(teamRepository.findById(1L)).willReturn(Optional.of(createTeam(1L)));
+            given(setlistTemplateRepository.findById(3L)).willReturn(Optional.of(createTemplate(createTeam(2L))));
+
+            // when & then
+            assertThatThrownBy(() -> setlistBulkService.createSetlistsFromTemplate(1L, 1L, sundaysInApril(null), p -> {
+            }))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                            .isEqualTo(ErrorCode.TEMPLATE_NOT_FOUND));
+            verify(setlistJdbcRepository, never()).insertAll(any());
+        }
+
+        @Test
+        @DisplayName("기간에 해당하는 날짜가 없으면 예외를 던진다")
+        void createSetlists_emptyRange() {
+            // given
+            Team team = createTeam(1L);
+            given(teamRepository.findById(1L)).willReturn(Optional.of(team));
+            given(setlistTemplateRepository.findById(3L)).willReturn(Optional.of(createTemplate(team)));
+            SetlistBulkCreateRequest request = new SetlistBulkCreateRequest(3L, LocalDate.of(2026, 4, 6),
+                    LocalDate.of(2026, 4, 10), DayOfWeek.SUNDAY, null, null, null, null);
+
+            // when & then
+            assertThatThrownBy(() -> setlistBulkService.createSetlistsFromTemplate(1L, 1L, request, p -> {
+            }))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                            .isEqualTo(ErrorCode.INVALID_BULK_RANGE));
+        }
+    }
+}
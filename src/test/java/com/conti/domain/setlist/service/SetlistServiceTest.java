@@ -1,40 +1,57 @@
 package com.conti.domain.setlist.service;
 
+import com.conti.domain.setlist.dto.MoveItemRequest;
 import com.conti.domain.setlist.dto.ReorderRequest;
+import com.conti.domain.setlist.dto.SetlistCopyRequest;
 import com.conti.domain.setlist.dto.SetlistCreateRequest;
 import com.conti.domain.setlist.dto.SetlistDetailResponse;
 import com.conti.domain.setlist.dto.SetlistItemRequest;
 import com.conti.domain.setlist.dto.SetlistItemResponse;
 import com.conti.domain.setlist.dto.SetlistResponse;
 import com.conti.domain.setlist.dto.SetlistSearchCondition;
+import com.conti.domain.setlist.dto.SetlistChangesResponse;
 import com.conti.domain.setlist.dto.SetlistUpdateRequest;
+import com.conti.domain.setlist.dto.SetlistVersionResponse;
+import com.conti.domain.setlist.entity.OrderRank;
 import com.conti.domain.setlist.entity.Setlist;
 import com.conti.domain.setlist.entity.SetlistItem;
+import com.conti.domain.setlist.entity.SetlistItemRemoval;
 import com.conti.domain.setlist.entity.SetlistItemType;
 import com.conti.domain.setlist.entity.WorshipType;
+import com.conti.domain.setlist.event.SetlistChangedEvent;
+import com.conti.domain.setlist.repository.SetlistItemRemovalRepository;
 import com.conti.domain.setlist.repository.SetlistItemRepository;
 import com.conti.domain.setlist.repository.SetlistRepository;
 import com.conti.domain.song.entity.Song;
+import com.conti.domain.song.entity.SongUsage;
 import com.conti.domain.song.repository.SongRepository;
 import com.conti.domain.song.repository.SongUsageRepository;
+import com.conti.domain.song.service.SongUsageSummaryService;
 import com.conti.domain.team.entity.Team;
 import com.conti.domain.team.repository.TeamRepository;
 import com.conti.domain.setlist.repository.SetlistTemplateRepository;
+import com.conti.domain.notification.entity.NotificationType;
 import com.conti.domain.notification.service.NotificationService;
 import com.conti.domain.schedule.repository.ServiceScheduleRepository;
+import com.conti.global.common.Cursor;
+import com.conti.global.common.CursorResponse;
 import com.conti.global.error.BusinessException;
 import com.conti.global.error.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -43,8 +60,10 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -59,6 +78,9 @@ class SetlistServiceTest {
     @Mock
     private SetlistItemRepository setlistItemRepository;
 
+    @Mock
+    private SetlistItemRemovalRepository setlistItemRemovalRepository;
+
     @Mock
     private SongRepository songRepository;
 
@@ -77,6 +99,12 @@ class SetlistServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private SongUsageSummaryService songUsageSummaryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private Team createTeam() {
         return Team.builder()
                 .name("찬양팀")
@@ -107,6 +135,17 @@ class SetlistServiceTest {
                 .build();
     }
 
+    private SetlistItem addHeaderItem(Setlist setlist, Long id, int orderIndex) {
+        SetlistItem item = SetlistItem.builder()
+                .setlist(setlist)
+                .itemType(SetlistItemType.HEADER)
+                .orderIndex(orderIndex)
+                .build();
+        ReflectionTestUtils.setField(item, "id", id);
+        setlist.getSetlistItems().add(item);
+        return item;
+    }
+
     @Nested
     @DisplayName("getSetlists")
     class GetSetlists {
@@ -135,6 +174,70 @@ class SetlistServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getSetlistsByCursor")
+    class GetSetlistsByCursor {
+
+        @Test
+        @DisplayName("다음 페이지가 있으면 마지막 콘티의 예배 날짜와 ID로 커서를 만든다")
+        void getSetlistsByCursor_hasNext() {
+            // given
+            Long teamId = 1L;
+            Team team = createTeam();
+            Setlist setlist = createSetlist(team);
+            ReflectionTestUtils.setField(setlist, "id", 7L);
+            SetlistSearchCondition condition = new SetlistSearchCondition(null, null, null);
+
+            given(setlistRepository.searchSetlistsByCursor(eq(teamId), any(SetlistSearchCondition.class), eq(null), eq(1)))
+                    .willReturn(new SliceImpl<>(List.of(setlist), PageRequest.ofSize(1), true));
+
+            // when
+            CursorResponse<SetlistResponse> result = setlistService.getSetlistsByCursor(teamId, condition, null, 1);
+
+            // then
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.hasNext()).isTrue();
+            Cursor next = Cursor.decode(result.nextCursor());
+            assertThat(next.dateKey()).isEqualTo(LocalDate.of(2026, 2, 9));
+            assertThat(next.id()).isEqualTo(7L);
+        }
+
+        @Test
+        @DisplayName("마지막 페이지면 다음 커서가 없다")
+        void getSetlistsByCursor_lastPage() {
+            // given
+            Long teamId = 1L;
+            Team team = createTeam();
+            Setlist setlist = createSetlist(team);
+            String cursor = Cursor.of(LocalDate.of(2026, 3, 1), 10L).encode();
+            SetlistSearchCondition condition = new SetlistSearchCondition(null, null, null);
+
+            given(setlistRepository.searchSetlistsByCursor(eq(teamId), any(SetlistSearchCondition.class), any(Cursor.class), eq(20)))
+                    .willReturn(new SliceImpl<>(List.of(setlist), PageRequest.ofSize(20), false));
+
+            // when
+            CursorResponse<SetlistResponse> result = setlistService.getSetlistsByCursor(teamId, condition, cursor, 20);
+
+            // then
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("잘못된 커서면 예외를 던진다")
+        void getSetlistsByCursor_invalidCursor() {
+            // given
+            SetlistSearchCondition condition = new SetlistSearchCondition(null, null, null);
+
+            // when & then
+            assertThatThrownBy(() -> setlistService.getSetlistsByCursor(1L, condition, "not-a-cursor", 20))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                            .isEqualTo(ErrorCode.INVALID_CURSOR));
+        }
+    }
+
     @Nested
     @DisplayName("createSetlist")
     class CreateSetlist {
@@ -193,7 +296,7 @@ class SetlistServiceTest {
             Team team = createTeam();
             Setlist setlist = createSetlist(team);
 
-            given(setlistRepository.findById(setlistId)).willReturn(Optional.of(setlist));
+            given(setlistRepository.findWithItemsById(setlistId)).willReturn(Optional.of(setlist));
 
             // when
             SetlistDetailResponse result = setlistService.getSetlist(setlistId);
@@ -209,7 +312,7 @@ class SetlistServiceTest {
         void getSetlist_notFound() {
             // given
             Long setlistId = 999L;
-            given(setlistRepository.findById(setlistId)).willReturn(Optional.empty());
+            given(setlistRepository.findWithItemsById(setlistId)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> setlistService.getSetlist(setlistId))
@@ -234,14 +337,60 @@ class SetlistServiceTest {
                     "수정된 콘티", null, null, null, null
             );
 
-            given(setlistRepository.findById(setlistId)).willReturn(Optional.of(setlist));
+            given(setlistRepository.findByIdForUpdate(setlistId)).willReturn(Optional.of(setlist));
 
             // when
-            SetlistResponse result = setlistService.updateSetlist(setlistId, request);
+            SetlistResponse result = setlistService.updateSetlist(setlistId, request, null);
 
             // then
             assertThat(result.title()).isEqualTo("수정된 콘티");
             assertThat(result.worshipDate()).isEqualTo(LocalDate.of(2026, 2, 9));
+            assertThat(result.version()).isEqualTo(1L);
+            verify(notificationService).requestNotifications(
+                    eq(List.of()), eq(NotificationType.SETLIST_UPDATED), any(), any(), eq("SETLIST"), any());
+        }
+
+        @Test
+        @DisplayName("If-Match 버전이 현재 버전과 다르면 수정하지 않고 예외를 던진다")
+        void updateSetlist_versionMismatch() {
+            // given
+            Long setlistId = 1L;
+            Setlist setlist = createSetlist(createTeam());
+            setlist.increaseVersion();
+            setlist.increaseVersion();
+            SetlistUpdateRequest request = new SetlistUpdateRequest(
+                    "수정된 콘티", null, null, null, null
+            );
+
+            given(setlistRepository.findByIdForUpdate(setlistId)).willReturn(Optional.of(setlist));
+
+            // when & then
+            assertThatThrownBy(() -> setlistService.updateSetlist(setlistId, request, 1L))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                            .isEqualTo(ErrorCode.SETLIST_VERSION_MISMATCH));
+            assertThat(setlist.getTitle()).isEqualTo("주일예배 콘티");
+            assertThat(setlist.getVersion()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("인도자나 예배일이 바뀌면 곡 사용 이력도 함께 갱신한다")
+        void updateSetlist_syncsSongUsages() {
+            // given
+            Long setlistId = 1L;
+            Team team = createTeam();
+            Setlist setlist = createSetlist(team);
+            SetlistUpdateRequest request = new SetlistUpdateRequest(
+                    null, LocalDate.of(2026, 2, 16), null, 2L, null
+            );
+
+            given(setlistRepository.findByIdForUpdate(setlistId)).willReturn(Optional.of(setlist));
+
+            // when
+            setlistService.updateSetlist(setlistId, request, null);
+
+            // then
+            verify(songUsageSummaryService).syncSetlistUsages(setlistId, 2L, LocalDate.of(2026, 2, 16));
         }
     }
 
@@ -281,6 +430,60 @@ class SetlistServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("copySetlist")
+    class CopySetlist {
+
+        @Test
+        @DisplayName("항목과 곡 사용 이력을 INSERT ... SELECT로 복사한다")
+        void copySetlist_success() {
+            // given
+            Long setlistId = 1L;
+            Setlist source = createSetlist(createTeam());
+            SetlistCopyRequest request = new SetlistCopyRequest("복사 콘티", LocalDate.of(2026, 2, 16), null);
+
+            given(setlistRepository.findById(setlistId)).willReturn(Optional.of(source));
+            given(setlistRepository.save(any(Setlist.class))).willAnswer(invocation -> {
+                Setlist saved = invocation.getArgument(0);
+                ReflectionTestUtils.setField(saved, "id", 2L);
+                return saved;
+            });
+            given(setlistItemRepository.copyItemsFromSetlist(setlistId, 2L)).willReturn(5);
+            given(songUsageRepository.insertForSetlistItems(List.of(2L))).willReturn(4);
+
+            // when
+            SetlistResponse result = setlistService.copySetlist(setlistId, 1L, request);
+
+            // then
+            assertThat(result.id()).isEqualTo(2L);
+            assertThat(result.songCount()).isEqualTo(5);
+            assertThat(result.worshipType()).isEqualTo("SUNDAY_1ST");
+            verify(songUsageSummaryService).recordSetlistUsages(List.of(2L));
+        }
+
+        @Test
+        @DisplayName("찬양 항목이 없으면 사용 이력 요약을 건드리지 않는다")
+        void copySetlist_withoutSongs() {
+            // given
+            Long setlistId = 1L;
+            Setlist source = createSetlist(createTeam());
+            SetlistCopyRequest request = new SetlistCopyRequest("복사 콘티", LocalDate.of(2026, 2, 16), null);
+
+            given(setlistRepository.findById(setlistId)).willReturn(Optional.of(source));
+            given(setlistRepository.save(any(Setlist.class))).willAnswer(invocation -> {
+                Setlist saved = invocation.getArgument(0);
+                ReflectionTestUtils.setField(saved, "id", 2L);
+                return saved;
+            });
+
+            // when
+            setlistService.copySetlist(setlistId, 1L, request);
+
+            // then
+            verify(songUsageSummaryService, never()).recordSetlistUsages(any());
+        }
+    }
+
     @Nested
     @DisplayName("addItem")
     class AddItem {
@@ -294,19 +497,87 @@ class SetlistServiceTest {
             Setlist setlist = createSetlist(team);
             Song song = createSong(team);
 
-            SetlistItemRequest request = new SetlistItemRequest(SetlistItemType.SONG, 1L, null, "C", null, "메모", null, null);
+            SetlistItemRequest request = new SetlistItemRequest(SetlistItemType.SONG, 1L, null, "C", null, "메모", null, null, null);
 
-            given(setlistRepository.findById(setlistId)).willReturn(Optional.of(setlist));
+            given(setlistRepository.findByIdForUpdate(setlistId)).willReturn(Optional.of(setlist));
             given(songRepository.findById(1L)).willReturn(Optional.of(song));
 
             // when
-            SetlistItemResponse result = setlistService.addItem(setlistId, request);
+            SetlistItemResponse result = setlistService.addItem(setlistId, request, null);
 
             // then
             assertThat(result.songTitle()).isEqualTo("이 땅의 모든 찬양");
             assertThat(result.songKey()).isEqualTo("C");
             assertThat(result.orderIndex()).isEqualTo(0);
-            verify(songUsageRepository).save(any());
+            assertThat(result.version()).isEqualTo(1L);
+            ArgumentCaptor<SongUsage> usageCaptor = ArgumentCaptor.forClass(SongUsage.class);
+            verify(songUsageRepository).save(usageCaptor.capture());
+            assertThat(usageCaptor.getValue().getLeaderId()).isEqualTo(1L);
+            assertThat(usageCaptor.getValue().getUsedAt()).isEqualTo(LocalDate.of(2026, 2, 9));
+            verify(songUsageSummaryService).recordUsage(any());
+            ArgumentCaptor<SetlistChangedEvent> eventCaptor = ArgumentCaptor.forClass(SetlistChangedEvent.class);
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().type()).isEqualTo(SetlistChangedEvent.Type.ITEM_ADDED);
+            assertThat(eventCaptor.getValue().version()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("지정한 항목 뒤에 추가하면 새 항목 하나만 중간 rank를 받는다")
+        void addItem_insertAfter() {
+            // given
+            Long setlistId = 1L;
+            Setlist setlist = createSetlist(createTeam());
+            SetlistItem first = addHeaderItem(setlist, 1L, 1024);
+            SetlistItem second = addHeaderItem(setlist, 2L, 2048);
+            SetlistItemRequest request = new SetlistItemRequest(SetlistItemType.HEADER, null, "말씀", null, null, null, null, null, 1L);
+
+            given(setlistRepository.findByIdForUpdate(setlistId)).willReturn(Optional.of(setlist));
+
+            // when
+            SetlistItemResponse result = setlistService.addItem(setlistId, request, null);
+
+            // then
+            assertThat(result.orderIndex()).isEqualTo(1);
+            assertThat(setlist.getSetlistItems()).extracting(SetlistItem::getOrderIndex).containsExactly(1024, 1536, 2048);
+            assertThat(first.getOrderIndex()).isEqualTo(1024);
+            assertThat(second.getOrderIndex()).isEqualTo(2048);
+        }
+
+        @Test
+        @DisplayName("이웃 항목 사이에 여유가 없으면 다시 번호를 매긴다")
+        void addItem_renumbersWhenNoRoom() {
+            // given
+            Long setlistId = 1L;
+            Setlist setlist = createSetlist(createTeam());
+            addHeaderItem(setlist, 1L, 1024);
+            addHeaderItem(setlist, 2L, 1025);
+            SetlistItemRequest request = new SetlistItemRequest(SetlistItemType.HEADER, null, "말씀", null, null, null, null, null, 1L);
+
+            given(setlistRepository.findByIdForUpdate(setlistId)).willReturn(Optional.of(setlist));
+
+            // when
+            SetlistItemResponse result = setlistService.addItem(setlistId, request, null);
+
+            // then
+            assertThat(result.orderIndex()).isEqualTo(1);
+            assertThat(setlist.getSetlistItems()).extracting(SetlistItem::getOrderIndex).containsExactly(1024, 2048, 3072);
+        }
+
+        @Test
+        @DisplayName("기준 항목이 콘티에 없으면 예외를 던진다")
+        void addItem_unknownAfterItem() {
+            // given
+            Long setlistId = 1L;
+            Setlist setlist = createSetlist(createTeam());
+            SetlistItemRequest request = new SetlistItemRequest(SetlistItemType.HEADER, null, "말씀", null, null, null, null, null, 99L);
+
+            given(setlistRepository.findByIdForUpdate(setlistId)).willReturn(Optional.of(setlist));
+
+            // when & then
+            assertThatThrownBy(() -> setlistService.addItem(setlistId, request, null))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                            .isEqualTo(ErrorCode.INVALID_ITEM_POSITION));
         }
 
         @Test
@@ -316,13 +587,13 @@ class SetlistServiceTest {
             Long setlistId = 1L;
             Team team = createTeam();
             Setlist setlist = createSetlist(team);
-            SetlistItemRequest request = new SetlistItemRequest(SetlistItemType.SONG, 999L, null, "C", null, null, null, null);
+            SetlistItemRequest request = new SetlistItemRequest(SetlistItemType.SONG, 999L, null, "C", null, null, null, null, null);
 
-            given(setlistRepository.findById(setlistId)).willReturn(Optional.of(setlist));
+            given(setlistRepository.findByIdForUpdate(setlistId)).willReturn(Optional.of(setlist));
             given(songRepository.findById(999L)).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> setlistService.addItem(setlistId, request))
+            assertThatThrownBy(() -> setlistService.addItem(setlistId, request, null))
                     .isInstanceOf(BusinessException.class)
                     .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
                             .isEqualTo(ErrorCode.SONG_NOT_FOUND));
@@ -342,6 +613,7 @@ class SetlistServiceTest {
             Team team = createTeam();
             Song song = createSong(team);
             Setlist setlist = createSetlist(team);
+            ReflectionTestUtils.setField(setlist, "id", setlistId);
 
             SetlistItem item = SetlistItem.builder()
                     .setlist(setlist)
@@ -351,16 +623,18 @@ class SetlistServiceTest {
                     .memo("원래 메모")
                     .build();
 
-            SetlistItemRequest request = new SetlistItemRequest(null, null, null, "D", null, "수정 메모", null, null);
+            SetlistItemRequest request = new SetlistItemRequest(null, null, null, "D", null, "수정 메모", null, null, null);
 
+            given(setlistRepository.findByIdForUpdate(setlistId)).willReturn(Optional.of(setlist));
             given(setlistItemRepository.findById(itemId)).willReturn(Optional.of(item));
 
             // when
-            SetlistItemResponse result = setlistService.updateItem(setlistId, itemId, request);
+            SetlistItemResponse result = setlistService.updateItem(setlistId, itemId, request, null);
 
             // then
             assertThat(result.songKey()).isEqualTo("D");
             assertThat(result.memo()).isEqualTo("수정 메모");
+            assertThat(item.getVersion()).isEqualTo(1L);
         }
     }
 
@@ -369,22 +643,28 @@ class SetlistServiceTest {
     class RemoveItem {
 
         @Test
-        @DisplayName("콘티에서 곡을 제거한다")
+        @DisplayName("콘티에서 곡을 제거하고 삭제 기록을 남긴다")
         void removeItem_success() {
             // given
             Long setlistId = 1L;
             Long itemId = 1L;
-            SetlistItem item = SetlistItem.builder()
-                    .orderIndex(0)
-                    .build();
+            Setlist setlist = createSetlist(createTeam());
+            ReflectionTestUtils.setField(setlist, "id", setlistId);
+            SetlistItem item = addHeaderItem(setlist, itemId, 1024);
 
+            given(setlistRepository.findByIdForUpdate(setlistId)).willReturn(Optional.of(setlist));
             given(setlistItemRepository.findById(itemId)).willReturn(Optional.of(item));
 
             // when
-            setlistService.removeItem(setlistId, itemId);
+            SetlistVersionResponse result = setlistService.removeItem(setlistId, itemId, null);
 
             // then
-            verify(setlistItemRepository).delete(item);
+            assertThat(result.version()).isEqualTo(1L);
+            assertThat(setlist.getSetlistItems()).doesNotContain(item);
+            ArgumentCaptor<SetlistItemRemoval> removalCaptor = ArgumentCaptor.forClass(SetlistItemRemoval.class);
+            verify(setlistItemRemovalRepository).save(removalCaptor.capture());
+            assertThat(removalCaptor.getValue().getItemId()).isEqualTo(itemId);
+            assertThat(removalCaptor.getValue().getVersion()).isEqualTo(1L);
         }
     }
 
@@ -393,28 +673,185 @@ class SetlistServiceTest {
     class ReorderItems {
 
         @Test
-        @DisplayName("콘티 아이템 순서를 변경한다")
+        @DisplayName("콘티 아이템 순서를 한 번의 UPDATE로 변경한다")
         void reorderItems_success() {
             // given
             Long setlistId = 1L;
-            SetlistItem item1 = SetlistItem.builder().orderIndex(0).build();
-            SetlistItem item2 = SetlistItem.builder().orderIndex(1).build();
-            SetlistItem item3 = SetlistItem.builder().orderIndex(2).build();
-
             // Reorder: item3, item1, item2
             ReorderRequest request = new ReorderRequest(List.of(3L, 1L, 2L));
 
-            given(setlistItemRepository.findById(3L)).willReturn(Optional.of(item3));
-            given(setlistItemRepository.findById(1L)).willReturn(Optional.of(item1));
-            given(setlistItemRepository.findById(2L)).willReturn(Optional.of(item2));
+            given(setlistRepository.findByIdForUpdate(setlistId)).willReturn(Optional.of(createSetlist(createTeam())));
+            given(setlistItemRepository.findIdsBySetlistId(setlistId)).willReturn(List.of(1L, 2L, 3L));
+
+            // when
+            SetlistVersionResponse result = setlistService.reorderItems(setlistId, request, null);
+
+            // then
+            assertThat(result.version()).isEqualTo(1L);
+            verify(setlistItemRepository).updateOrderIndexes(setlistId, List.of(3L, 1L, 2L));
+            verify(eventPublisher).publishEvent(SetlistChangedEvent.itemsReordered(setlistId, 1L, List.of(3L, 1L, 2L)));
+        }
+
+        @Test
+        @DisplayName("콘티에 속하지 않은 아이템이 있으면 예외를 던진다")
+        void reorderItems_foreignItem() {
+            // given
+            Long setlistId = 1L;
+            ReorderRequest request = new ReorderRequest(List.of(3L, 1L, 99L));
+
+            given(setlistRepository.findByIdForUpdate(setlistId)).willReturn(Optional.of(createSetlist(createTeam())));
+            given(setlistItemRepository.findIdsBySetlistId(setlistId)).willReturn(List.of(1L, 2L, 3L));
+
+            // when & then
+            assertThatThrownBy(() -> setlistService.reorderItems(setlistId, request, null))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                            .isEqualTo(ErrorCode.INVALID_REORDER_ITEMS));
+            verify(setlistItemRepository, never()).updateOrderIndexes(any(), any());
+        }
+
+        @Test
+        @DisplayName("아이템이 빠지거나 중복되면 예외를 던진다")
+        void reorderItems_incompleteOrDuplicated() {
+            // given
+            Long setlistId = 1L;
+            given(setlistRepository.findByIdForUpdate(setlistId)).willReturn(Optional.of(createSetlist(createTeam())));
+            given(setlistItemRepository.findIdsBySetlistId(setlistId)).willReturn(List.of(1L, 2L, 3L));
+
+            // when & then
+            assertThatThrownBy(() -> setlistService.reorderItems(setlistId, new ReorderRequest(List.of(3L, 1L)), null))
+                    .isInstanceOf(BusinessException.class);
+            assertThatThrownBy(() -> setlistService.reorderItems(setlistId, new ReorderRequest(List.of(3L, 1L, 1L)), null))
+                    .isInstanceOf(BusinessException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("moveItem")
+    class MoveItem {
+
+        @Test
+        @DisplayName("이동한 항목의 rank만 변경한다")
+        void moveItem_success() {
+            // given
+            Long setlistId = 1L;
+            Setlist setlist = createSetlist(createTeam());
+            ReflectionTestUtils.setField(setlist, "id", setlistId);
+            SetlistItem first = addHeaderItem(setlist, 1L, 1024);
+            SetlistItem second = addHeaderItem(setlist, 2L, 2048);
+            SetlistItem third = addHeaderItem(setlist, 3L, 3072);
+
+            given(setlistRepository.findByIdForUpdate(setlistId)).willReturn(Optional.of(setlist));
+            given(setlistItemRepository.findById(3L)).willReturn(Optional.of(third));
+
+            // when
+            SetlistItemResponse result = setlistService.moveItem(setlistId, 3L, new MoveItemRequest(null), null);
+
+            // then
+            assertThat(result.orderIndex()).isEqualTo(0);
+            assertThat(third.getOrderIndex()).isEqualTo(512);
+            assertThat(first.getOrderIndex()).isEqualTo(1024);
+            assertThat(second.getOrderIndex()).isEqualTo(2048);
+            assertThat(setlist.getSetlistItems()).containsExactly(third, first, second);
+            assertThat(third.getVersion()).isEqualTo(1L);
+            assertThat(first.getVersion()).isZero();
+        }
+
+        @Test
+        @DisplayName("다른 콘티의 항목이면 예외를 던진다")
+        void moveItem_otherSetlist() {
+            // given
+            Setlist setlist = createSetlist(createTeam());
+            ReflectionTestUtils.setField(setlist, "id", 2L);
+            SetlistItem item = addHeaderItem(setlist, 3L, 1024);
+
+            given(setlistRepository.findByIdForUpdate(1L)).willReturn(Optional.of(createSetlist(createTeam())));
+            given(setlistItemRepository.findById(3L)).willReturn(Optional.of(item));
+
+            // when & then
+            assertThatThrownBy(() -> setlistService.moveItem(1L, 3L, new MoveItemRequest(null), null))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                            .isEqualTo(ErrorCode.SETLIST_NOT_FOUND));
+        }
+    }
+
+    @Nested
+    @DisplayName("rebalanceItemRanks")
+    class RebalanceItemRanks {
+
+        @Test
+        @DisplayName("rank 간격이 좁아진 콘티를 버전 변경 없이 다시 번호 매긴다")
+        void rebalanceItemRanks_success() {
+            // given
+            Setlist setlist = createSetlist(createTeam());
+            long version = setlist.getVersion();
+            given(setlistItemRepository.findSetlistIdsWithDenseRanks(OrderRank.MIN_GAP, 100)).willReturn(List.of(5L));
+            given(setlistRepository.findByIdForUpdate(5L)).willReturn(Optional.of(setlist));
+            given(setlistItemRepository.findIdsBySetlistId(5L)).willReturn(List.of(2L, 1L));
+
+            // when
+            int rebalanced = setlistService.rebalanceItemRanks(100);
+
+            // then
+            assertThat(rebalanced).isEqualTo(1);
+            assertThat(setlist.getVersion()).isEqualTo(version);
+            verify(setlistItemRepository).updateOrderIndexes(5L, List.of(2L, 1L));
+            verify(eventPublisher, never()).publishEvent(any(SetlistChangedEvent.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("getChanges")
+    class GetChanges {
+
+        @Test
+        @DisplayName("since 이후 변경/삭제된 항목과 현재 순서만 반환한다")
+        void getChanges_success() {
+            // given
+            Long setlistId = 1L;
+            Setlist setlist = createSetlist(createTeam());
+            ReflectionTestUtils.setField(setlist, "id", setlistId);
+            setlist.increaseVersion();
+            setlist.increaseVersion();
+            setlist.increaseVersion();
+            SetlistItem changed = addHeaderItem(setlist, 2L, 2048);
+            changed.updateVersion(3L);
+
+            given(setlistRepository.findById(setlistId)).willReturn(Optional.of(setlist));
+            given(setlistItemRepository.findIdsBySetlistId(setlistId)).willReturn(List.of(1L, 2L));
+            given(setlistItemRepository.findChangedAfter(setlistId, 1L)).willReturn(List.of(changed));
+            given(setlistItemRemovalRepository.findItemIdsRemovedAfter(setlistId, 1L)).willReturn(List.of(7L));
+
+            // when
+            SetlistChangesResponse result = setlistService.getChanges(setlistId, 1L);
+
+            // then
+            assertThat(result.version()).isEqualTo(3L);
+            assertThat(result.changedItems()).extracting(SetlistItemResponse::id).containsExactly(2L);
+            assertThat(result.changedItems().get(0).orderIndex()).isEqualTo(1);
+            assertThat(result.removedItemIds()).containsExactly(7L);
+            assertThat(result.itemOrder()).containsExactly(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("이미 최신 버전이면 변경 항목을 조회하지 않는다")
+        void getChanges_upToDate() {
+            // given
+            Long setlistId = 1L;
+            Setlist setlist = createSetlist(createTeam());
+            setlist.increaseVersion();
+
+            given(setlistRepository.findById(setlistId)).willReturn(Optional.of(setlist));
+            given(setlistItemRepository.findIdsBySetlistId(setlistId)).willReturn(List.of(1L));
 
             // when
-            setlistService.reorderItems(setlistId, request);
+            SetlistChangesResponse result = setlistService.getChanges(setlistId, 1L);
 
             // then
-            assertThat(item3.getOrderIndex()).isEqualTo(0);
-            assertThat(item1.getOrderIndex()).isEqualTo(1);
-            assertThat(item2.getOrderIndex()).isEqualTo(2);
+            assertThat(result.changedItems()).isEmpty();
+            assertThat(result.removedItemIds()).isEmpty();
+            verify(setlistItemRepository, never()).findChangedAfter(any(), anyLong());
         }
     }
 }
@@ -1,6 +1,7 @@
 package com.conti.domain.song.repository;
 
 import com.conti.domain.song.dto.SongSearchCondition;
+import com.conti.domain.song.search.SongSearchMode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -110,5 +111,26 @@ class SongQueryRepositoryTest {
             assertThat(condition.unusedWeeks()).isEqualTo(4);
             assertThat(condition.leaderId()).isEqualTo(1L);
         }
+
+        @Test
+        @DisplayName("검색 모드를 지정하지 않으면 부분 일치 검색이다")
+        void defaultSearchMode() {
+            // given & when
+            SongSearchCondition condition = new SongSearchCondition("찬양", null, null, null, null);
+
+            // then
+            assertThat(condition.searchMode()).isEqualTo(SongSearchMode.CONTAINS);
+        }
+
+        @Test
+        @DisplayName("초성 검색 조건을 생성한다")
+        void chosungCondition() {
+            // given & when
+            SongSearchCondition condition = new SongSearchCondition("ㅇㅎ", SongSearchMode.CHOSUNG, null, null, null, null);
+
+            // then
+            assertThat(condition.keyword()).isEqualTo("ㅇㅎ");
+            assertThat(condition.searchMode()).isEqualTo(SongSearchMode.CHOSUNG);
+        }
     }
 }
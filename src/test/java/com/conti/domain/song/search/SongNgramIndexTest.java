@@ -0,0 +1,169 @@
+package com.conti.domain.song.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SongNgramIndexTest {
+
+    private SongNgramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SongNgramIndex();
+        index.put(1L, "이 땅의 모든 찬양", "마커스");
+        index.put(2L, "Amazing Grace", "전통찬송");
+        index.put(3L, "은혜 아니면", "마커스");
+        index.put(4L, "주님 다시 오실 때까지", null);
+    }
+
+    @Nested
+    @DisplayName("search")
+    class Search {
+
+        @Test
+        @DisplayName("제목 또는 아티스트에 키워드가 포함된 곡을 찾는다")
+        void search_titleOrArtist() {
+            assertThat(index.search("찬양")).containsExactly(1L);
+            assertThat(index.search("마커스")).containsExactlyInAnyOrder(1L, 3L);
+        }
+
+        @Test
+        @DisplayName("대소문자를 구분하지 않는다")
+        void search_ignoreCase() {
+            assertThat(index.search("grace")).containsExactly(2L);
+            assertThat(index.search("AMAZING")).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("한 글자 키워드도 부분 일치로 찾는다")
+        void search_singleCharacter() {
+            assertThat(index.search("주")).containsExactly(4L);
+            assertThat(index.search("찬")).containsExactlyInAnyOrder(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("공백을 포함한 키워드를 부분 일치로 찾는다")
+        void search_withSpace() {
+            assertThat(index.search("모든 찬")).containsExactly(1L);
+            assertThat(index.search("의 모")).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("bigram이 모두 있어도 연속되지 않으면 매칭하지 않는다")
+        void search_verifiesSubstring() {
+            index.put(5L, "ab cd bc", null);
+
+            assertThat(index.search("abc")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("자모가 분리된(NFD) 입력도 같은 곡을 찾는다")
+        void search_normalizesDecomposedHangul() {
+            String decomposed = Normalizer.normalize("은혜", Normalizer.Form.NFD);
+
+            assertThat(index.search(decomposed)).containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("일치하는 곡이 없으면 빈 목록을 반환한다")
+        void search_noMatch() {
+            assertThat(index.search("없는곡")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("search - 초성/자모")
+    class SearchHangulKeys {
+
+        @Test
+        @DisplayName("초성으로 제목을 찾는다")
+        void chosung_title() {
+            index.put(5L, "은혜로다", null);
+
+            assertThat(index.search("ㅇㅎㄹㄷ", SongSearchMode.CHOSUNG)).containsExactly(5L);
+            assertThat(index.search("ㅇㅎ", SongSearchMode.CHOSUNG)).containsExactlyInAnyOrder(3L, 5L);
+        }
+
+        @Test
+        @DisplayName("초성 검색은 단어 시작부터 일치하며 공백은 무시한다")
+        void chosung_wordStart() {
+            assertThat(index.search("ㅁㄷㅊㅇ", SongSearchMode.CHOSUNG)).containsExactly(1L);
+            assertThat(index.search("ㅁㄷ ㅊ", SongSearchMode.CHOSUNG)).containsExactly(1L);
+            assertThat(index.search("ㄷㅊㅇ", SongSearchMode.CHOSUNG)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("초성 검색으로 아티스트를 찾는다")
+        void chosung_artist() {
+            assertThat(index.search("ㅁㅋㅅ", SongSearchMode.CHOSUNG)).containsExactlyInAnyOrder(1L, 3L);
+        }
+
+        @Test
+        @DisplayName("입력 중인 자모로 곡을 찾는다")
+        void jamo_partialSyllable() {
+            index.put(5L, "은혜로다", null);
+
+            assertThat(index.search("은혤", SongSearchMode.JAMO)).containsExactly(5L);
+            assertThat(index.search("은혜ㄹ", SongSearchMode.JAMO)).containsExactly(5L);
+            assertThat(index.search("으", SongSearchMode.JAMO)).containsExactlyInAnyOrder(3L, 5L);
+        }
+
+        @Test
+        @DisplayName("겹모음을 입력하는 도중에도 곡을 찾는다")
+        void jamo_compoundVowel() {
+            index.put(5L, "광야를 지나며", null);
+
+            assertThat(index.search("고", SongSearchMode.JAMO)).containsExactly(5L);
+            assertThat(index.search("과", SongSearchMode.JAMO)).containsExactly(5L);
+        }
+
+        @Test
+        @DisplayName("삭제한 곡은 초성 검색에서도 제외된다")
+        void chosung_afterRemove() {
+            index.remove(3L);
+
+            assertThat(index.search("ㅁㅋㅅ", SongSearchMode.CHOSUNG)).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("결과가 limit을 넘으면 가장 최근 곡부터 limit개만 반환한다")
+        void chosung_limitKeepsNewest() {
+            index.put(5L, "은혜로다", null);
+            index.put(6L, "은혜의 강가로", null);
+            index.put(7L, "오직 예수", null);
+
+            assertThat(index.search("ㅇ", SongSearchMode.CHOSUNG, 2)).containsExactly(7L, 6L);
+            assertThat(index.search("ㅇ", SongSearchMode.JAMO, 2)).containsExactly(7L, 6L);
+        }
+    }
+
+    @Nested
+    @DisplayName("put / remove")
+    class Update {
+
+        @Test
+        @DisplayName("곡 정보를 수정하면 이전 제목으로는 찾을 수 없다")
+        void put_replacesPreviousDocument() {
+            index.put(2L, "Way Maker", "Sinach");
+
+            assertThat(index.search("grace")).isEmpty();
+            assertThat(index.search("maker")).containsExactly(2L);
+            assertThat(index.size()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("삭제한 곡은 검색되지 않는다")
+        void remove_song() {
+            index.remove(3L);
+
+            assertThat(index.search("마커스")).containsExactly(1L);
+            assertThat(index.size()).isEqualTo(3);
+        }
+    }
+}
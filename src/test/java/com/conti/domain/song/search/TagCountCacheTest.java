@@ -0,0 +1,124 @@
+package com.conti.domain.song.search;
+
+import com.conti.domain.song.dto.TagResponse;
+import com.conti.domain.song.event.SongChangedEvent;
+import com.conti.domain.song.repository.SongTagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TagCountCacheTest {
+
+    @InjectMocks
+    private TagCountCache tagCountCache;
+
+    @Mock
+    private SongTagRepository songTagRepository;
+
+    private void givenLoadedTags(Long teamId) {
+        given(songTagRepository.findTagsWithCountByTeamId(teamId)).willReturn(List.of(
+                new TagResponse("경배", 2),
+                new TagResponse("감사", 1)
+        ));
+        tagCountCache.getTags(teamId);
+    }
+
+    @Test
+    @DisplayName("처음 조회 후에는 DB를 다시 조회하지 않는다")
+    void getTags_loadsOnce() {
+        // given
+        givenLoadedTags(1L);
+
+        // when
+        List<TagResponse> result = tagCountCache.getTags(1L);
+
+        // then
+        assertThat(result).extracting(TagResponse::tag).containsExactly("경배", "감사");
+        verify(songTagRepository, times(1)).findTagsWithCountByTeamId(1L);
+    }
+
+    @Test
+    @DisplayName("곡 태그가 바뀌면 DB 조회 없이 추가/삭제된 태그만 반영한다")
+    void onSongChanged_appliesTagDelta() {
+        // given
+        givenLoadedTags(1L);
+
+        // when
+        tagCountCache.onSongChanged(new SongChangedEvent(
+                1L, 10L, "곡", null, List.of("경배", "감사"), List.of("경배", "성탄"), false));
+
+        // then
+        assertThat(tagCountCache.getTags(1L)).containsExactly(
+                new TagResponse("경배", 2),
+                new TagResponse("성탄", 1));
+        verify(songTagRepository, times(1)).findTagsWithCountByTeamId(1L);
+    }
+
+    @Test
+    @DisplayName("집계에 없는 태그가 삭제되면 캐시를 버리고 다음 조회에서 다시 집계한다")
+    void onSongChanged_unknownTagRemoved() {
+        // given
+        givenLoadedTags(1L);
+
+        // when
+        tagCountCache.onSongChanged(new SongChangedEvent(
+                1L, 10L, "곡", null, List.of("성탄"), List.of(), false));
+
+        // then
+        tagCountCache.getTags(1L);
+        verify(songTagRepository, times(2)).findTagsWithCountByTeamId(1L);
+    }
+
+    @Test
+    @DisplayName("태그가 그대로인 변경은 캐시를 유지한다")
+    void onSongChanged_tagsUnchanged() {
+        // given
+        givenLoadedTags(1L);
+
+        // when
+        tagCountCache.onSongChanged(new SongChangedEvent(
+                1L, 10L, "새 제목", null, List.of("경배", "감사"), List.of("감사", "경배"), false));
+
+        // then
+        tagCountCache.getTags(1L);
+        verify(songTagRepository, times(1)).findTagsWithCountByTeamId(1L);
+    }
+
+    @Test
+    @DisplayName("태그가 있는 곡이 삭제되면 개수를 줄이고 0이 된 태그는 뺀다")
+    void onSongChanged_deleted() {
+        // given
+        givenLoadedTags(1L);
+
+        // when
+        tagCountCache.onSongChanged(new SongChangedEvent(
+                1L, 10L, "곡", null, List.of("경배", "감사"), List.of(), true));
+
+        // then
+        assertThat(tagCountCache.getTags(1L)).containsExactly(new TagResponse("경배", 1));
+        verify(songTagRepository, times(1)).findTagsWithCountByTeamId(1L);
+    }
+
+    @Test
+    @DisplayName("캐시되지 않은 팀의 변경은 무시한다")
+    void onSongChanged_notCached() {
+        // when
+        tagCountCache.onSongChanged(new SongChangedEvent(
+                2L, 10L, "곡", null, List.of(), List.of("경배"), false));
+
+        // then
+        given(songTagRepository.findTagsWithCountByTeamId(2L)).willReturn(List.of());
+        assertThat(tagCountCache.getTags(2L)).isEmpty();
+    }
+}
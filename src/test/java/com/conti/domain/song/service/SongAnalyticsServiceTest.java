@@ -0,0 +1,129 @@
+package com.conti.domain.song.service;
+
+import com.conti.domain.song.dto.LeaderRotationResponse;
+import com.conti.domain.song.dto.TopSongResponse;
+import com.conti.domain.song.entity.Song;
+import com.conti.domain.song.repository.LeaderUsageCount;
+import com.conti.domain.song.repository.SongRepository;
+import com.conti.domain.song.repository.SongUsageCount;
+import com.conti.domain.song.repository.SongUsageRepository;
+import com.conti.domain.team.entity.Team;
+import com.conti.domain.user.service.UserNameResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class SongAnalyticsServiceTest {
+
+    @InjectMocks
+    private SongAnalyticsService songAnalyticsService;
+
+    @Mock
+    private SongUsageRepository songUsageRepository;
+
+    @Mock
+    private SongRepository songRepository;
+
+    @Mock
+    private UserNameResolver userNameResolver;
+
+    private Song createSong(Long id, String title) {
+        Team team = Team.builder()
+                .name("찬양팀")
+                .description("테스트 팀")
+                .inviteCode("ABC123")
+                .build();
+        Song song = Song.builder()
+                .team(team)
+                .title(title)
+                .artist("마커스")
+                .originalKey("G")
+                .build();
+        ReflectionTestUtils.setField(song, "id", id);
+        return song;
+    }
+
+    @Nested
+    @DisplayName("getTopSongs")
+    class GetTopSongs {
+
+        @Test
+        @DisplayName("사용 횟수 순서대로 곡 정보를 채운다")
+        void getTopSongs_success() {
+            // given
+            Long teamId = 1L;
+            LocalDate from = LocalDate.of(2026, 1, 1);
+            LocalDate to = LocalDate.of(2026, 3, 31);
+
+            given(songUsageRepository.findTopSongUsages(teamId, from, to, 10)).willReturn(List.of(
+                    new SongUsageCount(2L, 5L, LocalDate.of(2026, 3, 1)),
+                    new SongUsageCount(1L, 3L, LocalDate.of(2026, 2, 1))
+            ));
+            given(songRepository.findAllById(List.of(2L, 1L)))
+                    .willReturn(List.of(createSong(1L, "곡 1"), createSong(2L, "곡 2")));
+
+            // when
+            List<TopSongResponse> result = songAnalyticsService.getTopSongs(teamId, from, to, 10);
+
+            // then
+            assertThat(result).extracting(TopSongResponse::title).containsExactly("곡 2", "곡 1");
+            assertThat(result.get(0).usageCount()).isEqualTo(5);
+            assertThat(result.get(0).lastUsedAt()).isEqualTo(LocalDate.of(2026, 3, 1));
+        }
+
+        @Test
+        @DisplayName("삭제된 곡의 사용 이력은 제외한다")
+        void getTopSongs_skipsDeletedSongs() {
+            // given
+            Long teamId = 1L;
+            given(songUsageRepository.findTopSongUsages(teamId, null, null, 10)).willReturn(List.of(
+                    new SongUsageCount(1L, 3L, LocalDate.of(2026, 2, 1)),
+                    new SongUsageCount(99L, 2L, LocalDate.of(2026, 1, 1))
+            ));
+            given(songRepository.findAllById(List.of(1L, 99L))).willReturn(List.of(createSong(1L, "곡 1")));
+
+            // when
+            List<TopSongResponse> result = songAnalyticsService.getTopSongs(teamId, null, null, 10);
+
+            // then
+            assertThat(result).extracting(TopSongResponse::songId).containsExactly(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("getLeaderRotation")
+    class GetLeaderRotation {
+
+        @Test
+        @DisplayName("인도자 이름을 한 번에 조회해 채운다")
+        void getLeaderRotation_success() {
+            // given
+            Long teamId = 1L;
+            given(songUsageRepository.findLeaderUsages(teamId, null, null)).willReturn(List.of(
+                    new LeaderUsageCount(1L, 2L, 8L, LocalDate.of(2026, 1, 4)),
+                    new LeaderUsageCount(2L, 3L, 12L, LocalDate.of(2026, 2, 1))
+            ));
+            given(userNameResolver.resolveNames(List.of(1L, 2L))).willReturn(Map.of(1L, "김인도"));
+
+            // when
+            List<LeaderRotationResponse> result = songAnalyticsService.getLeaderRotation(teamId, null, null);
+
+            // then
+            assertThat(result).extracting(LeaderRotationResponse::leaderName).containsExactly("김인도", "Unknown");
+            assertThat(result.get(1).setlistCount()).isEqualTo(3);
+        }
+    }
+}
@@ -14,14 +14,18 @@ import com.conti.domain.song.entity.Song;
 import com.conti.domain.song.entity.SongFile;
 import com.conti.domain.song.entity.SongSection;
 import com.conti.domain.song.entity.SongTag;
+import com.conti.domain.song.entity.SongUsageSummary;
+import com.conti.domain.song.event.SongChangedEvent;
 import com.conti.domain.song.repository.SongFileRepository;
 import com.conti.domain.song.repository.SongRepository;
 import com.conti.domain.song.repository.SongSectionRepository;
-import com.conti.domain.song.repository.SongTagRepository;
 import com.conti.domain.song.repository.SongUsageRepository;
+import com.conti.domain.song.search.TagCountCache;
 import com.conti.domain.team.entity.Team;
 import com.conti.domain.team.repository.TeamRepository;
-import com.conti.domain.user.repository.UserRepository;
+import com.conti.domain.user.service.UserNameResolver;
+import com.conti.global.common.Cursor;
+import com.conti.global.common.CursorResponse;
 import com.conti.global.error.BusinessException;
 import com.conti.global.error.ErrorCode;
 import com.conti.infra.s3.S3FileService;
@@ -32,14 +36,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -47,6 +58,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -59,7 +71,7 @@ class SongServiceTest {
     private SongRepository songRepository;
 
     @Mock
-    private SongTagRepository songTagRepository;
+    private TagCountCache tagCountCache;
 
     @Mock
     private SongFileRepository songFileRepository;
@@ -77,11 +89,17 @@ class SongServiceTest {
     private SetlistRepository setlistRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private UserNameResolver userNameResolver;
 
     @Mock
     private S3FileService s3FileService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SongUsageSummaryService songUsageSummaryService;
+
     private Team createTeam() {
         return Team.builder()
                 .name("찬양팀")
@@ -139,6 +157,55 @@ class SongServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getSongsByCursor")
+    class GetSongsByCursor {
+
+        @Test
+        @DisplayName("다음 페이지가 있으면 마지막 곡의 생성 일시와 ID로 커서를 만든다")
+        void getSongsByCursor_hasNext() {
+            // given
+            Long teamId = 1L;
+            Team team = createTeam();
+            Song song = createSong(team);
+            LocalDateTime createdAt = LocalDateTime.of(2026, 2, 1, 10, 30);
+            ReflectionTestUtils.setField(song, "id", 3L);
+            ReflectionTestUtils.setField(song, "createdAt", createdAt);
+            SongSearchCondition condition = new SongSearchCondition(null, null, null, null, null);
+
+            given(songRepository.searchSongsByCursor(eq(teamId), any(SongSearchCondition.class), eq(null), eq(1)))
+                    .willReturn(new SliceImpl<>(List.of(song), PageRequest.ofSize(1), true));
+
+            // when
+            CursorResponse<SongResponse> result = songService.getSongsByCursor(teamId, condition, null, 1);
+
+            // then
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.hasNext()).isTrue();
+            Cursor next = Cursor.decode(result.nextCursor());
+            assertThat(next.dateTimeKey()).isEqualTo(createdAt);
+            assertThat(next.id()).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("페이지 크기는 최대 100으로 제한한다")
+        void getSongsByCursor_clampSize() {
+            // given
+            Long teamId = 1L;
+            SongSearchCondition condition = new SongSearchCondition(null, null, null, null, null);
+
+            given(songRepository.searchSongsByCursor(eq(teamId), any(SongSearchCondition.class), eq(null), eq(100)))
+                    .willReturn(new SliceImpl<>(List.of(), PageRequest.ofSize(100), false));
+
+            // when
+            CursorResponse<SongResponse> result = songService.getSongsByCursor(teamId, condition, null, 1000);
+
+            // then
+            assertThat(result.content()).isEmpty();
+            assertThat(result.nextCursor()).isNull();
+        }
+    }
+
     @Nested
     @DisplayName("createSong")
     class CreateSong {
@@ -166,6 +233,7 @@ class SongServiceTest {
             assertThat(result.artist()).isEqualTo("아티스트");
             assertThat(result.tags()).containsExactly("경배", "감사");
             verify(songRepository).save(any(Song.class));
+            verify(eventPublisher).publishEvent(any(SongChangedEvent.class));
         }
 
         @Test
@@ -240,6 +308,30 @@ class SongServiceTest {
             assertThat(result.sections()).isEmpty();
         }
 
+        @Test
+        @DisplayName("사용 통계 요약이 있으면 요약 값으로 조회한다")
+        void getSong_fromSummary() {
+            // given
+            Long teamId = 1L;
+            Long songId = 1L;
+            Team team = createTeam();
+            Song song = createSong(team);
+
+            SongUsageSummary summary = BeanUtils.instantiateClass(SongUsageSummary.class);
+            summary.rebuild(3L, LocalDate.of(2025, 3, 2), Map.of("2025-03", 3L), Map.of("G", 3L), Map.of(1L, 3L));
+
+            given(songRepository.findById(songId)).willReturn(Optional.of(song));
+            given(songUsageSummaryService.getSummary(songId)).willReturn(Optional.of(summary));
+
+            // when
+            SongDetailResponse result = songService.getSong(teamId, songId);
+
+            // then
+            assertThat(result.usageCount()).isEqualTo(3);
+            assertThat(result.lastUsedAt()).isEqualTo(LocalDate.of(2025, 3, 2));
+            verify(songUsageRepository, never()).countBySongId(any());
+        }
+
         @Test
         @DisplayName("섹션이 있는 찬양 상세 정보를 조회한다")
         void getSong_withSections() {
@@ -372,6 +464,51 @@ class SongServiceTest {
             // then
             assertThat(song.getSongSections()).hasSize(2);
         }
+
+        @Test
+        @DisplayName("순서와 섹션 타입이 같은 기존 섹션은 교체하지 않고 수정한다")
+        void updateSong_updatesMatchingSectionsInPlace() {
+            // given
+            Long teamId = 1L;
+            Long songId = 1L;
+            Team team = createTeam();
+            Song song = createSong(team);
+
+            SongSection verse = SongSection.builder()
+                    .song(song)
+                    .sectionType(SectionType.VERSE)
+                    .orderIndex(0)
+                    .chords("G - D")
+                    .build();
+            SongSection chorus = SongSection.builder()
+                    .song(song)
+                    .sectionType(SectionType.CHORUS)
+                    .orderIndex(1)
+                    .chords("C - G")
+                    .build();
+            song.getSongSections().addAll(List.of(verse, chorus));
+
+            SongUpdateRequest request = new SongUpdateRequest(
+                    null, null, null, null, null, null, null, List.of("경배", "감사", "감사"),
+                    List.of(
+                            new SongSectionRequest("VERSE", 0, "1절", "G - D - Em", 2, null),
+                            new SongSectionRequest("BRIDGE", 1, null, "Am - F", 3, null)
+                    )
+            );
+
+            given(songRepository.findById(songId)).willReturn(Optional.of(song));
+
+            // when
+            songService.updateSong(teamId, songId, request);
+
+            // then
+            assertThat(song.getSongSections()).hasSize(2);
+            assertThat(song.getSongSections().get(0)).isSameAs(verse);
+            assertThat(verse.getChords()).isEqualTo("G - D - Em");
+            assertThat(song.getSongSections().get(1).getSectionType()).isEqualTo(SectionType.BRIDGE);
+            assertThat(song.getSongSections()).doesNotContain(chorus);
+            assertThat(song.getSongTags()).extracting(SongTag::getTag).containsExactly("경배", "감사");
+        }
     }
 
     @Nested
@@ -473,7 +610,7 @@ class SongServiceTest {
                     new TagResponse("경배", 5),
                     new TagResponse("감사", 3)
             );
-            given(songTagRepository.findTagsWithCountByTeamId(teamId)).willReturn(tags);
+            given(tagCountCache.getTags(teamId)).willReturn(tags);
 
             // when
             List<TagResponse> result = songService.getTeamTags(teamId);
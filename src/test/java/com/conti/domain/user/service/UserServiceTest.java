@@ -9,6 +9,7 @@ import com.conti.domain.user.dto.UserTeamResponse;
 import com.conti.domain.user.dto.UserUpdateRequest;
 import com.conti.domain.user.entity.Provider;
 import com.conti.domain.user.entity.User;
+import com.conti.domain.user.event.UserProfileUpdatedEvent;
 import com.conti.domain.user.repository.UserRepository;
 import com.conti.global.error.BusinessException;
 import com.conti.global.error.ErrorCode;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,6 +29,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceTest {
@@ -37,6 +40,9 @@ class UserServiceTest {
     @Mock
     private TeamMemberRepository teamMemberRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -109,6 +115,7 @@ class UserServiceTest {
             // then
             assertThat(response.name()).isEqualTo("NewName");
             assertThat(response.profileImage()).isEqualTo("http://img.com/new.jpg");
+            verify(eventPublisher).publishEvent(new UserProfileUpdatedEvent(userId));
         }
 
         @Test
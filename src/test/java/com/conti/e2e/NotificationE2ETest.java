@@ -5,13 +5,21 @@ import com.conti.domain.notification.entity.Notification;
 import com.conti.domain.notification.entity.NotificationType;
 import com.conti.domain.notification.repository.NotificationRepository;
 import com.conti.domain.user.entity.User;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -101,6 +109,55 @@ class NotificationE2ETest extends BaseE2ETest {
         }
     }
 
+    @Nested
+    @DisplayName("알림 목록 커서 조회")
+    class GetNotificationsByCursor {
+
+        @Test
+        @DisplayName("커서를 따라가며 최신순으로 빠짐없이 조회한다")
+        void followCursorToLastPage() throws Exception {
+            User other = createUser("noti-other@test.com", "다른 유저");
+            List<Long> ids = new ArrayList<>();
+            for (int i = 1; i <= 5; i++) {
+                ids.add(createNotification(user.getId(), "알림 " + i, "메시지 " + i, i % 2 == 0).getId());
+            }
+            createNotification(other.getId(), "다른 유저 알림", "메시지", false);
+            flushAndClear();
+
+            List<Long> fetched = new ArrayList<>();
+            String cursor = null;
+            for (int page = 0; page < 2; page++) {
+                MvcResult result = performGet("/api/v1/notifications/cursor?size=2"
+                        + (cursor != null ? "&cursor=" + cursor : ""), token)
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.data.content", hasSize(2)))
+                        .andExpect(jsonPath("$.data.hasNext").value(true))
+                        .andReturn();
+                String body = result.getResponse().getContentAsString();
+                List<Number> pageIds = JsonPath.read(body, "$.data.content[*].id");
+                pageIds.forEach(id -> fetched.add(id.longValue()));
+                cursor = JsonPath.read(body, "$.data.nextCursor");
+            }
+
+            MvcResult last = performGet("/api/v1/notifications/cursor?size=2&cursor=" + cursor, token)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content", hasSize(1)))
+                    .andExpect(jsonPath("$.data.hasNext").value(false))
+                    .andExpect(jsonPath("$.data.nextCursor").value(nullValue()))
+                    .andReturn();
+            fetched.add(((Number) JsonPath.read(last.getResponse().getContentAsString(), "$.data.content[0].id")).longValue());
+
+            assertThat(fetched).containsExactlyElementsOf(ids.reversed());
+        }
+
+        @Test
+        @DisplayName("잘못된 커서는 400 에러를 반환한다")
+        void invalidCursorReturns400() throws Exception {
+            performGet("/api/v1/notifications/cursor?cursor=not-a-cursor", token)
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("알림 읽음 처리")
     class MarkAsRead {
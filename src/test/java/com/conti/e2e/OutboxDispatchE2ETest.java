@@ -0,0 +1,121 @@
+package com.conti.e2e;
+
+import com.conti.domain.notification.entity.Notification;
+import com.conti.domain.notification.entity.NotificationType;
+import com.conti.domain.notification.repository.NotificationRepository;
+import com.conti.domain.notification.service.NotificationFanOutHandler;
+import com.conti.domain.notification.service.NotificationPushHandler;
+import com.conti.domain.notification.service.NotificationService;
+import com.conti.domain.user.entity.User;
+import com.conti.global.outbox.OutboxDispatcher;
+import com.conti.global.outbox.OutboxEvent;
+import com.conti.global.outbox.OutboxEventRepository;
+import com.conti.global.outbox.OutboxStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("아웃박스 디스패치 E2E 테스트")
+class OutboxDispatchE2ETest extends BaseE2ETest {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    private List<OutboxEvent> fanOutEvents() {
+        return outboxEventRepository.findAll().stream()
+                .filter(event -> event.getEventType().equals(NotificationFanOutHandler.EVENT_TYPE))
+                .toList();
+    }
+
+    private List<Notification> notificationsOf(User user) {
+        return notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId(), PageRequest.ofSize(10)).getContent();
+    }
+
+    @Test
+    @DisplayName("알림 생성 시 같은 트랜잭션에 푸시 이벤트를 기록하고, 디스패처가 전달 후 완료 처리한다")
+    void notificationPushGoesThroughOutbox() {
+        User user = createUser("outbox-user@test.com", "아웃박스 유저");
+
+        notificationService.createNotification(
+                user.getId(), NotificationType.SCHEDULE_ASSIGNED, "봉사 배정 알림", "보컬로 배정되었습니다", "SETLIST", 1L);
+        flushAndClear();
+
+        List<OutboxEvent> pending = outboxEventRepository.findAll();
+        assertThat(pending).singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getEventType()).isEqualTo(NotificationPushHandler.EVENT_TYPE);
+                    assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+                });
+
+        int claimed = outboxDispatcher.dispatchBatch();
+        flushAndClear();
+
+        assertThat(claimed).isEqualTo(1);
+        OutboxEvent sent = outboxEventRepository.findById(pending.get(0).getId()).orElseThrow();
+        assertThat(sent.getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(sent.getAttempts()).isEqualTo(1);
+        assertThat(sent.getSentAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("여러 사용자 알림 요청은 요청 트랜잭션에 아웃박스 행으로만 기록되고, 디스패처가 알림을 만든다")
+    void fanOutRequestGoesThroughOutbox() {
+        User first = createUser("fan-out-first@test.com", "첫 번째");
+        User second = createUser("fan-out-second@test.com", "두 번째");
+
+        notificationService.requestNotifications(List.of(first.getId(), second.getId()),
+                NotificationType.SCHEDULE_ASSIGNED, "봉사 배정 알림", "보컬로 배정되었습니다", "SETLIST", 1L);
+        flushAndClear();
+
+        assertThat(fanOutEvents()).singleElement()
+                .satisfies(event -> assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING));
+        assertThat(notificationsOf(first)).isEmpty();
+
+        outboxDispatcher.dispatchBatch();
+        flushAndClear();
+
+        assertThat(fanOutEvents()).singleElement()
+                .satisfies(event -> assertThat(event.getStatus()).isEqualTo(OutboxStatus.SENT));
+        assertThat(notificationsOf(first)).singleElement()
+                .satisfies(notification -> assertThat(notification.getMessage()).isEqualTo("보컬로 배정되었습니다"));
+        assertThat(notificationsOf(second)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("콘티 수정 알림 요청은 대기 중인 아웃박스 행에 합쳐진다")
+    void coalescedRequestsMergeIntoWaitingEvent() {
+        User member = createUser("fan-out-member@test.com", "멤버");
+
+        for (int i = 1; i <= 3; i++) {
+            notificationService.requestNotifications(List.of(member.getId()),
+                    NotificationType.SETLIST_UPDATED, "콘티 수정 알림", "수정 " + i, "SETLIST", 1L);
+            flushAndClear();
+        }
+
+        assertThat(fanOutEvents()).singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getNextAttemptAt()).isAfter(LocalDateTime.now());
+                    assertThat(event.getPayload()).containsEntry("message", "수정 3");
+                    assertThat((Map<?, ?>) event.getPayload().get("updateCounts"))
+                            .containsEntry(String.valueOf(member.getId()), 3);
+                });
+        // 병합 창이 닫히기 전에는 디스패처가 가져가지 않는다
+        assertThat(outboxDispatcher.dispatchBatch()).isZero();
+    }
+}
@@ -0,0 +1,144 @@
+package com.conti.e2e;
+
+import com.conti.domain.notification.entity.Notification;
+import com.conti.domain.notification.entity.NotificationType;
+import com.conti.domain.notification.repository.NotificationRepository;
+import com.conti.domain.notification.service.ScheduleReminderService;
+import com.conti.domain.notification.service.ScheduleReminderTask;
+import com.conti.domain.schedule.entity.ScheduleStatus;
+import com.conti.domain.schedule.entity.ServiceSchedule;
+import com.conti.domain.schedule.repository.ServiceScheduleRepository;
+import com.conti.domain.setlist.entity.Setlist;
+import com.conti.domain.setlist.entity.WorshipType;
+import com.conti.domain.setlist.repository.SetlistRepository;
+import com.conti.domain.team.entity.Position;
+import com.conti.domain.team.entity.Team;
+import com.conti.domain.team.entity.TeamMember;
+import com.conti.domain.team.entity.TeamRole;
+import com.conti.domain.user.entity.User;
+import com.conti.global.lock.SchedulerLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("봉사 리마인더 E2E 테스트")
+class ScheduleReminderE2ETest extends BaseE2ETest {
+
+    @Autowired
+    private ScheduleReminderTask scheduleReminderTask;
+
+    @Autowired
+    private ScheduleReminderService scheduleReminderService;
+
+    @Autowired
+    private SetlistRepository setlistRepository;
+
+    @Autowired
+    private ServiceScheduleRepository serviceScheduleRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private SchedulerLock schedulerLock;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate today = LocalDate.now();
+    private User vocal;
+    private User drummer;
+    private User guitarist;
+
+    @BeforeEach
+    void setUp() {
+        User admin = createUser("reminder-admin@test.com", "리마인더 관리자");
+        vocal = createUser("reminder-vocal@test.com", "보컬");
+        drummer = createUser("reminder-drum@test.com", "드럼");
+        guitarist = createUser("reminder-guitar@test.com", "기타");
+        Team team = createTeamWithAdmin(admin.getId());
+
+        Setlist tomorrow = createSetlist(team, admin.getId(), "내일 예배", today.plusDays(1));
+        Setlist dayAfter = createSetlist(team, admin.getId(), "모레 예배", today.plusDays(2));
+
+        schedule(tomorrow, addTeamMember(vocal.getId(), team.getId(), TeamRole.VIEWER), Position.VOCAL, ScheduleStatus.ACCEPTED);
+        schedule(tomorrow, addTeamMember(drummer.getId(), team.getId(), TeamRole.VIEWER), Position.DRUM, ScheduleStatus.DECLINED);
+        schedule(dayAfter, addTeamMember(guitarist.getId(), team.getId(), TeamRole.VIEWER), Position.ACOUSTIC_GUITAR, ScheduleStatus.PENDING);
+        flushAndClear();
+    }
+
+    private Setlist createSetlist(Team team, Long userId, String title, LocalDate worshipDate) {
+        return setlistRepository.save(Setlist.builder()
+                .team(team)
+                .creatorId(userId)
+                .title(title)
+                .worshipDate(worshipDate)
+                .worshipType(WorshipType.SUNDAY_1ST)
+                .leaderId(userId)
+                .build());
+    }
+
+    private void schedule(Setlist setlist, TeamMember member, Position position, ScheduleStatus status) {
+        serviceScheduleRepository.save(ServiceSchedule.builder()
+                .setlist(setlist)
+                .teamMember(member)
+                .position(position)
+                .status(status)
+                .build());
+    }
+
+    private List<Notification> reminders(User user) {
+        return notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId(), PageRequest.ofSize(10))
+                .filter(notification -> notification.getType() == NotificationType.SCHEDULE_REMINDER)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("거절하지 않은 배정에 한 번씩 리마인더를 보낸다")
+    void sendRemindersOncePerSchedule() {
+        scheduleReminderTask.sendReminders();
+        flushAndClear();
+
+        assertThat(reminders(vocal)).singleElement()
+                .satisfies(n -> assertThat(n.getMessage()).startsWith("내일").endsWith("내일 예배 - 보컬"));
+        assertThat(reminders(guitarist)).singleElement()
+                .satisfies(n -> assertThat(n.getMessage()).startsWith("모레"));
+        assertThat(reminders(drummer)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 날 다시 실행해도 이미 보낸 배정은 건너뛴다")
+    void rerunSkipsRemindedSchedules() {
+        scheduleReminderTask.sendReminders();
+        flushAndClear();
+
+        // 최소 유지 시간 동안 잠금이 남아 있어 다른 실행은 잠금을 얻지 못한다
+        Boolean stillLocked = jdbcTemplate.queryForObject(
+                "SELECT locked_until > NOW(6) FROM scheduler_locks WHERE name = 'schedule-reminder'", Boolean.class);
+        AtomicInteger runs = new AtomicInteger();
+        boolean ran = schedulerLock.runLocked("schedule-reminder", Duration.ofMinutes(30), Duration.ofMinutes(1),
+                runs::incrementAndGet);
+
+        assertThat(stillLocked).isTrue();
+        assertThat(ran).isFalse();
+        assertThat(runs).hasValue(0);
+
+        // 잠금과 무관하게 다시 처리해도 보낼 대상이 없다
+        Long next = scheduleReminderService.sendReminders(today, today.plusDays(1), "내일", 0L, 500);
+        flushAndClear();
+
+        assertThat(next).isNull();
+        assertThat(reminders(vocal)).hasSize(1);
+        assertThat(reminders(guitarist)).hasSize(1);
+    }
+}
@@ -0,0 +1,115 @@
+package com.conti.e2e;
+
+import com.conti.domain.setlist.dto.SetlistBulkCreateRequest;
+import com.conti.domain.setlist.dto.SetlistCreateRequest;
+import com.conti.domain.setlist.dto.SetlistTemplateCreateRequest;
+import com.conti.domain.setlist.dto.SetlistTemplateItemRequest;
+import com.conti.domain.setlist.entity.SetlistItemType;
+import com.conti.domain.setlist.entity.WorshipType;
+import com.conti.domain.song.dto.SongCreateRequest;
+import com.conti.domain.song.repository.SongUsageRepository;
+import com.conti.domain.team.entity.Team;
+import com.conti.domain.user.entity.User;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("콘티 일괄 생성 E2E 테스트")
+class SetlistBulkE2ETest extends BaseE2ETest {
+
+    @Autowired
+    private SongUsageRepository songUsageRepository;
+
+    private User admin;
+    private String adminToken;
+    private Long teamId;
+    private Long songId;
+    private Long templateId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        admin = createUser("bulk-admin@test.com", "일괄 생성 관리자");
+        adminToken = getToken(admin.getId());
+        Team team = createTeamWithAdmin(admin.getId());
+        teamId = team.getId();
+
+        SongCreateRequest songRequest = new SongCreateRequest("일괄 생성 곡", "아티스트", "G", null, null, null, null, null, null);
+        MvcResult songResult = performPost("/api/v1/teams/" + teamId + "/songs", adminToken, songRequest)
+                .andExpect(status().isOk())
+                .andReturn();
+        songId = readId(songResult);
+
+        SetlistTemplateCreateRequest templateRequest = new SetlistTemplateCreateRequest(
+                "주일 1부 기본 콘티", null, WorshipType.SUNDAY_1ST,
+                List.of(
+                        new SetlistTemplateItemRequest(SetlistItemType.PRAYER, null, "대표 기도", null, 5, null, null),
+                        new SetlistTemplateItemRequest(SetlistItemType.SONG, songId, "경배 찬양", null, null, null, null)
+                )
+        );
+        MvcResult templateResult = performPost("/api/v1/teams/" + teamId + "/setlist-templates", adminToken, templateRequest)
+                .andExpect(status().isOk())
+                .andReturn();
+        templateId = readId(templateResult);
+    }
+
+    private Long readId(MvcResult result) throws Exception {
+        return ((Number) JsonPath.read(result.getResponse().getContentAsString(), "$.data.id")).longValue();
+    }
+
+    @Test
+    @DisplayName("4월의 매주 주일 콘티를 생성하고 이미 있는 날짜는 건너뛴다")
+    void createsWeeklySetlists() throws Exception {
+        // 2026-04-12 주일 1부 콘티는 이미 존재
+        SetlistCreateRequest existing = new SetlistCreateRequest(
+                "기존 콘티", LocalDate.of(2026, 4, 12), WorshipType.SUNDAY_1ST, admin.getId(), null);
+        performPost("/api/v1/teams/" + teamId + "/setlists", adminToken, existing)
+                .andExpect(status().isOk());
+
+        SetlistBulkCreateRequest request = new SetlistBulkCreateRequest(
+                templateId, LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 30), DayOfWeek.SUNDAY,
+                null, null, null, admin.getId());
+
+        MvcResult result = performPost("/api/v1/teams/" + teamId + "/setlists/bulk", adminToken, request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.createdCount").value(3))
+                .andExpect(jsonPath("$.data.skippedCount").value(1))
+                .andExpect(jsonPath("$.data.results", hasSize(4)))
+                .andExpect(jsonPath("$.data.results[0].worshipDate").value("2026-04-05"))
+                .andExpect(jsonPath("$.data.results[1].created").value(false))
+                .andReturn();
+        Long firstId = ((Number) JsonPath.read(result.getResponse().getContentAsString(), "$.data.results[0].setlistId")).longValue();
+
+        performGet("/api/v1/teams/" + teamId + "/setlists/" + firstId, adminToken)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("2026-04-05 주일 1부 기본 콘티"))
+                .andExpect(jsonPath("$.data.worshipType").value("SUNDAY_1ST"))
+                .andExpect(jsonPath("$.data.items", hasSize(2)))
+                .andExpect(jsonPath("$.data.items[1].songId").value(songId));
+
+        assertThat(songUsageRepository.countBySongId(songId)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("생성할 날짜가 너무 많으면 400 에러를 반환한다")
+    void rejectsTooLongRange() throws Exception {
+        SetlistBulkCreateRequest request = new SetlistBulkCreateRequest(
+                templateId, LocalDate.of(2026, 1, 1), LocalDate.of(2028, 12, 31), DayOfWeek.SUNDAY,
+                null, null, null, null);
+
+        performPost("/api/v1/teams/" + teamId + "/setlists/bulk", adminToken, request)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("SL002"));
+    }
+}
@@ -6,6 +6,7 @@ import com.conti.domain.setlist.dto.SetlistItemRequest;
 import com.conti.domain.setlist.entity.SetlistItemType;
 import com.conti.domain.setlist.entity.WorshipType;
 import com.conti.domain.song.dto.SongCreateRequest;
+import com.conti.domain.song.repository.SongUsageRepository;
 import com.conti.domain.team.entity.Team;
 import com.conti.domain.team.entity.TeamRole;
 import com.conti.domain.user.entity.User;
@@ -14,17 +15,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @DisplayName("콘티 복사 E2E 테스트")
 class SetlistCopyE2ETest extends BaseE2ETest {
 
+    @Autowired
+    private SongUsageRepository songUsageRepository;
+
     private User admin;
     private User viewer;
     private String adminToken;
@@ -68,18 +75,31 @@ class SetlistCopyE2ETest extends BaseE2ETest {
             Long setlistId = ((Number) JsonPath.read(setlistResult.getResponse().getContentAsString(), "$.data.id")).longValue();
 
             // 콘티에 곡 추가
-            SetlistItemRequest itemRequest = new SetlistItemRequest(SetlistItemType.SONG, songId, null, "G", null, null, null, null);
+            SetlistItemRequest itemRequest = new SetlistItemRequest(SetlistItemType.SONG, songId, null, "G", null, null, null, null, null);
             performPost("/api/v1/teams/" + teamId + "/setlists/" + setlistId + "/items", adminToken, itemRequest)
                     .andExpect(status().isOk());
 
             // 콘티 복사
             SetlistCopyRequest copyRequest = new SetlistCopyRequest("복사된 콘티", LocalDate.of(2026, 2, 22), WorshipType.SUNDAY_1ST);
 
-            performPost("/api/v1/teams/" + teamId + "/setlists/" + setlistId + "/copy", adminToken, copyRequest)
+            MvcResult copyResult = performPost("/api/v1/teams/" + teamId + "/setlists/" + setlistId + "/copy", adminToken, copyRequest)
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.data.worshipDate").value("2026-02-22"))
-                    .andExpect(jsonPath("$.data.id").isNumber());
+                    .andExpect(jsonPath("$.data.songCount").value(1))
+                    .andExpect(jsonPath("$.data.id").isNumber())
+                    .andReturn();
+            Long copyId = ((Number) JsonPath.read(copyResult.getResponse().getContentAsString(), "$.data.id")).longValue();
+
+            // 복사된 항목과 곡 사용 이력 확인
+            performGet("/api/v1/teams/" + teamId + "/setlists/" + copyId, adminToken)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.items", hasSize(1)))
+                    .andExpect(jsonPath("$.data.items[0].songId").value(songId))
+                    .andExpect(jsonPath("$.data.items[0].songKey").value("G"));
+            assertThat(songUsageRepository.findBySetlistIdAndSongId(copyId, songId))
+                    .singleElement()
+                    .satisfies(usage -> assertThat(usage.getUsedAt()).isEqualTo(LocalDate.of(2026, 2, 22)));
         }
 
         @Test
@@ -0,0 +1,109 @@
+package com.conti.e2e;
+
+import com.conti.domain.setlist.dto.SetlistDetailResponse;
+import com.conti.domain.setlist.dto.SetlistItemResponse;
+import com.conti.domain.setlist.entity.Setlist;
+import com.conti.domain.setlist.entity.SetlistItem;
+import com.conti.domain.setlist.entity.WorshipType;
+import com.conti.domain.setlist.repository.SetlistRepository;
+import com.conti.domain.setlist.service.SetlistService;
+import com.conti.domain.song.entity.Song;
+import com.conti.domain.song.repository.SongRepository;
+import com.conti.domain.team.entity.Team;
+import com.conti.domain.user.entity.User;
+import com.conti.support.SqlStatementCollector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("콘티 상세 조회 쿼리 E2E 테스트")
+class SetlistDetailQueryE2ETest extends BaseE2ETest {
+
+    private static final int ITEM_COUNT = 30;
+
+    @Autowired
+    private SetlistService setlistService;
+
+    @Autowired
+    private SetlistRepository setlistRepository;
+
+    @Autowired
+    private SongRepository songRepository;
+
+    private Long setlistId;
+
+    @BeforeEach
+    void setUp() {
+        User user = createUser("setlist-detail@test.com", "상세 조회 관리자");
+        Team team = createTeamWithAdmin(user.getId());
+
+        Setlist setlist = setlistRepository.save(Setlist.builder()
+                .team(team)
+                .creatorId(user.getId())
+                .title("30곡 콘티")
+                .worshipDate(LocalDate.of(2026, 3, 1))
+                .worshipType(WorshipType.SUNDAY_1ST)
+                .leaderId(user.getId())
+                .build());
+        setlistId = setlist.getId();
+
+        // 저장 순서와 orderIndex 순서가 다르도록 섞어서 추가
+        List<Integer> orderIndexes = new ArrayList<>(IntStream.range(0, ITEM_COUNT).boxed().toList());
+        Collections.shuffle(orderIndexes, new Random(42));
+        for (int orderIndex : orderIndexes) {
+            Song song = songRepository.save(Song.builder()
+                    .team(team)
+                    .title("곡 " + orderIndex)
+                    .artist("아티스트 " + orderIndex)
+                    .build());
+            setlist.getSetlistItems().add(SetlistItem.builder()
+                    .setlist(setlist)
+                    .song(song)
+                    .orderIndex(orderIndex)
+                    .songKey("G")
+                    .build());
+        }
+        flushAndClear();
+    }
+
+    private List<String> selectStatements() {
+        return SqlStatementCollector.statements().stream()
+                .map(sql -> sql.strip().toLowerCase())
+                .filter(sql -> sql.startsWith("select"))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("콘티, 정렬된 아이템, 곡 정보를 한 번의 쿼리로 조회한다")
+    void getSetlistInSingleQuery() {
+        // 기존 경로: findById 후 지연 로딩 (batch fetch)
+        SqlStatementCollector.clear();
+        Setlist legacy = setlistRepository.findById(setlistId).orElseThrow();
+        SetlistDetailResponse.from(legacy);
+        int legacyQueries = selectStatements().size();
+        flushAndClear();
+
+        SqlStatementCollector.clear();
+        SetlistDetailResponse response = setlistService.getSetlist(setlistId);
+        int queries = selectStatements().size();
+
+        assertThat(queries).isEqualTo(1);
+        assertThat(queries).isLessThan(legacyQueries);
+        assertThat(response.items()).hasSize(ITEM_COUNT);
+        assertThat(response.items())
+                .extracting(SetlistItemResponse::orderIndex)
+                .isSorted();
+        assertThat(response.items().get(0).songTitle()).isEqualTo("곡 0");
+        assertThat(response.items().get(0).artist()).isEqualTo("아티스트 0");
+    }
+}
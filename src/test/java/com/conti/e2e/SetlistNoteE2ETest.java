@@ -7,6 +7,7 @@ import com.conti.domain.setlist.entity.WorshipType;
 import com.conti.domain.team.entity.Team;
 import com.conti.domain.team.entity.TeamRole;
 import com.conti.domain.user.entity.User;
+import com.conti.support.SqlStatementCollector;
 import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +17,7 @@ import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -115,6 +117,34 @@ class SetlistNoteE2ETest extends BaseE2ETest {
                     .andExpect(jsonPath("$.data", hasSize(2)));
         }
 
+        @Test
+        @DisplayName("작성자 이름을 노트 수와 무관하게 한 번에 조회한다")
+        void getNotesResolvesAuthorsInOneQuery() throws Exception {
+            User editor = createUser("note-editor@test.com", "노트 편집자");
+            addTeamMember(editor.getId(), teamId, TeamRole.EDITOR);
+            String editorToken = getToken(editor.getId());
+
+            for (int i = 1; i <= 3; i++) {
+                performPost("/api/v1/teams/" + teamId + "/setlists/" + setlistId + "/notes", adminToken,
+                        new SetlistNoteCreateRequest("관리자 노트 " + i, null));
+                performPost("/api/v1/teams/" + teamId + "/setlists/" + setlistId + "/notes", editorToken,
+                        new SetlistNoteCreateRequest("편집자 노트 " + i, null));
+            }
+            flushAndClear();
+            SqlStatementCollector.clear();
+
+            performGet("/api/v1/teams/" + teamId + "/setlists/" + setlistId + "/notes", adminToken)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(6)))
+                    .andExpect(jsonPath("$.data[?(@.content == '편집자 노트 1')].authorName").value("노트 편집자"))
+                    .andExpect(jsonPath("$.data[?(@.content == '관리자 노트 1')].authorName").value("노트 관리자"));
+
+            assertThat(SqlStatementCollector.statements())
+                    .as("작성자 이름은 최대 한 번의 IN 쿼리로 조회해야 한다")
+                    .filteredOn(sql -> sql.toLowerCase().contains("from users"))
+                    .hasSizeLessThanOrEqualTo(1);
+        }
+
         @Test
         @DisplayName("포지션 필터로 노트를 조회한다")
         void getNotesWithPositionFilter() throws Exception {
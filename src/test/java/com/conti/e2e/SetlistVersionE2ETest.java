@@ -0,0 +1,115 @@
+package com.conti.e2e;
+
+import com.conti.domain.setlist.dto.SetlistCreateRequest;
+import com.conti.domain.setlist.dto.SetlistItemRequest;
+import com.conti.domain.setlist.dto.SetlistUpdateRequest;
+import com.conti.domain.setlist.entity.SetlistItemType;
+import com.conti.domain.setlist.entity.WorshipType;
+import com.conti.domain.team.entity.Team;
+import com.conti.domain.user.entity.User;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("콘티 버전/변경분 동기화 E2E 테스트")
+class SetlistVersionE2ETest extends BaseE2ETest {
+
+    private String token;
+    private Long teamId;
+    private Long setlistId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        User user = createUser("setlist-version@test.com", "버전 관리자");
+        token = getToken(user.getId());
+        Team team = createTeamWithAdmin(user.getId());
+        teamId = team.getId();
+
+        SetlistCreateRequest request = new SetlistCreateRequest(
+                "동시 편집 콘티", LocalDate.of(2026, 3, 1), WorshipType.SUNDAY_1ST, user.getId(), null
+        );
+        MvcResult result = performPost("/api/v1/teams/" + teamId + "/setlists", token, request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(0))
+                .andReturn();
+        setlistId = ((Number) JsonPath.read(result.getResponse().getContentAsString(), "$.data.id")).longValue();
+    }
+
+    private String setlistUrl() {
+        return "/api/v1/teams/" + teamId + "/setlists/" + setlistId;
+    }
+
+    private Long addHeader(String title) throws Exception {
+        SetlistItemRequest request = new SetlistItemRequest(SetlistItemType.HEADER, null, title, null, null, null, null, null, null);
+        MvcResult result = performPost(setlistUrl() + "/items", token, request)
+                .andExpect(status().isOk())
+                .andReturn();
+        return ((Number) JsonPath.read(result.getResponse().getContentAsString(), "$.data.id")).longValue();
+    }
+
+    private ResultActions performPatchIfMatch(String url, String ifMatch, Object body) throws Exception {
+        return mockMvc.perform(patch(url)
+                .header("Authorization", "Bearer " + token)
+                .header(HttpHeaders.IF_MATCH, ifMatch)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body)));
+    }
+
+    @Test
+    @DisplayName("If-Match 버전이 오래되었으면 412로 거절한다")
+    void staleIfMatchIsRejected() throws Exception {
+        addHeader("찬양");
+
+        performPatchIfMatch(setlistUrl(), "\"0\"", new SetlistUpdateRequest("덮어쓰기", null, null, null, null))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error.code").value("SL003"));
+
+        performPatchIfMatch(setlistUrl(), "\"1\"", new SetlistUpdateRequest("최신 버전 수정", null, null, null, null))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("최신 버전 수정"))
+                .andExpect(jsonPath("$.data.version").value(2));
+    }
+
+    @Test
+    @DisplayName("since 이후 변경된 항목, 삭제된 항목, 현재 순서만 내려준다")
+    void changesSinceVersion() throws Exception {
+        Long firstId = addHeader("찬양");
+        Long secondId = addHeader("말씀");
+
+        // version 2 기준에서 첫 항목 수정(3), 두 번째 항목 삭제(4)
+        performPatchIfMatch(setlistUrl() + "/items/" + firstId, "2",
+                new SetlistItemRequest(null, null, null, null, null, "수정 메모", null, null, null))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(3));
+        performDelete(setlistUrl() + "/items/" + secondId, token)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(4));
+
+        performGet(setlistUrl() + "/changes?since=2", token)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(4))
+                .andExpect(jsonPath("$.data.changedItems", hasSize(1)))
+                .andExpect(jsonPath("$.data.changedItems[0].id").value(firstId))
+                .andExpect(jsonPath("$.data.changedItems[0].memo").value("수정 메모"))
+                .andExpect(jsonPath("$.data.removedItemIds", contains(secondId.intValue())))
+                .andExpect(jsonPath("$.data.itemOrder", contains(firstId.intValue())));
+
+        performGet(setlistUrl() + "/changes?since=4", token)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.changedItems", hasSize(0)))
+                .andExpect(jsonPath("$.data.removedItemIds", hasSize(0)));
+    }
+}
@@ -0,0 +1,70 @@
+package com.conti.e2e;
+
+import com.conti.domain.song.dto.SongCreateRequest;
+import com.conti.domain.user.entity.User;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("곡 사용 통계 E2E 테스트")
+class SongAnalyticsE2ETest extends BaseE2ETest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String token;
+    private Long teamId;
+
+    @BeforeEach
+    void setUp() {
+        User user = createUser("analytics@test.com", "통계 관리자");
+        token = getToken(user.getId());
+        teamId = createTeamWithAdmin(user.getId()).getId();
+    }
+
+    private Long createSong(String title) throws Exception {
+        SongCreateRequest request = new SongCreateRequest(title, null, null, null, null, null, null, null, null);
+        MvcResult result = performPost("/api/v1/teams/" + teamId + "/songs", token, request)
+                .andExpect(status().isOk())
+                .andReturn();
+        return ((Number) JsonPath.read(result.getResponse().getContentAsString(), "$.data.id")).longValue();
+    }
+
+    private void insertUsages(Long songId, int count) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update(
+                    "INSERT INTO song_usages (song_id, setlist_id, team_id, used_at) VALUES (?, 0, ?, ?)",
+                    songId, teamId, LocalDate.now().minusDays(i));
+        }
+    }
+
+    @Test
+    @DisplayName("삭제된 곡의 사용 이력이 많아도 상위 N개를 살아 있는 곡으로 채운다")
+    void topSongsSkipDeletedSongsBeforeLimit() throws Exception {
+        Long first = createSong("첫 번째 곡");
+        Long second = createSong("두 번째 곡");
+        Long deleted = createSong("삭제될 곡");
+        insertUsages(first, 3);
+        insertUsages(second, 2);
+        insertUsages(deleted, 5);
+        performDelete("/api/v1/teams/" + teamId + "/songs/" + deleted, token)
+                .andExpect(status().isOk());
+        flushAndClear();
+
+        performGet("/api/v1/teams/" + teamId + "/analytics/top-songs?limit=2", token)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].songId").value(first))
+                .andExpect(jsonPath("$.data[1].songId").value(second));
+    }
+}
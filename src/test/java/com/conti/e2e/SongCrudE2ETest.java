@@ -2,17 +2,24 @@ package com.conti.e2e;
 
 import com.conti.domain.song.dto.SongCreateRequest;
 import com.conti.domain.song.dto.SongUpdateRequest;
+import com.conti.domain.song.search.SongSearchIndex;
 import com.conti.domain.team.entity.Team;
 import com.conti.domain.user.entity.User;
+import com.conti.support.SqlStatementCollector;
 import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -21,6 +28,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @DisplayName("곡 CRUD E2E 테스트")
 class SongCrudE2ETest extends BaseE2ETest {
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private User user;
     private String token;
     private Long teamId;
@@ -292,6 +302,59 @@ class SongCrudE2ETest extends BaseE2ETest {
                     .andExpect(jsonPath("$.data.content", hasSize(2)));
         }
 
+        @Test
+        @DisplayName("페이지 조건은 ID 조회 SQL의 LIMIT으로 DB에서 적용되고 태그는 해당 페이지만 로딩한다")
+        void getSongsPagesInDatabase() throws Exception {
+            for (int i = 1; i <= 5; i++) {
+                SongCreateRequest request = new SongCreateRequest(
+                        "곡 " + i, null, null, null, null, null, null, List.of("태그" + i, "공통"), null
+                );
+                performPost("/api/v1/teams/" + teamId + "/songs", token, request);
+            }
+            flushAndClear();
+            SqlStatementCollector.clear();
+
+            performGet("/api/v1/teams/" + teamId + "/songs?page=1&size=2", token)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content", hasSize(2)))
+                    .andExpect(jsonPath("$.data.content[0].title").value("곡 3"))
+                    .andExpect(jsonPath("$.data.content[0].tags", hasSize(2)))
+                    .andExpect(jsonPath("$.data.content[1].title").value("곡 2"))
+                    .andExpect(jsonPath("$.data.totalElements").value(5));
+
+            List<String> songQueries = SqlStatementCollector.statements().stream()
+                    .map(String::toLowerCase)
+                    .filter(sql -> sql.contains("from songs"))
+                    .toList();
+            assertThat(songQueries)
+                    .as("ID 페이징 쿼리에 LIMIT이 포함되어야 한다")
+                    .anyMatch(sql -> sql.contains(" limit ") && !sql.contains("song_tags"));
+            assertThat(songQueries)
+                    .as("태그 fetch join 쿼리는 메모리 페이징 없이 ID 목록으로 조회해야 한다")
+                    .filteredOn(sql -> sql.contains("join song_tags"))
+                    .allMatch(sql -> !sql.contains(" limit ") && sql.contains(" in "));
+        }
+
+        @Test
+        @DisplayName("초성 검색 결과가 IN 목록 한도를 넘어도 전체 개수가 정확하다")
+        void chosungSearchBeyondCandidateLimit() throws Exception {
+            int matching = SongSearchIndex.MAX_CANDIDATES + 5;
+            LocalDateTime createdAt = LocalDateTime.now().minusDays(1);
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = 0; i < matching; i++) {
+                rows.add(new Object[]{teamId, "감사 " + i, createdAt.plusSeconds(i)});
+            }
+            rows.add(new Object[]{teamId, "은혜", createdAt.plusSeconds(matching)});
+            jdbcTemplate.batchUpdate("INSERT INTO songs (team_id, title, created_at) VALUES (?, ?, ?)", rows);
+
+            performGet("/api/v1/teams/" + teamId + "/songs?keyword=ㄱㅅ&searchMode=CHOSUNG&page=0&size=2", token)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content", hasSize(2)))
+                    .andExpect(jsonPath("$.data.content[0].title").value("감사 " + (matching - 1)))
+                    .andExpect(jsonPath("$.data.content[1].title").value("감사 " + (matching - 2)))
+                    .andExpect(jsonPath("$.data.totalElements").value(matching));
+        }
+
         @Test
         @DisplayName("빈 목록 조회 시 빈 페이지를 반환한다")
         void getEmptySongsList() throws Exception {
@@ -0,0 +1,162 @@
+package com.conti.e2e;
+
+import com.conti.domain.song.dto.SongCreateRequest;
+import com.conti.domain.team.entity.Team;
+import com.conti.domain.user.entity.User;
+import com.conti.support.SqlStatementCollector;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("곡 사용 이력 필터 E2E 테스트")
+class SongUsageFilterE2ETest extends BaseE2ETest {
+
+    private static final Pattern USAGE_ALIAS = Pattern.compile("song_usages (\\w+)");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String token;
+    private Long teamId;
+    private Long otherTeamId;
+    private Long leaderId;
+    private Long recentSongId;
+    private Long oldSongId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        User user = createUser("usage-filter@test.com", "사용 필터 관리자");
+        token = getToken(user.getId());
+        Team team = createTeamWithAdmin(user.getId());
+        teamId = team.getId();
+        leaderId = user.getId();
+
+        User otherUser = createUser("usage-filter-other@test.com", "다른 팀 관리자");
+        otherTeamId = createTeamWithAdmin(otherUser.getId()).getId();
+        String otherToken = getToken(otherUser.getId());
+
+        recentSongId = createSong(teamId, token, "최근 사용 곡");
+        oldSongId = createSong(teamId, token, "오래된 곡");
+        Long otherSongId = createSong(otherTeamId, otherToken, "다른 팀 곡");
+
+        LocalDate today = LocalDate.now();
+        insertUsage(recentSongId, teamId, leaderId, today.minusWeeks(1));
+        insertUsage(oldSongId, teamId, null, today.minusWeeks(10));
+        // 다른 팀 사용 이력 (필터 결과와 실행 계획에 영향이 없어야 한다)
+        for (int i = 0; i < 200; i++) {
+            insertUsage(otherSongId, otherTeamId, leaderId, today.minusDays(i % 30));
+        }
+    }
+
+    private Long createSong(Long teamId, String token, String title) throws Exception {
+        SongCreateRequest request = new SongCreateRequest(title, null, null, null, null, null, null, null, null);
+        MvcResult result = performPost("/api/v1/teams/" + teamId + "/songs", token, request)
+                .andExpect(status().isOk())
+                .andReturn();
+        return ((Number) JsonPath.read(result.getResponse().getContentAsString(), "$.data.id")).longValue();
+    }
+
+    private void insertUsage(Long songId, Long teamId, Long leaderId, LocalDate usedAt) {
+        jdbcTemplate.update(
+                "INSERT INTO song_usages (song_id, setlist_id, team_id, leader_id, used_at) VALUES (?, 0, ?, ?, ?)",
+                songId, teamId, leaderId, usedAt);
+    }
+
+    /**
+     * 목록 API를 호출하고 Hibernate가 실제로 실행한 count 쿼리를 수집한다.
+     * size=1로 조회해 count 쿼리가 생략되지 않게 한다.
+     */
+    private String captureCountQuery(String query) throws Exception {
+        flushAndClear();
+        SqlStatementCollector.clear();
+
+        performGet("/api/v1/teams/" + teamId + "/songs?size=1&" + query, token)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(1)));
+
+        return SqlStatementCollector.statements().stream()
+                .filter(sql -> sql.toLowerCase().startsWith("select count(") && sql.contains("song_usages"))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Map<String, Object> explainUsageAccess(String sql, Object... args) {
+        Matcher alias = USAGE_ALIAS.matcher(sql);
+        assertThat(alias.find()).isTrue();
+        String usageAlias = alias.group(1);
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+        return plan.stream()
+                .filter(row -> usageAlias.equals(row.get("table")))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("미사용 기간 필터")
+    class UnusedWeeks {
+
+        @Test
+        @DisplayName("최근 N주 동안 사용되지 않은 팀 곡만 조회한다")
+        void unusedWeeksFilter() throws Exception {
+            performGet("/api/v1/teams/" + teamId + "/songs?unusedWeeks=4", token)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content", hasSize(1)))
+                    .andExpect(jsonPath("$.data.content[0].id").value(oldSongId));
+        }
+
+        @Test
+        @DisplayName("NOT EXISTS 서브쿼리는 팀 인덱스로 조회하고 전체 사용 이력을 스캔하지 않는다")
+        void unusedWeeksUsesTeamIndex() throws Exception {
+            String sql = captureCountQuery("unusedWeeks=4");
+
+            // 바인딩 순서: songs.team_id, song_usages.team_id, used_at
+            Map<String, Object> access = explainUsageAccess(sql, teamId, teamId, LocalDate.now().minusWeeks(4));
+
+            assertThat(access.get("type")).isNotIn("ALL", "index");
+            assertThat(access.get("key")).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("인도자 필터")
+    class LeaderFilter {
+
+        @Test
+        @DisplayName("인도자가 사용한 팀 곡만 조회한다")
+        void leaderIdFilter() throws Exception {
+            performGet("/api/v1/teams/" + teamId + "/songs?leaderId=" + leaderId, token)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content", hasSize(1)))
+                    .andExpect(jsonPath("$.data.content[0].id").value(recentSongId));
+        }
+
+        @Test
+        @DisplayName("EXISTS 서브쿼리는 팀/인도자 인덱스로 조회한다")
+        void leaderIdUsesTeamIndex() throws Exception {
+            String sql = captureCountQuery("leaderId=" + leaderId);
+
+            // 바인딩 순서: songs.team_id, song_usages.team_id, leader_id
+            Map<String, Object> access = explainUsageAccess(sql, teamId, teamId, leaderId);
+
+            assertThat(access.get("type")).isNotIn("ALL", "index");
+            assertThat(access.get("key")).isNotNull();
+        }
+    }
+}
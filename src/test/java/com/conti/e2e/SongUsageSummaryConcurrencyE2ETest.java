@@ -0,0 +1,119 @@
+package com.conti.e2e;
+
+import com.conti.domain.song.entity.Song;
+import com.conti.domain.song.entity.SongUsage;
+import com.conti.domain.song.repository.SongRepository;
+import com.conti.domain.song.repository.SongUsageSummaryRepository;
+import com.conti.domain.song.service.SongUsageSummaryService;
+import com.conti.domain.team.entity.Team;
+import com.conti.domain.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서로 다른 트랜잭션이 같은 곡의 사용 요약을 동시에 갱신하는 경우를 검증한다.
+ * 각 호출이 실제로 커밋되어야 하므로 테스트 트랜잭션을 쓰지 않고 직접 정리한다.
+ */
+@DisplayName("곡 사용 요약 동시성 E2E 테스트")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SongUsageSummaryConcurrencyE2ETest extends BaseE2ETest {
+
+    private static final int THREADS = 2;
+    private static final int USAGES_PER_THREAD = 20;
+
+    @Autowired
+    private SongUsageSummaryService songUsageSummaryService;
+
+    @Autowired
+    private SongUsageSummaryRepository songUsageSummaryRepository;
+
+    @Autowired
+    private SongRepository songRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Team team;
+    private Song song;
+
+    @BeforeEach
+    void setUp() {
+        user = createUser("summary-concurrency@test.com", "동시성 관리자");
+        team = createTeamWithAdmin(user.getId());
+        song = songRepository.save(Song.builder()
+                .team(team)
+                .title("동시 사용 곡")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM song_usage_summaries WHERE song_id = ?", song.getId());
+        jdbcTemplate.update("DELETE FROM songs WHERE id = ?", song.getId());
+        jdbcTemplate.update("DELETE FROM team_members WHERE team_id = ?", team.getId());
+        jdbcTemplate.update("DELETE FROM teams WHERE id = ?", team.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+    }
+
+    private SongUsage usage() {
+        return SongUsage.builder()
+                .song(song)
+                .teamId(team.getId())
+                .usedKey("G")
+                .leaderId(user.getId())
+                .usedAt(LocalDate.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 곡의 사용을 동시에 기록해도 교착 상태 없이 모두 반영한다")
+    void recordUsage_sameSongConcurrently() throws Exception {
+        // given: 요약 행이 이미 있는 상태
+        songUsageSummaryService.recordUsage(usage());
+        long initialCount = songUsageSummaryRepository.findById(song.getId()).orElseThrow().getUsageCount();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+
+        // when
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < USAGES_PER_THREAD; j++) {
+                        songUsageSummaryService.recordUsage(usage());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(songUsageSummaryRepository.findById(song.getId()).orElseThrow().getUsageCount())
+                .isEqualTo(initialCount + THREADS * USAGES_PER_THREAD);
+    }
+}
@@ -110,7 +110,7 @@ class WorshipFlowE2ETest extends BaseE2ETest {
         Long setlistId = ((Number) JsonPath.read(setlistResult.getResponse().getContentAsString(), "$.data.id")).longValue();
 
         // 6. 콘티에 곡 2개 추가
-        SetlistItemRequest item1Request = new SetlistItemRequest(SetlistItemType.SONG, song1Id, null, "G", null, "키 유지", null, null);
+        SetlistItemRequest item1Request = new SetlistItemRequest(SetlistItemType.SONG, song1Id, null, "G", null, "키 유지", null, null, null);
         MvcResult item1Result = performPost("/api/v1/teams/" + teamId + "/setlists/" + setlistId + "/items", token, item1Request)
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.songTitle").value("이 땅의 모든 찬양"))
@@ -118,7 +118,7 @@ class WorshipFlowE2ETest extends BaseE2ETest {
                 .andReturn();
         Long item1Id = ((Number) JsonPath.read(item1Result.getResponse().getContentAsString(), "$.data.id")).longValue();
 
-        SetlistItemRequest item2Request = new SetlistItemRequest(SetlistItemType.SONG, song2Id, null, "C", null, "반음 내림", null, null);
+        SetlistItemRequest item2Request = new SetlistItemRequest(SetlistItemType.SONG, song2Id, null, "C", null, "반음 내림", null, null, null);
         MvcResult item2Result = performPost("/api/v1/teams/" + teamId + "/setlists/" + setlistId + "/items", token, item2Request)
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.songTitle").value("감사해"))
@@ -136,6 +136,8 @@ class WorshipFlowE2ETest extends BaseE2ETest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.title").value("주일 1부 예배 콘티"))
                 .andExpect(jsonPath("$.data.items", hasSize(2)))
+                .andExpect(jsonPath("$.data.items[0].id").value(item2Id))
+                .andExpect(jsonPath("$.data.items[1].id").value(item1Id))
                 .andExpect(jsonPath("$.data.songCount").value(2));
 
         // 9. 곡 사용 이력 조회 -> 콘티에 추가된 곡의 usage 확인
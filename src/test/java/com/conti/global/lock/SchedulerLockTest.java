@@ -0,0 +1,78 @@
+package com.conti.global.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerLockTest {
+
+    private static final Duration AT_MOST = Duration.ofMinutes(30);
+    private static final Duration AT_LEAST = Duration.ofMinutes(1);
+
+    @InjectMocks
+    private SchedulerLock schedulerLock;
+
+    @Mock
+    private SchedulerLockJdbcRepository schedulerLockJdbcRepository;
+
+    @Test
+    @DisplayName("잠금을 얻으면 실행 후 같은 소유자로 해제한다")
+    void runLocked_acquired() {
+        // given
+        given(schedulerLockJdbcRepository.tryAcquire(eq("job"), eq(AT_MOST), anyString())).willReturn(true);
+        AtomicInteger runs = new AtomicInteger();
+
+        // when
+        boolean ran = schedulerLock.runLocked("job", AT_MOST, AT_LEAST, runs::incrementAndGet);
+
+        // then
+        assertThat(ran).isTrue();
+        assertThat(runs.get()).isEqualTo(1);
+        verify(schedulerLockJdbcRepository).release(eq("job"), eq(AT_LEAST), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 잠금을 가지고 있으면 실행하지 않는다")
+    void runLocked_heldElsewhere() {
+        // given
+        given(schedulerLockJdbcRepository.tryAcquire(eq("job"), eq(AT_MOST), anyString())).willReturn(false);
+        AtomicInteger runs = new AtomicInteger();
+
+        // when
+        boolean ran = schedulerLock.runLocked("job", AT_MOST, AT_LEAST, runs::incrementAndGet);
+
+        // then
+        assertThat(ran).isFalse();
+        assertThat(runs.get()).isZero();
+        verify(schedulerLockJdbcRepository, never()).release(anyString(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("작업이 실패해도 잠금을 해제한다")
+    void runLocked_releasesOnFailure() {
+        // given
+        given(schedulerLockJdbcRepository.tryAcquire(eq("job"), eq(AT_MOST), anyString())).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> schedulerLock.runLocked("job", AT_MOST, AT_LEAST, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        verify(schedulerLockJdbcRepository).release(eq("job"), eq(AT_LEAST), anyString());
+    }
+}
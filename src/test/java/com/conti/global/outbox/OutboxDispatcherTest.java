@@ -0,0 +1,122 @@
+package com.conti.global.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private OutboxEventHandler pushHandler;
+
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        given(pushHandler.eventType()).willReturn("PUSH");
+        dispatcher = new OutboxDispatcher(outboxService, List.of(pushHandler));
+    }
+
+    private OutboxEvent event(Long id, String type) {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent event = OutboxEvent.builder()
+                .eventType(type)
+                .aggregateId(id * 10)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+
+    @Test
+    @DisplayName("처리한 이벤트는 완료로, 실패한 이벤트는 오류와 함께 재시도 대상으로 기록한다")
+    void dispatchBatch_completesAndRetries() {
+        // given
+        List<OutboxEvent> events = List.of(event(1L, "PUSH"), event(2L, "PUSH"));
+        given(outboxService.claim(100)).willReturn(events);
+        given(pushHandler.handle(events)).willReturn(Map.of(2L, "timeout"));
+
+        // when
+        int claimed = dispatcher.dispatchBatch();
+
+        // then
+        assertThat(claimed).isEqualTo(2);
+        verify(outboxService).complete(List.of(1L), Map.of(2L, "timeout"));
+    }
+
+    @Test
+    @DisplayName("핸들러가 예외를 던지거나 핸들러가 없으면 모두 실패로 기록한다")
+    void dispatchBatch_handlerFailsOrMissing() {
+        // given
+        OutboxEvent push = event(1L, "PUSH");
+        OutboxEvent unknown = event(2L, "UNKNOWN");
+        given(outboxService.claim(100)).willReturn(List.of(push, unknown));
+        given(pushHandler.handle(List.of(push))).willThrow(new IllegalStateException("push down"));
+
+        // when
+        dispatcher.dispatchBatch();
+
+        // then
+        verify(outboxService).complete(List.of(), Map.of(
+                1L, "push down",
+                2L, "No handler for event type UNKNOWN"));
+    }
+
+    @Test
+    @DisplayName("대기 중인 이벤트가 없으면 아무것도 기록하지 않는다")
+    void dispatchBatch_nothingDue() {
+        // given
+        given(outboxService.claim(100)).willReturn(List.of());
+
+        // when
+        int claimed = dispatcher.dispatchBatch();
+
+        // then
+        assertThat(claimed).isZero();
+        verify(outboxService, never()).complete(any(), any());
+    }
+
+    @Test
+    @DisplayName("실패할수록 재시도 간격을 늘리고 최대 횟수를 넘으면 포기한다")
+    void outboxEvent_backoff() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2026, 3, 1, 9, 0);
+        OutboxEvent event = event(1L, "PUSH");
+        event.claim(now.plusMinutes(5));
+
+        // when
+        event.fail("timeout", now, 2);
+
+        // then
+        assertThat(event.getNextAttemptAt()).isEqualTo(now.plusSeconds(10));
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(OutboxEvent.backoff(3)).hasSeconds(40);
+
+        // when
+        event.claim(now.plusMinutes(5));
+        event.fail("timeout", now, 2);
+
+        // then
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(event.getLastError()).isEqualTo("timeout");
+    }
+}
@@ -0,0 +1,72 @@
+package com.conti.global.outbox;
+
+import com.conti.global.lock.SchedulerLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRetentionTaskTest {
+
+    @Mock
+    private OutboxEventJdbcRepository outboxEventJdbcRepository;
+
+    @Mock
+    private SchedulerLock schedulerLock;
+
+    private OutboxRetentionTask task;
+
+    @BeforeEach
+    void setUp() {
+        task = new OutboxRetentionTask(outboxEventJdbcRepository, schedulerLock);
+    }
+
+    @Test
+    @DisplayName("전송 완료/실패 이벤트를 배치가 가득 차지 않을 때까지 나눠 삭제한다")
+    void purgeFinished_deletesInBatches() {
+        // given
+        given(schedulerLock.runLocked(eq("outbox-purge"), any(), any(), any())).willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(3).run();
+            return true;
+        });
+        given(outboxEventJdbcRepository.deleteFinishedBefore(eq(OutboxStatus.SENT), any(), anyInt()))
+                .willReturn(1_000, 1_000, 10);
+        given(outboxEventJdbcRepository.deleteFinishedBefore(eq(OutboxStatus.FAILED), any(), anyInt()))
+                .willReturn(0);
+
+        // when
+        task.purgeFinished();
+
+        // then
+        verify(outboxEventJdbcRepository, times(3)).deleteFinishedBefore(eq(OutboxStatus.SENT), any(), eq(1_000));
+        verify(outboxEventJdbcRepository).deleteFinishedBefore(eq(OutboxStatus.FAILED), any(), eq(1_000));
+        verify(outboxEventJdbcRepository, never()).deleteFinishedBefore(eq(OutboxStatus.PENDING), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 락을 잡고 있으면 삭제하지 않는다")
+    void purgeFinished_lockedElsewhere() {
+        // given
+        given(schedulerLock.runLocked(eq("outbox-purge"), any(), any(), any())).willReturn(false);
+
+        // when
+        task.purgeFinished();
+
+        // then
+        verify(outboxEventJdbcRepository, never())
+                .deleteFinishedBefore(any(), any(LocalDateTime.class), anyInt());
+    }
+}
@@ -0,0 +1,71 @@
+package com.conti.support;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보낸 SSE 이벤트를 기록하는 SseEmitter.
+ * 채널의 emitter 생성 메서드를 재정의해 비동기로 전달된 이벤트의 이름, ID, 순서를 검증한다.
+ */
+public class RecordingSseEmitter extends SseEmitter {
+
+    public record Event(String id, String name, Object data) {
+    }
+
+    private final List<Event> events = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+        Set<DataWithMediaType> items = builder.build();
+        synchronized (this) {
+            super.send(items);
+        }
+        record(items);
+    }
+
+    public List<Event> events() {
+        return List.copyOf(events);
+    }
+
+    /**
+     * 이름이 {@code name}인 이벤트가 {@code count}개 기록될 때까지 최대 5초 기다린다.
+     */
+    public List<Event> await(String name, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            List<Event> named = events.stream().filter(event -> name.equals(event.name())).toList();
+            if (named.size() >= count) {
+                return named;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Timed out waiting for " + count + " '" + name + "' event(s): " + events);
+    }
+
+    private void record(Set<DataWithMediaType> items) {
+        StringBuilder text = new StringBuilder();
+        Object data = null;
+        for (DataWithMediaType item : items) {
+            if (item.getData() instanceof String part) {
+                text.append(part);
+            } else {
+                data = item.getData();
+            }
+        }
+        String id = null;
+        String name = null;
+        for (String line : text.toString().split("\n")) {
+            if (line.startsWith("id:")) {
+                id = line.substring(3);
+            } else if (line.startsWith("event:")) {
+                name = line.substring(6);
+            }
+        }
+        events.add(new Event(id, name, data));
+    }
+}